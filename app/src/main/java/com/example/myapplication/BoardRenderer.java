@@ -0,0 +1,471 @@
+package com.example.myapplication;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.view.Choreographer;
+import android.view.SurfaceHolder;
+
+/* BoardRenderer Class
+ *
+ * This class draws the board on its own thread through the SurfaceHolder,
+ * so touches and SeekBar changes on the UI thread never wait behind drawing.
+ * The UI thread publishes snapshots of the game state, and the render thread
+ * draws the newest one it has not drawn yet. Snapshots published faster than
+ * they are drawn are merged into the newest.
+ *
+ * Frames are paced by a Choreographer on the render thread's own looper, so
+ * each frame is drawn in step with the display's refresh at 60 or 120 Hz. A
+ * frame is only asked for when there is something new to draw or a tile is
+ * still sliding, so the thread sleeps while the board is still. Moved tiles
+ * slide into place through a TileAnimator, and FrameStats times every frame
+ * of a slide.
+ *
+ * Only the squares a snapshot lists as changed are redrawn. The canvas is
+ * locked to the rectangle around them, and every square inside the area the
+ * surface hands back is drawn again, so a move costs the same on any size of
+ * board. The whole board is only drawn when it is reset, and the whole
+ * surface only when it is created or changed or the board is resized, panned,
+ * zoomed or solved. Either way only the squares on screen are drawn, so a
+ * zoomed in frame costs the same however large the board is. Squares are
+ * copied out of a TileAtlas instead of being drawn from scratch.
+ *
+ * The thread runs while the surface exists. It is started when the surface
+ * is created and surfaceDestroyed stops its looper and waits for it to finish
+ * its frame, since the surface can not be drawn on once that callback returns.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public class BoardRenderer implements SurfaceHolder.Callback, Runnable, Choreographer.FrameCallback
+{
+    /* Instance/Member Variables */
+    // the holder of the surface to draw on
+    private final SurfaceHolder holder;
+
+    // passes snapshots to the render thread and back for reuse
+    private final SnapshotExchange exchange = new SnapshotExchange();
+
+    // the render thread and whether it should keep running
+    private Thread thread;
+    private volatile boolean running;
+
+    // the render thread's looper, a handler that posts to it and its frame clock
+    private volatile Looper looper;
+    private volatile Handler handler;
+    private Choreographer choreographer;
+
+    // asks for a frame on the render thread, and whether one is asked for already
+    private final Runnable frameRequest = this::requestFrame;
+    private boolean frameRequested;
+
+    // the snapshot on screen, kept for the next surface, and whether the whole
+    // surface has to be drawn on the next frame, only used on the render thread
+    private BoardSnapshot drawn;
+    private boolean fullSurface;
+
+    // set when the whole surface has to be drawn again
+    private volatile boolean redrawAll;
+
+    // the paint for the background of the board
+    private final Paint backgroundColor = new Paint();
+
+    // the pre-drawn squares in each colour state (red, green and yellow for
+    // incorrect, correct and hinted), only used on the render thread
+    private final TileAtlas atlas = new TileAtlas(new int[] {Color.RED, Color.GREEN, Color.YELLOW},
+            TileAtlas.DEFAULT_MAX_BYTES);
+
+    // slides moved tiles into place, only used on the render thread
+    private final TileAnimator animator = new TileAnimator();
+
+    // the timing of animation frames
+    private final FrameStats frameStats = new FrameStats();
+
+    // the area of the surface being drawn, only used on the render thread
+    private final Rect dirty = new Rect();
+
+
+    /* BoardRenderer
+     *
+     * Constructor for the renderer of a surface.
+     *
+     * @param holder - the holder of the surface to draw on
+     */
+    public BoardRenderer(SurfaceHolder holder)
+    {
+        this.holder = holder;
+    }
+
+    /* obtainSnapshot
+     *
+     * Returns a snapshot for the UI thread to fill, reused when possible.
+     *
+     * @return the snapshot to fill and publish
+     */
+    public BoardSnapshot obtainSnapshot()
+    {
+        return exchange.obtain();
+    }
+
+    /* publish
+     *
+     * Hands a filled snapshot to the render thread. If the last snapshot has
+     * not been drawn yet its changed squares are merged into the new one. This
+     * never blocks, so it is safe to call on the UI thread after every change.
+     *
+     * @param snapshot - the game state to draw, not to be touched afterwards
+     */
+    public void publish(BoardSnapshot snapshot)
+    {
+        exchange.publish(snapshot);
+        wake();
+    }
+
+    /* getFrameStats
+     *
+     * @return the timing of animation frames
+     */
+    public FrameStats getFrameStats()
+    {
+        return frameStats;
+    }
+
+    /* wake
+     *
+     * Helper method that asks the render thread for a frame. Before its
+     * looper is ready the thread draws a first frame anyway.
+     */
+    private void wake()
+    {
+        Handler renderHandler = handler;
+        if (renderHandler != null) renderHandler.post(frameRequest);
+    }
+
+    /* surfaceCreated
+     *
+     * Starts the render thread once there is a surface to draw on.
+     *
+     * @param surfaceHolder - the holder of the new surface
+     */
+    @Override
+    public void surfaceCreated(SurfaceHolder surfaceHolder)
+    {
+        running = true;
+        redrawAll = true;
+        thread = new Thread(this, "BoardRenderer");
+        thread.start();
+    }
+
+    /* surfaceChanged
+     *
+     * Draws the whole surface again after its size or format changed.
+     *
+     * @param surfaceHolder - the holder of the surface
+     * @param format - the new pixel format
+     * @param width - the new width
+     * @param height - the new height
+     */
+    @Override
+    public void surfaceChanged(SurfaceHolder surfaceHolder, int format, int width, int height)
+    {
+        redrawAll = true;
+        wake();
+    }
+
+    /* surfaceDestroyed
+     *
+     * Stops the render thread and waits for it to finish its frame.
+     *
+     * @param surfaceHolder - the holder of the surface being destroyed
+     */
+    @Override
+    public void surfaceDestroyed(SurfaceHolder surfaceHolder)
+    {
+        running = false;
+        Thread renderThread = thread;
+        thread = null;
+        if (renderThread == null) return;
+
+        // a thread that has no looper yet sees running is false and ends by itself
+        Looper renderLooper = looper;
+        if (renderLooper != null) renderLooper.quitSafely();
+
+        // the surface goes away when this returns, so wait even if interrupted
+        boolean interrupted = false;
+        while (renderThread.isAlive())
+        {
+            try
+            {
+                renderThread.join();
+            }
+            catch (InterruptedException e)
+            {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /* run
+     *
+     * The render thread. Sets up the looper and frame clock, draws a first
+     * frame and then draws whenever a frame is asked for until the looper
+     * is stopped.
+     */
+    @Override
+    public void run()
+    {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_DISPLAY);
+        Looper.prepare();
+        looper = Looper.myLooper();
+        if (!running) return;
+        choreographer = Choreographer.getInstance();
+        fullSurface = true;
+        frameRequested = false;
+
+        // snapshots published from here on wake the thread, and the first frame
+        // draws anything published before, or the snapshot on the last surface
+        // again, since the view does not publish when only its surface is new
+        handler = new Handler(looper);
+        requestFrame();
+        Looper.loop();
+
+        // forget the thread's looper so a new surface starts afresh
+        handler = null;
+        looper = null;
+    }
+
+    /* requestFrame
+     *
+     * Helper method that asks the frame clock for the next frame, once.
+     * Only called on the render thread.
+     */
+    private void requestFrame()
+    {
+        if (frameRequested || !running) return;
+        frameRequested = true;
+        choreographer.postFrameCallback(this);
+    }
+
+    /* doFrame
+     *
+     * Draws one frame, timed to the display's refresh, then asks for another
+     * frame while tiles are still sliding.
+     *
+     * @param frameTimeNanos - the time the frame is due to start
+     */
+    @Override
+    public void doFrame(long frameTimeNanos)
+    {
+        frameRequested = false;
+        if (!running) return;
+
+        // keep going while tiles slide or the surface is not ready
+        if (drawNext(frameTimeNanos)) requestFrame();
+    }
+
+    /* drawNext
+     *
+     * Draws the newest snapshot, or the last one again while tiles slide or
+     * the surface is new, and hands the one drawn before back for reuse. The
+     * render thread calls this for every frame, and the rendering benchmark
+     * calls it directly to draw frames without a looper.
+     *
+     * @param frameTimeNanos - the time the frame is due to start
+     * @return whether another frame is needed
+     */
+    boolean drawNext(long frameTimeNanos)
+    {
+        long start = System.nanoTime();
+        if (redrawAll)
+        {
+            redrawAll = false;
+            fullSurface = true;
+        }
+
+        // take the waiting snapshot, or draw the last one again for a slide or a new surface
+        BoardSnapshot snapshot = exchange.take();
+        boolean fresh = snapshot != null;
+        if (!fresh && (fullSurface || animator.isAnimating())) snapshot = drawn;
+        if (snapshot == null) return false;
+
+        // slide the tiles that moved, unless the board was reset or resized
+        if (fresh)
+        {
+            if (drawn == null || snapshot.isFullRedraw() || snapshot.getSqPerRow() != drawn.getSqPerRow())
+            {
+                animator.place(snapshot);
+            }
+            else animator.update(snapshot, frameTimeNanos);
+        }
+        boolean animating = animator.isAnimating();
+
+        // clear the whole surface if the board moved, was zoomed, changed size or
+        // changed background, and redraw the whole board after a reset
+        fullSurface = fullSurface || !snapshot.hasLayoutOf(drawn);
+        boolean fullBoard = fullSurface || (fresh && snapshot.isFullRedraw());
+
+        // draw the whole surface again on the next frame if it is not ready yet
+        fullSurface = !drawFrame(snapshot, fresh, fullSurface, fullBoard, frameTimeNanos);
+
+        // hand the snapshot drawn before back to the UI thread to reuse
+        if (drawn != null && drawn != snapshot) exchange.recycle(drawn);
+        drawn = snapshot;
+        frameStats.record(frameTimeNanos, System.nanoTime() - start, animating);
+        return fullSurface || animator.isAnimating();
+    }
+
+    /* drawFrame
+     *
+     * Helper method that draws one snapshot onto the surface.
+     *
+     * @param snapshot - the game state to draw
+     * @param fresh - whether the snapshot's changed squares have not been drawn yet
+     * @param fullSurface - whether to draw the whole surface
+     * @param fullBoard - whether to draw the whole board or only the changed squares
+     * @param frameTimeNanos - the time of the frame, which places the sliding tiles
+     * @return whether the frame was drawn
+     */
+    private boolean drawFrame(BoardSnapshot snapshot, boolean fresh, boolean fullSurface, boolean fullBoard,
+                              long frameTimeNanos)
+    {
+        float left = snapshot.getBoardLeft();
+        float top = snapshot.getBoardTop();
+        int width = snapshot.getBoardWidth();
+        int sqSize = snapshot.getSqSize();
+        int sqPerRow = snapshot.getSqPerRow();
+
+        // lock the changed squares and the paths of the sliding tiles, the board or the whole surface
+        if (fullBoard) dirty.set((int) left, (int) top, (int) left + width, (int) top + width);
+        else
+        {
+            dirty.setEmpty();
+            if (fresh) changedArea(snapshot, dirty);
+            slideArea(snapshot, dirty);
+        }
+
+        // move the sliding tiles along (a slide that ends now is drawn in its square)
+        animator.advance(frameTimeNanos);
+
+        // nothing to draw if the changes are all off screen
+        if (!fullSurface && !dirty.intersect(holder.getSurfaceFrame())) return true;
+        Canvas canvas = fullSurface ? holder.lockCanvas() : holder.lockCanvas(dirty);
+        if (canvas == null) return false;
+
+        try
+        {
+            // clear the surface around the board
+            if (fullSurface)
+            {
+                canvas.drawColor(Color.WHITE);
+                dirty.set(0, 0, canvas.getWidth(), canvas.getHeight());
+            }
+
+            // if solved set background to green
+            if (!snapshot.isSolved()) backgroundColor.setColor(Color.WHITE);
+            else backgroundColor.setColor(Color.GREEN);
+
+            // draw the background of the board where it is being redrawn
+            canvas.drawRect(Math.max(left, dirty.left), Math.max(top, dirty.top),
+                    Math.min(left + width, dirty.right), Math.min(top + width, dirty.bottom), backgroundColor);
+
+            // the surface may hand back a larger area than asked for, so draw
+            // every square that overlaps the area it handed back, but only the
+            // squares that are on screen
+            if (!dirty.intersect(0, 0, canvas.getWidth(), canvas.getHeight())) return true;
+            int firstCol = Math.max(0, (int) Math.floor((dirty.left - left) / sqSize));
+            int lastCol = Math.min(sqPerRow - 1, (int) Math.floor((dirty.right - 1 - left) / sqSize));
+            int firstRow = Math.max(0, (int) Math.floor((dirty.top - top) / sqSize));
+            int lastRow = Math.min(sqPerRow - 1, (int) Math.floor((dirty.bottom - 1 - top) / sqSize));
+            atlas.prepare(sqSize, sqPerRow * sqPerRow);
+            for (int row = firstRow; row <= lastRow; row++)
+            {
+                for (int col = firstCol; col <= lastCol; col++)
+                {
+                    // copy the square with its tile number and colour out of the atlas,
+                    // leaving the background where a tile has slid out
+                    int sqIndex = row * sqPerRow + col;
+                    int tile = snapshot.getTile(sqIndex);
+                    if (animator.isSliding(tile)) continue;
+                    atlas.draw(canvas, tile, snapshot.getColour(sqIndex), left + sqSize * col, top + sqSize * row);
+                }
+            }
+
+            // draw the sliding tiles over the squares they are passing
+            for (int slot = 0; slot < animator.getActiveCount(); slot++)
+            {
+                int tile = animator.getActiveTile(slot);
+                atlas.draw(canvas, tile, snapshot.getColour(animator.getCell(tile)),
+                        left + sqSize * animator.getCol(tile), top + sqSize * animator.getRow(tile));
+            }
+        }
+        finally
+        {
+            holder.unlockCanvasAndPost(canvas);
+        }
+        return true;
+    }
+
+    /* changedArea
+     *
+     * Helper method that finds the rectangle around the changed squares.
+     *
+     * @param snapshot - the game state with the changed squares
+     * @param area - the rectangle to fill (empty if nothing changed)
+     */
+    private static void changedArea(BoardSnapshot snapshot, Rect area)
+    {
+        area.setEmpty();
+        int sqPerRow = snapshot.getSqPerRow();
+        int sqSize = snapshot.getSqSize();
+        for (int position = 0; position < snapshot.getDirtyCount(); position++)
+        {
+            int sqIndex = snapshot.getDirtyCell(position);
+            int sqLeft = (int) snapshot.getBoardLeft() + sqSize * (sqIndex % sqPerRow);
+            int sqTop = (int) snapshot.getBoardTop() + sqSize * (sqIndex / sqPerRow);
+            area.union(sqLeft, sqTop, sqLeft + sqSize, sqTop + sqSize);
+        }
+    }
+
+    /* slideArea
+     *
+     * Helper method that adds the rectangle around the path of every sliding
+     * tile, from where its slide started to the square it ends in.
+     *
+     * @param snapshot - the game state with the board's position
+     * @param area - the rectangle to add to
+     */
+    private void slideArea(BoardSnapshot snapshot, Rect area)
+    {
+        int sqPerRow = snapshot.getSqPerRow();
+        int sqSize = snapshot.getSqSize();
+        float left = snapshot.getBoardLeft();
+        float top = snapshot.getBoardTop();
+        for (int slot = 0; slot < animator.getActiveCount(); slot++)
+        {
+            int tile = animator.getActiveTile(slot);
+            int cell = animator.getCell(tile);
+            float fromCol = animator.getFromCol(tile), fromRow = animator.getFromRow(tile);
+            int toCol = cell % sqPerRow, toRow = cell / sqPerRow;
+            area.union((int) Math.floor(left + sqSize * Math.min(fromCol, toCol)),
+                    (int) Math.floor(top + sqSize * Math.min(fromRow, toRow)),
+                    (int) Math.ceil(left + sqSize * (Math.max(fromCol, toCol) + 1)),
+                    (int) Math.ceil(top + sqSize * (Math.max(fromRow, toRow) + 1)));
+        }
+    }
+
+    /* release
+     *
+     * Frees the atlas bitmap. Only call this while the render thread is
+     * stopped, the atlas is built again on the next frame.
+     */
+    public void release()
+    {
+        atlas.release();
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.myapplication;
+
+import com.example.myapplication.engine.Board;
+
+/* BoardSnapshot Class
+ *
+ * This class holds a copy of everything the render thread needs to draw
+ * one frame of the board. The UI thread fills a snapshot after every change
+ * and hands it to the renderer through a SnapshotExchange. Once handed over
+ * a snapshot is never changed until the render thread hands it back, so the
+ * render thread can read it without any locking.
+ *
+ * Snapshots are reused instead of being built for every move. The arrays
+ * only grow when the board does, so after the first game on a board size
+ * filling a snapshot allocates nothing.
+ *
+ * A snapshot also lists the squares that changed since the one before it,
+ * so a move only redraws the squares it touched. When the list is full, or
+ * the whole board changed, the snapshot redraws the whole board instead.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class BoardSnapshot
+{
+    /* Constant Variables */
+    // the colour states a square can be drawn in
+    public static final byte INCORRECT = 0;
+    public static final byte CORRECT = 1;
+    public static final byte HINT = 2;
+
+    // the most changed squares listed before the whole board is redrawn instead
+    static final int MAX_DIRTY = 256;
+
+
+    /* Instance/Member Variables */
+    // the position and width of the board and the size of one square
+    private float boardLeft;
+    private float boardTop;
+    private int boardWidth;
+    private int sqSize;
+
+    // the number of squares per row and in total
+    private int sqPerRow;
+    private int cellCount;
+
+    // the tile number and colour state of every square
+    private int[] tiles = new int[0];
+    private byte[] colours = new byte[0];
+
+    // whether the board is solved
+    private boolean solved;
+
+    // the indexes of the squares that changed, and whether the whole board changed
+    private final int[] dirtyCells = new int[MAX_DIRTY];
+    private int dirtyCount;
+    private boolean fullRedraw;
+
+
+    /* fill
+     *
+     * Copies the game state into the snapshot and empties the list of changed
+     * squares.
+     *
+     * @param board - the game state to copy
+     * @param hintIndex - the index of the square showing a hint (-1 for none)
+     * @param newBoardLeft - the left edge of the board
+     * @param newBoardTop - the top edge of the board
+     * @param newBoardWidth - the width of the board
+     * @param newSqSize - the size of one square
+     */
+    void fill(Board board, int hintIndex, float newBoardLeft, float newBoardTop, int newBoardWidth, int newSqSize)
+    {
+        boardLeft = newBoardLeft;
+        boardTop = newBoardTop;
+        boardWidth = newBoardWidth;
+        sqSize = newSqSize;
+        sqPerRow = board.getSize();
+        cellCount = board.getCellCount();
+        solved = board.isSolved();
+
+        // grow the arrays only when the board has more squares than ever before
+        if (tiles.length < cellCount)
+        {
+            tiles = new int[cellCount];
+            colours = new byte[cellCount];
+        }
+
+        // copy the tile numbers and work out the colour of every square
+        board.copyTiles(tiles);
+        for (int index = 0; index < cellCount; index++)
+        {
+            colours[index] = board.isTileCorrect(index) ? CORRECT : INCORRECT;
+        }
+        if (hintIndex >= 0) colours[hintIndex] = HINT;
+
+        dirtyCount = 0;
+        fullRedraw = false;
+    }
+
+    /* markDirty
+     *
+     * Adds a square to the list of changed squares. Indexes that are not on
+     * the board are ignored.
+     *
+     * @param sqIndex - the index of the square that changed
+     */
+    void markDirty(int sqIndex)
+    {
+        if (fullRedraw || sqIndex < 0 || sqIndex >= cellCount) return;
+        if (dirtyCount == MAX_DIRTY) fullRedraw = true;
+        else dirtyCells[dirtyCount++] = sqIndex;
+    }
+
+    /* markFullRedraw
+     *
+     * Marks the whole board as changed.
+     */
+    void markFullRedraw()
+    {
+        fullRedraw = true;
+    }
+
+    /* mergeFrom
+     *
+     * Adds the changed squares of an older snapshot that was never drawn to
+     * this one.
+     *
+     * @param older - the snapshot this one replaces (null for none)
+     */
+    void mergeFrom(BoardSnapshot older)
+    {
+        if (older == null) return;
+        if (older.fullRedraw) fullRedraw = true;
+        for (int position = 0; position < older.dirtyCount; position++) markDirty(older.dirtyCells[position]);
+    }
+
+    /* truncateDirty
+     *
+     * Cuts the list of changed squares back to an earlier length, undoing
+     * a merge.
+     *
+     * @param count - the number of changed squares to keep
+     * @param full - whether the whole board had changed at that point
+     */
+    void truncateDirty(int count, boolean full)
+    {
+        dirtyCount = count;
+        fullRedraw = full;
+    }
+
+    /* hasLayoutOf
+     *
+     * Determines whether two snapshots place their squares in the same spots
+     * and share the same background, so only the changed squares differ.
+     *
+     * @param other - the snapshot to compare with (null for none)
+     * @return whether the layouts match
+     */
+    public boolean hasLayoutOf(BoardSnapshot other)
+    {
+        return other != null && sqPerRow == other.sqPerRow && sqSize == other.sqSize
+                && boardLeft == other.boardLeft && boardTop == other.boardTop
+                && boardWidth == other.boardWidth && solved == other.solved;
+    }
+
+    /* getBoardLeft
+     *
+     * @return the left edge of the board
+     */
+    public float getBoardLeft()
+    {
+        return boardLeft;
+    }
+
+    /* getBoardTop
+     *
+     * @return the top edge of the board
+     */
+    public float getBoardTop()
+    {
+        return boardTop;
+    }
+
+    /* getBoardWidth
+     *
+     * @return the width of the board
+     */
+    public int getBoardWidth()
+    {
+        return boardWidth;
+    }
+
+    /* getSqSize
+     *
+     * @return the size of one square
+     */
+    public int getSqSize()
+    {
+        return sqSize;
+    }
+
+    /* getSqPerRow
+     *
+     * @return the number of squares per row
+     */
+    public int getSqPerRow()
+    {
+        return sqPerRow;
+    }
+
+    /* getTile
+     *
+     * @param index - the index of the square
+     * @return the tile number on the square (0 for the blank)
+     */
+    public int getTile(int index)
+    {
+        return tiles[index];
+    }
+
+    /* getColour
+     *
+     * @param index - the index of the square
+     * @return the colour state of the square
+     */
+    public byte getColour(int index)
+    {
+        return colours[index];
+    }
+
+    /* isSolved
+     *
+     * @return whether the board is solved
+     */
+    public boolean isSolved()
+    {
+        return solved;
+    }
+
+    /* isFullRedraw
+     *
+     * @return whether the whole board changed
+     */
+    public boolean isFullRedraw()
+    {
+        return fullRedraw;
+    }
+
+    /* getDirtyCount
+     *
+     * @return the number of changed squares listed
+     */
+    public int getDirtyCount()
+    {
+        return fullRedraw ? 0 : dirtyCount;
+    }
+
+    /* getDirtyCell
+     *
+     * @param position - the position in the list of changed squares
+     * @return the index of the changed square
+     */
+    public int getDirtyCell(int position)
+    {
+        return dirtyCells[position];
+    }
+}
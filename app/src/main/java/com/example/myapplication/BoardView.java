@@ -1,17 +1,45 @@
 package com.example.myapplication;
 
 import android.content.Context;
-import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
 import android.util.AttributeSet;
+import android.view.GestureDetector;
 import android.view.MotionEvent;
+import android.view.ScaleGestureDetector;
 import android.view.SurfaceView;
 import android.view.View;
 import android.widget.SeekBar;
-
-import java.util.ArrayList;
-import java.util.Collections;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import com.example.myapplication.engine.Board;
+import com.example.myapplication.engine.BoardGenerator;
+import com.example.myapplication.engine.BoardPool;
+import com.example.myapplication.engine.DifficultyGenerator;
+import com.example.myapplication.engine.Direction;
+import com.example.myapplication.engine.GameSnapshot;
+import com.example.myapplication.engine.ManhattanLinearConflict;
+import com.example.myapplication.engine.MoveLog;
+import com.example.myapplication.engine.ParallelIdaStarSolver;
+import com.example.myapplication.engine.PatternDatabaseHeuristic;
+import com.example.myapplication.engine.PatternDatabaseTool;
+import com.example.myapplication.engine.ReductionSolver;
+import com.example.myapplication.engine.Solution;
+import com.example.myapplication.engine.StateTable3x3;
+import com.example.myapplication.engine.TranspositionTable;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /* BoardView Class
  *
@@ -30,36 +58,102 @@ public class BoardView extends SurfaceView
         implements View.OnClickListener, View.OnTouchListener, SeekBar.OnSeekBarChangeListener
 {
     /* Constant Variables */
-    // initialize the width, top, and left of the board
-    private final int boardWidth = 1100;
-    private final float boardTop = 25;
-    private final float boardLeft = 25;
+    // initialize the size the board is fitted to until the view is measured
+    // (a 1100 pixel board with a 25 pixel margin)
+    private final int initialViewSize = 1150;
+
+    // initialize how long a hint may search for and the largest board searched optimally
+    private final long hintTimeLimitMillis = 500;
+    private final int largestOptimalHint = 4;
+
+    // initialize the size of the hint search's transposition table (2^18 entries, 2 MB)
+    private final int hintTableBits = 18;
+
+    // initialize the number of positions remembered for the current game (2^12 entries)
+    private final int visitedTableBits = 12;
+
+    // initialize how long the SeekBar has to rest before a board of the new size is built
+    private final long rebuildDelayMillis = 60;
 
-    // initialize the square size
-    private int sqSize;
+    // initialize the number of shuffled boards kept ready for each size
+    private final int boardsPerSize = 3;
 
-    // initialize the background color of the board
-    private final Paint backgroundColor = new Paint();
+    // initialize the difficulty of new boards (a band of the estimated moves to solve)
+    private final DifficultyGenerator.Tier initialDifficulty = DifficultyGenerator.Tier.MEDIUM;
 
-    // set a new paint variable for the correct and incorrect position
-    private final Paint correctPosition = new Paint();
-    private final Paint incorrectPosition = new Paint();
+    // initialize how long a board of the difficulty is searched for when the pool has none ready
+    private final long gradingBudgetMillis = 30;
 
 
     /* Instance/Member Variables */
-    // initialize the size of the rows and board
+    // initialize the size of the rows
     private int sqPerRow;
-    private int sqTotal;
 
+    // the game state of the board (tile numbers and the blank square)
+    private Board board;
+
+    // shuffles the first board into a random layout that can always be solved, and
+    // generates boards of the difficulty on the builder thread when the pool has none ready
+    // (the threads of this and the fields below are made by startWorkers)
+    private final BoardGenerator generator = new BoardGenerator(System.nanoTime());
+    private DifficultyGenerator grader;
+
+    // keeps shuffled boards ready for the size being played and the sizes either side
+    private BoardPool boardPool;
+
+    // builds boards of a new size off the UI thread with their own shuffler
+    private ScheduledExecutorService boardBuilder;
+    private final BoardGenerator builderGenerator = new BoardGenerator(~System.nanoTime());
+
+    // the build waiting or running for the latest size, and a count of size
+    // requests so builds for older sizes can tell they are stale
+    private Future<?> pendingBuild;
+    private final AtomicInteger buildRequest = new AtomicInteger();
+
+    // draws the board on its own thread from snapshots of the game state
+    private BoardRenderer renderer;
 
-    // initialize a new array of squares in the game (16 squares on the board)
-    private ArrayList<Square> board;
+    // the part of the board on screen, and the gestures that pan and zoom it
+    private final Viewport viewport = new Viewport(initialViewSize, initialViewSize);
+    private final ScaleGestureDetector scaleDetector;
+    private final GestureDetector gestureDetector;
 
     // create a boolean to track if the game is over
     private boolean solved;
 
-    // track where the empty square is
-    private int blankSqRow, blankSqCol, blankSqIndex;
+    // the text view that shows how far the board is from being solved
+    private TextView distanceText;
+
+    // the solvers and thread used to find hints off the UI thread (the 4x4 search uses every core)
+    private ParallelIdaStarSolver hintSolver;
+    private ReductionSolver hintReducer;
+    private ExecutorService hintExecutor;
+
+    // the 4x4 hint search over the 6-6-3 pattern databases, set once they are
+    // loaded, and the thread that loads them (copying them out of the assets the first time)
+    private volatile ParallelIdaStarSolver patternHintSolver;
+    private ExecutorService patternLoader;
+    private boolean patternsRequested;
+
+    // whether the threads were stopped when the view last left the screen
+    private boolean workersStopped;
+
+    // count the changes to the board so stale hints can be ignored
+    private int boardVersion;
+
+    // track the square currently showing a hint and the one last drawn with it (-1 for none)
+    private int hintIndex = -1;
+    private int drawnHintIndex = -1;
+
+    // the positions reached this game by their hash, and the moves made so far
+    private final TranspositionTable visited = new TranspositionTable(visitedTableBits);
+    private int moveNumber;
+
+    // every move of this game, two bits each, for undo and redo
+    private final MoveLog moveLog = new MoveLog();
+
+    // how long the last saved game took to resume
+    private long lastResumeNanos;
 
 
     /* BoardView
@@ -74,87 +168,126 @@ public class BoardView extends SurfaceView
         // call super to call the parent constructor of SurfaceView
         super(context, attributeSet);
 
-        // initialize the surface view to draw
-        setWillNotDraw(false);
-
-        // initialize paint for correct and incorrect positions
-        correctPosition.setColor(Color.GREEN);
-        incorrectPosition.setColor(Color.RED);
+        // draw on a render thread whenever the surface exists
+        renderer = new BoardRenderer(getHolder());
+        getHolder().addCallback(renderer);
 
-        // initialize paint for the background color of the board
-        backgroundColor.setColor(Color.WHITE);
+        // pinch to zoom, drag to pan and tap to slide a square
+        scaleDetector = new ScaleGestureDetector(context, new ZoomListener());
+        gestureDetector = new GestureDetector(context, new PanTapListener());
 
-        // initialize the size of the rows and total squares
+        // initialize the size of the rows
         sqPerRow = 4;
-        sqTotal = sqPerRow * sqPerRow - 1;
-
-        // initialize the square size
-        sqSize = boardWidth / sqPerRow;
-
-        // initialize the blank square's values to impossible coordinates
-        blankSqRow = -1;
-        blankSqCol = -1;
-        blankSqIndex = -1;
-
-        // initialize the board to a random set up
-        initBoard();
 
         // initialize solved to false
         solved = false;
 
+        // start filling the pool with boards of the first size and difficulty
+        startWorkers(initialDifficulty);
+
+        // the board is generated once the view is attached to a window, unless a
+        // saved game is resumed first, so a resumed game never pays for a shuffle
+    }
+
+    /* startWorkers
+     *
+     * This is a helper method that makes the pool, the board builder and the
+     * hint solvers with their threads. It runs once when the view is made and
+     * again if the view is attached after being detached, since detaching
+     * stops them for good.
+     *
+     * @param difficulty - the difficulty tier of the boards the pool fills with
+     */
+    private void startWorkers(DifficultyGenerator.Tier difficulty)
+    {
+        // keep shuffled boards ready around the size being played
+        boardPool = new BoardPool(boardsPerSize, System.nanoTime() * 31);
+        boardPool.setDifficulty(difficulty);
+        boardPool.focus(sqPerRow, true);
+
+        // build and grade boards off the UI thread
+        grader = new DifficultyGenerator(1, System.nanoTime() * 17);
+        boardBuilder = Executors.newSingleThreadScheduledExecutor();
+
+        // find hints off the UI thread, loading the pattern databases again when first asked
+        hintSolver = new ParallelIdaStarSolver(new ManhattanLinearConflict(),
+                Runtime.getRuntime().availableProcessors(), hintTableBits);
+        hintSolver.setTimeLimitMillis(hintTimeLimitMillis);
+        hintReducer = new ReductionSolver();
+        hintExecutor = Executors.newSingleThreadExecutor();
+        patternLoader = Executors.newSingleThreadExecutor();
+        patternHintSolver = null;
+        patternsRequested = false;
+        workersStopped = false;
     }
 
     /* initBoard
      *
      * Initialize the board to a random setup / numbers are placed in random
-     * positions.
+     * positions. A board of the difficulty is taken from the pool, and if it
+     * has none ready one is generated on the builder thread and swapped in,
+     * so resetting never waits on a search.
      *
      */
     public void initBoard()
     {
-        // reset the size of the squares if necessary
-        sqSize = boardWidth / sqPerRow;
-
-        // initialize the list of numbers that a square can hold as a value
-        ArrayList<Integer> sqNumbers = new ArrayList<>();
+        // fit the board to the view if the size of the board changed
+        boolean resized = board == null || board.getSize() != sqPerRow;
+        if (resized) viewport.fit(sqPerRow);
 
-        // add 1 through 16 where 16 will be the empty
-        for (int sqNum = 1; sqNum <= sqTotal + 1; sqNum++) sqNumbers.add(sqNum);
-
-        // shuffle the board to create random numbering
-       Collections.shuffle(sqNumbers);
+        // take a shuffled board from the pool and hand the finished one back
+        Board ready = boardPool.take(sqPerRow);
+        if (ready != null)
+        {
+            if (board != null) boardPool.recycle(board);
+            board = ready;
+        }
+        else if (board != null)
+        {
+            // generate a layout of the difficulty on the builder thread and swap it in
+            final int size = sqPerRow;
+            final int request = buildRequest.incrementAndGet();
+            if (pendingBuild != null) pendingBuild.cancel(true);
+            pendingBuild = boardBuilder.submit(() -> buildBoard(size, request));
+            return;
+        }
+        else
+        {
+            // there is nothing to show yet, so shuffle a layout that can be solved
+            board = new Board(sqPerRow);
+            generator.shuffle(board);
+        }
+        moveLog.clear();
 
-        // instantiate the list of squares via the randomly shuffled integers
-        board = new ArrayList<>();
+        // start playing the new layout
+        startGame();
+    }
 
-        // create a new variable to track iterations
-        int sqIndex = 0;
-        // iterate through the squares and assign each square a position on the board
-        for (int row = 0; row < sqPerRow; row++)
+    /* startGame
+     *
+     * This is a helper method that starts a game on the current board,
+     * forgetting everything about the game before and drawing the whole board.
+     * The move log is kept, so a resumed game carries on counting its moves.
+     */
+    private void startGame()
+    {
+        // build the 3x3 state table in the background the first time it is needed
+        if (board.getSize() == StateTable3x3.SIZE && !StateTable3x3.isLoaded())
         {
-            for (int col = 0; col < sqPerRow; col++)
-            {
-                // initialize new variables to track the new coordinates
-                float newLeft = boardLeft + sqSize * col;
-                float newTop = boardTop + sqSize * row;
-
-                // add the new square to the board
-                board.add(new Square(newLeft, newTop, sqNumbers.get(sqIndex), sqSize, sqTotal));
+            hintExecutor.execute(() -> {
+                StateTable3x3.get();
+                post(this::updateDistanceText);
+            });
+        }
 
-                // determine the current values of the blank square
-                if (sqNumbers.get(sqIndex) == sqTotal)
-                {
-                    blankSqRow = row;
-                    blankSqCol = col;
-                    blankSqIndex = sqIndex;
-                }
+        // any hint for the previous board no longer applies
+        boardVersion++;
+        hintIndex = -1;
 
-                // increment the square index
-                sqIndex++;
-            }
-        }
-        // if unable to solve, call the initialization again
-        if (!isSolvable()) initBoard();
+        // forget the positions of the previous game and remember the new start
+        visited.nextGeneration();
+        moveNumber = moveLog.position();
+        visited.put(board.getHash(), moveNumber, moveNumber);
 
         // determine if any squares are in the correct position
         sqCorrectPosition();
@@ -162,53 +295,114 @@ public class BoardView extends SurfaceView
 
     /* sqCorrectPosition
      *
-     * This method determines whether the square is in the correct place on the board.
-     * If it is in the correct place, the color will be set to green otherwise it will
-     * be set/remain red depending on if was initially in the incorrect spot or if it
-     * moved to the wrong spot.
+     * This method determines whether the squares are in the correct place on the board
+     * and hands the board to the renderer. Squares in the correct place are drawn
+     * green and the rest red.
      *
      */
     public void sqCorrectPosition()
     {
-        // reset solved to true
-        solved = true;
+        // determine if the whole board is solved
+        solved = board.isSolved();
 
-        // initialize a variable to track the current square number
-        Square currSq;
+        // update the distance to goal readout
+        updateDistanceText();
 
-        // determine if the current index is the current value
-        for (int sqNum = 0; sqNum < sqTotal; sqNum++)
-        {
-            // get the current square
-            currSq = board.get(sqNum);
+        // draw the whole new game state
+        BoardSnapshot snapshot = nextSnapshot();
+        snapshot.markFullRedraw();
+        renderer.publish(snapshot);
+    }
 
-            // determine if the square is in the correct position
-            if (currSq.getSqNumber() - 1 != sqNum)
-            {
-                // if not empty set the current square to red
-                currSq.setSqColor(incorrectPosition);
-                // set solved to false
-                solved = false;
-            }
-            else currSq.setSqColor(correctPosition);
-        }
-        // verify the last position is empty
-        if (board.get(sqTotal).getSqNumber() != 16)
+    /* sqCorrectPosition
+     *
+     * This method updates the board after a slide changed the run of squares
+     * from the first index to the last, which share a row or a column. The game
+     * state keeps track of the misplaced tiles as it moves, so the rest of the
+     * board does not need to be checked again, and the whole run is redrawn in
+     * one frame.
+     *
+     * @param firstIndex - the index of the square at one end of the run
+     * @param lastIndex - the index of the square at the other end of the run
+     */
+    public void sqCorrectPosition(int firstIndex, int lastIndex)
+    {
+        // determine if the whole board is solved
+        solved = board.isSolved();
+
+        // update the distance to goal readout
+        updateDistanceText();
+
+        // redraw only the squares that moved (a run along a row steps by one
+        // square, a run along a column by a whole row)
+        BoardSnapshot snapshot = nextSnapshot();
+        int from = Math.min(firstIndex, lastIndex);
+        int to = Math.max(firstIndex, lastIndex);
+        int step = from / sqPerRow == to / sqPerRow ? 1 : sqPerRow;
+        for (int sqIndex = from; sqIndex <= to; sqIndex += step) snapshot.markDirty(sqIndex);
+        renderer.publish(snapshot);
+    }
+
+    /* nextSnapshot
+     *
+     * This is a helper method that copies the game state into a snapshot for
+     * the render thread. Snapshots are reused, so this allocates nothing once
+     * a board of this size has been shown. The squares that gained or lost
+     * the hint are already marked as changed.
+     *
+     * @return the filled snapshot, ready for more changed squares and publishing
+     */
+    private BoardSnapshot nextSnapshot()
+    {
+        BoardSnapshot snapshot = renderer.obtainSnapshot();
+        snapshot.fill(board, hintIndex, viewport.getBoardLeft(), viewport.getBoardTop(),
+                viewport.getBoardWidth(), viewport.getSqSize());
+        if (drawnHintIndex != hintIndex)
         {
-            // if not empty set the square to red
-            board.get(sqTotal).setSqColor(incorrectPosition);
+            snapshot.markDirty(drawnHintIndex);
+            snapshot.markDirty(hintIndex);
+        }
+        drawnHintIndex = hintIndex;
+        return snapshot;
+    }
 
-            // set solved to false
-            solved = false;
+    /* updateDistanceText
+     *
+     * This is a helper method that shows how far the board is from being solved.
+     */
+    private void updateDistanceText()
+    {
+        if (distanceText == null || board == null) return;
+
+        // 3x3 boards show the exact moves left once the state table is ready
+        if (board.getSize() == StateTable3x3.SIZE && StateTable3x3.isLoaded())
+        {
+            distanceText.setText(getResources().getString(R.string.moves_to_goal,
+                    board.getMisplacedCount(), StateTable3x3.get().distance(board)));
+            return;
         }
-        // otherwise set it so the correct position color
-        else board.get(sqTotal).setSqColor(correctPosition);
+        distanceText.setText(getResources().getString(R.string.distance_to_goal,
+                board.getMisplacedCount(), board.getManhattanDistance()));
+    }
+
+    /* setDistanceText
+     *
+     * Sets the text view used to show how far the board is from being solved.
+     *
+     * @param textView - the text view to show the distance in
+     */
+    public void setDistanceText(TextView textView)
+    {
+        distanceText = textView;
+        updateDistanceText();
     }
 
     /* checkSwap
      *
      * This method verifies that the square is able to be swapped based on the
-     * numeric value of the index passed in.
+     * numeric value of the index passed in. Tapping any square in the blank's
+     * row or column slides the whole run of squares between them toward the
+     * blank as one move.
      *
      * @param x - the x coordinate where the user pressed
      * @param y - the y coordinate where the user pressed
@@ -216,24 +410,35 @@ public class BoardView extends SurfaceView
      */
     public boolean checkSwap(float xTap, float yTap)
     {
-        // determine the index of the square the user tapped w/ respect to board
-        int sqTapX = (int) (xTap - boardTop) / sqSize;
-        int sqTapY = (int) (yTap - boardLeft) / sqSize;
+        // remember where the blank square was before the swap
+        int oldBlankIndex = board.getBlankIndex();
+
+        // determine the square the user tapped through the current pan and zoom
+        int sqTapIndex = viewport.cellAt(xTap, yTap);
 
         // determine if the board coordinates are valid
-        if (sqTapX >= sqPerRow || sqTapY >= sqPerRow) return false;
+        if (sqTapIndex < 0) return false;
 
-        // otherwise determine the square tapped
-        int sqIndex = sqTapX + ( sqTapY * sqPerRow);
-        Square sqTapped = board.get(sqIndex);
+        // slide the tapped square and every square between it and the blank
+        int direction = board.slideDirection(sqTapIndex);
+        int slid = board.slideTo(sqTapIndex);
+        if (slid > 0)
+        {
+            // remember the slide so it can be undone
+            moveLog.record(direction, slid);
 
-        // verify the square is not empty
-        if (sqTapped.getSqNumber() == 16) return false;
+            // any hint for the previous board no longer applies
+            boardVersion++;
+            clearHint();
 
-        // verify the square is next to the blank
-        if (surroundsBlank(sqTapX, sqTapY)) {
-            // swap the squares and return true
-            swap(sqIndex, sqTapped, sqTapX, sqTapY);
+            // determine if the squares that moved are correct
+            sqCorrectPosition(oldBlankIndex, board.getBlankIndex());
+
+            // tell the player when they are back at a position they already had
+            moveNumber += slid;
+            int earlierMove = visited.get(board.getHash());
+            if (earlierMove != TranspositionTable.MISSING) showRevisit(earlierMove);
+            visited.put(board.getHash(), moveNumber, moveNumber);
             return true;
         }
 
@@ -241,73 +446,218 @@ public class BoardView extends SurfaceView
         return false;
     }
 
-    /* surroundsBlank
+    /* undoMove
      *
-     * This is a helper method for swapping squares to ensure the location is valid.
+     * This method takes back the last slide, every tile of it at once.
+     * Consecutive moves in the same direction count as one slide.
      *
-     * @param sqTapRow - the row of the square that was tapped
-     * @param sqTapCol - the column of the square that was tapped
-     * @returns whether the location surrounds the blank square
-     * -------------
-     * | 1 | 3 | 9 |
-     * | 6 | 2 | 4 |
-     * | 8 |   | 7 |
-     * -------------
+     * @return whether anything was undone
      */
-    public boolean surroundsBlank(int sqTapRow, int sqTapCol)
+    public boolean undoMove()
     {
-        // determine if the square tapped was left/right to the blank square
-        if (sqTapRow == blankSqRow)
-        {
-            // if left to blank return true;
-            if (blankSqCol - sqTapCol == 1) return true;
+        int direction = moveLog.peekUndo();
+        if (direction == Direction.NONE) return false;
+        int oldBlankIndex = board.getBlankIndex();
+        while (moveLog.peekUndo() == direction) moveLog.undo(board);
+        historyMoved(oldBlankIndex);
+        return true;
+    }
 
-            // if right to blank return true;
-            if (sqTapCol - blankSqCol == 1) return true;
-        }
+    /* redoMove
+     *
+     * This method makes the last slide taken back again.
+     *
+     * @return whether anything was redone
+     */
+    public boolean redoMove()
+    {
+        int direction = moveLog.peekRedo();
+        if (direction == Direction.NONE) return false;
+        int oldBlankIndex = board.getBlankIndex();
+        while (moveLog.peekRedo() == direction) moveLog.redo(board);
+        historyMoved(oldBlankIndex);
+        return true;
+    }
 
-        // determine if the square tapped was above/below to the blank square
-        if (sqTapCol == blankSqCol)
-        {
-            // if above blank return true;
-            if (blankSqRow - sqTapRow == 1) return true;
+    /* historyMoved
+     *
+     * This is a helper method that updates the board after an undo or redo
+     * slid the blank along a row or column from the index passed in.
+     *
+     * @param oldBlankIndex - where the blank was before the slide
+     */
+    private void historyMoved(int oldBlankIndex)
+    {
+        // any hint for the previous board no longer applies
+        boardVersion++;
+        clearHint();
+
+        // redraw the run that moved and keep counting moves from the log
+        sqCorrectPosition(oldBlankIndex, board.getBlankIndex());
+        moveNumber = moveLog.position();
+    }
+
+    /* getMoveLog
+     *
+     * Returns the moves of the current game.
+     *
+     * @return the log of moves
+     */
+    public MoveLog getMoveLog()
+    {
+        return moveLog;
+    }
 
-            // if below blank return true;
-            return sqTapRow - blankSqRow == 1;
+    /* showRevisit
+     *
+     * This is a helper method that tells the player the board is back to an
+     * earlier position.
+     *
+     * @param earlierMove - the number of moves made when the position was first reached
+     */
+    private void showRevisit(int earlierMove)
+    {
+        String message = earlierMove == 0 ? getResources().getString(R.string.revisited_start)
+                : getResources().getString(R.string.revisited, earlierMove);
+        Toast.makeText(getContext(), message, Toast.LENGTH_SHORT).show();
+    }
+
+    /* requestHint
+     *
+     * This method searches for the best tile to slide next on a background
+     * thread. When the search finishes the square is highlighted, unless the
+     * board changed in the meantime.
+     */
+    public void requestHint()
+    {
+        // nothing to hint on a solved board
+        if (solved) return;
+
+        // get the pattern databases ready the first time a 4x4 hint is asked for,
+        // searching with the linear conflicts until they are
+        if (board.getSize() == largestOptimalHint && !patternsRequested)
+        {
+            patternsRequested = true;
+            final ExecutorService loader = patternLoader;
+            loader.execute(() -> loadPatternDatabases(loader));
         }
 
-        // otherwise return false
-        return false;
+        // search a copy of the board so the player can keep moving, with the
+        // solvers of this attachment even if the view is detached meanwhile
+        final Board hintBoard = new Board(board);
+        final int requestVersion = boardVersion;
+        final ParallelIdaStarSolver solver = hintSolver;
+        final ReductionSolver reducer = hintReducer;
+        hintExecutor.execute(() -> {
+            // 3x3 boards look the best move up, 4x4 boards search for the best move
+            // and larger boards are placed a row and column at a time
+            Solution solution;
+            ParallelIdaStarSolver patternSolver = patternHintSolver;
+            try
+            {
+                if (hintBoard.getSize() == StateTable3x3.SIZE) solution = StateTable3x3.get().solve(hintBoard);
+                else if (hintBoard.getSize() == largestOptimalHint && patternSolver != null)
+                {
+                    solution = patternSolver.solve(hintBoard);
+                }
+                else if (hintBoard.getSize() <= largestOptimalHint) solution = solver.solve(hintBoard);
+                else solution = reducer.solve(hintBoard);
+            }
+            catch (RejectedExecutionException e)
+            {
+                // the view left the screen and its solvers were shut down
+                return;
+            }
+            post(() -> showHint(solution, requestVersion));
+        });
     }
 
-    /* swap
+    /* loadPatternDatabases
      *
-     * This is a helper method for swapping the squares.
+     * This is a helper method that loads the 6-6-3 pattern databases for the
+     * 4x4 hint search. They are built with the app and shipped as assets, so
+     * they are only copied into the app's files the first time and memory
+     * mapped from there. With them a typical 4x4 board is solved well inside
+     * the hint's budget, where the linear conflicts often run out of time.
+     * Hints keep using the linear conflicts until they are loaded, and for
+     * good if they can not be.
      *
-     * @param sqIndex - the index of the square that was tapped
-     * @param sqTapped - the square that was tapped
-     * @param sqTapRow - the row position of the square tapped
-     * @param sqTapCol - the column position of the square tapped
+     * @param loader - the thread loading them, shut down if the view is detached
      */
-    public void swap(int sqIndex, Square sqTapped, int sqTapRow, int sqTapCol)
+    private void loadPatternDatabases(ExecutorService loader)
     {
-        // initialize variables to store the squares to swap
-        //Square blankSq = board.get(blankSqIndex);
+        File[] files = PatternDatabaseTool.files(new File(getContext().getFilesDir(), "pdb"));
+        try
+        {
+            for (File file : files) copyAsset(file);
+            PatternDatabaseHeuristic heuristic = PatternDatabaseHeuristic.load(files);
+            ParallelIdaStarSolver solver = new ParallelIdaStarSolver(heuristic,
+                    Runtime.getRuntime().availableProcessors(), hintTableBits);
+            solver.setTimeLimitMillis(hintTimeLimitMillis);
+
+            // the view may have left the screen while the databases were loaded
+            synchronized (loader)
+            {
+                if (loader.isShutdown()) solver.shutdown();
+                else patternHintSolver = solver;
+            }
+        }
+        catch (IOException e)
+        {
+            // drop copies that would not load, so the next view copies them again
+            for (File file : files) file.delete();
+        }
+    }
 
-        // get the square number of the one to be swapped
-        int swapSqNum = board.get(sqIndex).getSqNumber();
+    /* copyAsset
+     *
+     * This is a helper method that copies the asset of the same name into a
+     * file, unless it is already there. The copy is written beside the file
+     * and renamed when complete, so a copy cut short is never loaded.
+     *
+     * @param file - the file to copy the asset into
+     * @throws IOException - if the asset is missing or can not be copied
+     */
+    private void copyAsset(File file) throws IOException
+    {
+        if (file.isFile()) return;
+        File dir = file.getParentFile();
+        if (!dir.isDirectory() && !dir.mkdirs()) throw new IOException("Can not create " + dir);
+        File partial = new File(dir, file.getName() + ".part");
+        try (InputStream in = getContext().getAssets().open(file.getName());
+             OutputStream out = new FileOutputStream(partial))
+        {
+            byte[] buffer = new byte[64 * 1024];
+            for (int read = in.read(buffer); read > 0; read = in.read(buffer)) out.write(buffer, 0, read);
+        }
+        if (!partial.renameTo(file)) throw new IOException("Can not move " + partial);
+    }
 
-        // swap the values of tapped square with the blank square
-        sqTapped.setSqNumber(16);
-        board.get(blankSqIndex).setSqNumber(swapSqNum);
+    /* showHint
+     *
+     * This is a helper method that highlights the square the hint suggests.
+     *
+     * @param solution - the result of the hint search
+     * @param requestVersion - the version of the board the hint was found for
+     */
+    private void showHint(Solution solution, int requestVersion)
+    {
+        // ignore hints for a board that has since changed
+        if (requestVersion != boardVersion || solution.getNextTileIndex() < 0) return;
 
-        // reset the blank square values
-        blankSqIndex = sqIndex;
-        blankSqRow = sqTapRow;
-        blankSqCol = sqTapCol;
+        // highlight the square to slide next
+        hintIndex = solution.getNextTileIndex();
+        renderer.publish(nextSnapshot());
+    }
 
-        // determine if the new board is correct
-        sqCorrectPosition();
+    /* clearHint
+     *
+     * This is a helper method that removes the hint highlight from its square.
+     * The next snapshot draws the square in its usual colour.
+     */
+    private void clearHint()
+    {
+        hintIndex = -1;
     }
 
     /* isSolvable
@@ -318,96 +668,340 @@ public class BoardView extends SurfaceView
      */
     public boolean isSolvable()
     {
-        // determine if inversion and board is odd
-        boolean inversionOdd, boardSizeOdd;
-        inversionOdd = getInversionCount() % 2 != 0;
-        boardSizeOdd = board.size() % 2 != 0;
+        return board.isSolvable();
+    }
 
-        // if the board size is odd and inversions are even, return true
-        if (boardSizeOdd) return !(inversionOdd);
-        // if board size is even, determine if blank square
-        // is in an odd row
-        else
-        {
-            // determine if the blank square is in an odd row
-            boolean blankRowOdd = blankSqRow % 2 != 0;
+    /* requestBoardSize
+     *
+     * This method asks for a board of a new size. The board is built on a
+     * background thread once the size has stopped changing for a moment, so
+     * dragging the SeekBar only ever builds the size it stops on. A newer
+     * request cancels any build for an older size.
+     *
+     * @param size - the number of squares per row
+     */
+    public void requestBoardSize(int size)
+    {
+        // cancel the build for the previous request, whether it has started or not
+        final int request = buildRequest.incrementAndGet();
+        if (pendingBuild != null) pendingBuild.cancel(true);
+        pendingBuild = null;
+
+        // nothing to build if the board is already this size
+        if (size == sqPerRow) return;
+        pendingBuild = boardBuilder.schedule(() -> buildBoard(size, request),
+                rebuildDelayMillis, TimeUnit.MILLISECONDS);
+    }
 
-            // if odd row and even inversions return true
-            if (blankRowOdd) return !(inversionOdd);
+    /* buildBoard
+     *
+     * This is a helper method that builds and shuffles a board on the builder
+     * thread, then hands it to the UI thread. It gives up as soon as a newer
+     * size has been requested.
+     *
+     * @param size - the number of squares per row
+     * @param request - the request the board is built for
+     */
+    private void buildBoard(int size, int request)
+    {
+        if (request != buildRequest.get()) return;
+
+        // take a ready board from the pool if it has one of this size
+        Board pooled = boardPool.take(size);
+        final Board built = pooled != null ? pooled : new Board(size);
+        if (pooled == null) generateBoard(built);
+        if (request != buildRequest.get()) return;
+        post(() -> swapBoard(built, request));
+    }
 
-            // other wise return if the inversion count is odd
-            else return inversionOdd;
-        }
+    /* generateBoard
+     *
+     * This is a helper method that fills a board of the difficulty being
+     * played on the builder thread when the pool has none ready, or shuffles
+     * it uniformly if no difficulty is set. The search is kept short, and the
+     * closest board to the difficulty is used if it runs out.
+     *
+     * @param target - the board to fill
+     */
+    private void generateBoard(Board target)
+    {
+        DifficultyGenerator.Tier tier = boardPool.getDifficulty();
+        if (tier == null) builderGenerator.shuffle(target);
+        else grader.generate(target, tier, gradingBudgetMillis);
     }
 
-    /* getInversionCount
+    /* swapBoard
      *
-     * This is a helper method to count the number of inversions.
+     * This is a helper method that replaces the board with one built in the
+     * background, unless a newer size was requested while it was built. The
+     * whole swap happens in one step on the UI thread, so touches and hints
+     * never see half of it.
      *
-     * @return count - the inversion count
+     * @param built - the shuffled board of the new size
+     * @param request - the request the board was built for
      */
-    int getInversionCount()
+    private void swapBoard(Board built, int request)
     {
-        // initialize the inversion count
-        int count = 0;
+        if (request != buildRequest.get()) return;
+        pendingBuild = null;
+
+        // switch to the new board, keep the pool filled around its size and fit it to the view
+        if (board != null) boardPool.recycle(board);
+        board = built;
+        moveLog.clear();
+        boardPool.focus(built.getSize(), true);
+        sqPerRow = built.getSize();
+        viewport.fit(sqPerRow);
+        startGame();
+    }
 
-        // iterate through the array
-        for (int x = 0; x <= sqTotal; x++)
+    /* saveGame
+     *
+     * This method saves the game in progress to a compact snapshot.
+     *
+     * @return the snapshot of the game, or null if no game has started
+     */
+    public byte[] saveGame()
+    {
+        return board == null ? null : GameSnapshot.encode(board, moveLog).array();
+    }
+
+    /* saveGame
+     *
+     * This method saves the game in progress to a file with a single write.
+     *
+     * @param file - the file to write
+     * @throws IOException - if the file can not be written
+     */
+    public void saveGame(File file) throws IOException
+    {
+        if (board != null) GameSnapshot.write(file, board, moveLog);
+    }
+
+    /* resumeGame
+     *
+     * This method carries on a game saved by saveGame, without shuffling a
+     * board. A damaged snapshot is ignored and a new game is started as usual.
+     *
+     * @param snapshot - the snapshot of the game
+     * @return whether the game was resumed
+     */
+    public boolean resumeGame(byte[] snapshot)
+    {
+        if (snapshot == null) return false;
+        long start = System.nanoTime();
+        try
         {
-            for (int y = x + 1; y < sqTotal; y++)
-            {
-                // ensure the blank square is not viewed
-                if (x == blankSqIndex || y == blankSqIndex) continue;
+            resumeBoard(GameSnapshot.decode(ByteBuffer.wrap(snapshot), moveLog), start);
+            return true;
+        }
+        catch (IOException e)
+        {
+            moveLog.clear();
+            return false;
+        }
+    }
 
-                // count the pairs such that x appears before y but x > y
-                if (board.get(x).getSqNumber() > board.get(y).getSqNumber()) count++;
-            }
+    /* resumeGame
+     *
+     * This method carries on a game saved to a file by saveGame.
+     *
+     * @param file - the file to read
+     * @return whether the game was resumed
+     */
+    public boolean resumeGame(File file)
+    {
+        if (!file.exists()) return false;
+        long start = System.nanoTime();
+        try
+        {
+            resumeBoard(GameSnapshot.read(file, moveLog), start);
+            return true;
         }
+        catch (IOException e)
+        {
+            moveLog.clear();
+            return false;
+        }
+    }
 
-        // return the inversion count
-            return count;
+    /* resumeBoard
+     *
+     * This is a helper method that switches to a board brought back from a
+     * snapshot, with its moves already in the move log.
+     *
+     * @param resumed - the board of the saved game
+     * @param start - when the resume started, for timing it
+     */
+    private void resumeBoard(Board resumed, long start)
+    {
+        // any board being built for a new size is no longer wanted
+        buildRequest.incrementAndGet();
+        if (pendingBuild != null) pendingBuild.cancel(true);
+        pendingBuild = null;
+
+        // switch to the saved board and keep the pool filled around its size
+        if (board != null) boardPool.recycle(board);
+        board = resumed;
+        boardPool.focus(resumed.getSize(), true);
+        sqPerRow = resumed.getSize();
+        viewport.fit(sqPerRow);
+        startGame();
+        lastResumeNanos = System.nanoTime() - start;
     }
-    
-    /* onDraw
+
+    /* getLastResumeNanos
      *
-     * This method overrides the onDraw method to draw the squares accurately
-     * onto the current instance of the canvas. The canvas will be displayed
-     * onto the surface view object that the tablet has access to.
+     * Returns how long the last resume took, from reading the snapshot to
+     * handing the board to the renderer.
      *
-     * @param canvas - the canvas that will be drawn onto the surface view
+     * @return the time in nanoseconds (0 if no game was resumed)
      */
-    @Override
-    public void onDraw(Canvas canvas)
+    public long getLastResumeNanos()
+    {
+        return lastResumeNanos;
+    }
+
+    /* getBoardSize
+     *
+     * @return the number of squares per row of the board being played
+     */
+    public int getBoardSize()
+    {
+        return sqPerRow;
+    }
+
+    /* setDifficulty
+     *
+     * This method changes the difficulty of the boards the pool hands out.
+     * The board being played is kept, and the next reset uses the new tier.
+     *
+     * @param tier - the difficulty tier, or null for uniformly random boards
+     */
+    public void setDifficulty(DifficultyGenerator.Tier tier)
+    {
+        boardPool.setDifficulty(tier);
+    }
+
+    /* getBoardPool
+     *
+     * Returns the pool of shuffled boards, whose hit and miss counts show
+     * whether resets ever wait for a board to be shuffled.
+     *
+     * @return the pool of boards
+     */
+    public BoardPool getBoardPool()
+    {
+        return boardPool;
+    }
+
+    /* getFrameStats
+     *
+     * Returns the timing of the frames that slide tiles into place, which
+     * shows whether slides keep pace with the display.
+     *
+     * @return the timing of animation frames
+     */
+    public FrameStats getFrameStats()
     {
-        // if solved set background to green
-        if(!solved) backgroundColor.setColor(Color.WHITE);
-        else backgroundColor.setColor(Color.GREEN);
+        return renderer.getFrameStats();
+    }
 
-        // draw the background of the board onto the surface view
-        canvas.drawRect(boardLeft, boardTop, boardLeft +boardWidth,
-            boardTop + boardWidth, backgroundColor);
+    /* useRenderer
+     *
+     * This method draws the board through another renderer from now on, such
+     * as one drawing to a surface of a test's own. The board is handed to it
+     * on the next change, or straight away through sqCorrectPosition.
+     *
+     * @param newRenderer - the renderer to draw through
+     */
+    void useRenderer(BoardRenderer newRenderer)
+    {
+        getHolder().removeCallback(renderer);
+        renderer = newRenderer;
+        getHolder().addCallback(newRenderer);
+    }
 
-        // draw the squares onto the canvas
-        for(Square sq: board) sq.draw(canvas);
+    /* onAttachedToWindow
+     *
+     * This method generates the first board if no saved game was resumed,
+     * and tells the frame timing how often the display refreshes once the
+     * view is on a display. A view attached again after being detached makes
+     * new threads for the pool, the board builder and the hints.
+     */
+    @Override
+    protected void onAttachedToWindow()
+    {
+        super.onAttachedToWindow();
+        if (workersStopped) startWorkers(boardPool.getDifficulty());
 
+        // generate the first board now, unless a saved game was resumed
+        if (board == null) initBoard();
+        if (getDisplay() != null) renderer.getFrameStats().setRefreshRate(getDisplay().getRefreshRate());
+    }
+
+    /* onDetachedFromWindow
+     *
+     * This method frees the bitmap of pre-drawn squares once the view leaves
+     * the screen, drops any board still being built, stops filling the pool
+     * and stops the threads that build boards and find hints, so a recreated
+     * activity does not leave them behind. They are made again if the view
+     * is attached again. The surface, and with it the render thread, is
+     * already gone.
+     */
+    @Override
+    protected void onDetachedFromWindow()
+    {
+        super.onDetachedFromWindow();
+        boardPool.shutdown();
+        buildRequest.incrementAndGet();
+        if (pendingBuild != null) pendingBuild.cancel(true);
+        pendingBuild = null;
+        boardBuilder.shutdownNow();
+        grader.shutdown();
+        hintExecutor.shutdownNow();
+        hintSolver.shutdown();
+        synchronized (patternLoader)
+        {
+            patternLoader.shutdownNow();
+            if (patternHintSolver != null) patternHintSolver.shutdown();
+        }
+        workersStopped = true;
+        renderer.release();
     }
 
     /* onClick
      *
      * This method overrides the onClick method to read when the user has
      * clicked on the reset button. By doing this, the board will be re-initialized
-     * and the current view will be invalidated so the new canvas may be drawn.
+     * and the new board handed to the render thread to be drawn.
      *
      * @param view - the view that will be overwritten
      */
     @Override
     public void onClick(View view)
     {
+        // the hint button asks for a hint instead of a new board
+        if (view.getId() == R.id.hint_button)
+        {
+            requestHint();
+            return;
+        }
+
+        // the undo and redo buttons step through the moves of this game
+        if (view.getId() == R.id.undo_button)
+        {
+            undoMove();
+            return;
+        }
+        if (view.getId() == R.id.redo_button)
+        {
+            redoMove();
+            return;
+        }
+
         // generate the new board
         initBoard();
-
-        // invalidate the current view
-        invalidate();
     }
 
     /* onTouch
@@ -415,8 +1009,9 @@ public class BoardView extends SurfaceView
      * This method overrides the onTouch method to correctly calculate where the
      * user is attempting to move the square. Since there is only one position
      * the user can possible move the square to (as there is only one empty square)
-     * the coordinates the user presses on can be used to determine if it is next
-     * to an empty, and if it is, swap the squares.
+     * the coordinates the user taps can be used to determine if it is next
+     * to an empty, and if it is, swap the squares. Pinching zooms the board and
+     * dragging pans it.
      *
      * @param view - the current view where the user's touch will be found
      * @param motionEvent - the motion event of the user
@@ -424,31 +1019,35 @@ public class BoardView extends SurfaceView
     @Override
     public boolean onTouch(View view, MotionEvent motionEvent)
     {
-        // verify the user pressed the screen
-        if (motionEvent.getActionMasked() == MotionEvent.ACTION_DOWN)
-        {
-            // determine the number of the square pressed down
-            float x = motionEvent.getX();
-            float y = motionEvent.getY();
-
-            // check if a swap is possible
-            if (checkSwap(x, y))
-            {
-                // invalidate the current view
-                invalidate();
+        // let the detectors turn the touches into taps, drags and pinches
+        scaleDetector.onTouchEvent(motionEvent);
+        gestureDetector.onTouchEvent(motionEvent);
+        return true;
+    }
 
-                // return true
-                return true;
-            }
-        }
+    /* onSizeChanged
+     *
+     * This method fits the board to the view once the view knows its size.
+     *
+     * @param width - the new width of the view
+     * @param height - the new height of the view
+     * @param oldWidth - the old width of the view
+     * @param oldHeight - the old height of the view
+     */
+    @Override
+    protected void onSizeChanged(int width, int height, int oldWidth, int oldHeight)
+    {
+        super.onSizeChanged(width, height, oldWidth, oldHeight);
+        viewport.setViewSize(width, height);
 
-        // if invalid touch or unable to swap keep view the same
-        return false;
+        // a view laid out before it is attached has no board to draw yet
+        if (board != null) renderer.publish(nextSnapshot());
     }
 
     /* onProgressChanged()
      *
-     * This method tracks changes of the SeekBar and updates the board based on current progress
+     * This method tracks changes of the SeekBar and updates the board based on current progress.
+     * The board is built in the background once the SeekBar rests, so dragging stays smooth.
      *
      * @param seekBar - seekBar on the application
      * @param size - the new size specified by the progress of the seekBar
@@ -457,17 +1056,8 @@ public class BoardView extends SurfaceView
     @Override
     public void onProgressChanged(SeekBar seekBar, int size, boolean b)
     {
-        // ensure the squares per row are at least 2
-        sqPerRow = Math.max(size, 2);
-
-        // update the new total number of squares
-        sqTotal = sqPerRow * sqPerRow - 1;
-
-        // invalidate the current view
-        invalidate();
-
-        // rebuild the board
-        initBoard();
+        // ensure the squares per row are at least 2 and rebuild the board
+        requestBoardSize(Math.max(size, 2));
     }
 
     @Override
@@ -475,6 +1065,50 @@ public class BoardView extends SurfaceView
 
     @Override
     public void onStopTrackingTouch(SeekBar seekBar) {}
-}
 
+    /* ZoomListener Class
+     *
+     * Zooms the board around the middle of a pinch.
+     */
+    private class ZoomListener extends ScaleGestureDetector.SimpleOnScaleGestureListener
+    {
+        @Override
+        public boolean onScale(ScaleGestureDetector detector)
+        {
+            if (viewport.zoom(detector.getScaleFactor(), detector.getFocusX(), detector.getFocusY()))
+            {
+                renderer.publish(nextSnapshot());
+            }
+            return true;
+        }
+    }
+
+    /* PanTapListener Class
+     *
+     * Pans the board when it is dragged and slides the tapped square.
+     */
+    private class PanTapListener extends GestureDetector.SimpleOnGestureListener
+    {
+        @Override
+        public boolean onDown(MotionEvent motionEvent)
+        {
+            return true;
+        }
+
+        @Override
+        public boolean onSingleTapUp(MotionEvent motionEvent)
+        {
+            // check if a swap is possible (the move is drawn on the render thread)
+            return !scaleDetector.isInProgress() && checkSwap(motionEvent.getX(), motionEvent.getY());
+        }
 
+        @Override
+        public boolean onScroll(MotionEvent down, MotionEvent motionEvent, float distanceX, float distanceY)
+        {
+            // the board follows the finger, so it moves against the scroll distance
+            if (scaleDetector.isInProgress() || !viewport.pan(-distanceX, -distanceY)) return false;
+            renderer.publish(nextSnapshot());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.myapplication;
+
+/* FrameStats Class
+ *
+ * This class keeps count of how steadily animation frames are drawn. Only
+ * frames that follow another animation frame are timed, so the time the
+ * board sits still between moves does not count. A frame is counted as late
+ * when it comes more than half a refresh after it was due, which means at
+ * least one refresh of the display was missed.
+ *
+ * The render thread records the frames and any thread may read the counts.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class FrameStats
+{
+    /* Constant Variables */
+    // the refresh period assumed until the display's is known (60 Hz)
+    private static final long DEFAULT_PERIOD_NANOS = 16_666_667L;
+
+
+    /* Instance/Member Variables */
+    // the time between refreshes of the display
+    private volatile long periodNanos = DEFAULT_PERIOD_NANOS;
+
+    // the time of the last animation frame (0 if the last frame was still)
+    private long lastFrameNanos;
+
+    // the frames timed and the late ones among them
+    private volatile long frames;
+    private volatile long lateFrames;
+
+    // the total and longest gap between frames
+    private volatile long totalIntervalNanos;
+    private volatile long maxIntervalNanos;
+
+    // the total and longest time spent drawing a frame
+    private volatile long totalDrawNanos;
+    private volatile long maxDrawNanos;
+
+
+    /* setRefreshRate
+     *
+     * Sets the refresh rate of the display the frames are shown on.
+     *
+     * @param hertz - the refreshes per second
+     */
+    public void setRefreshRate(float hertz)
+    {
+        if (hertz > 0) periodNanos = (long) (1e9 / hertz);
+    }
+
+    /* record
+     *
+     * Records one frame.
+     *
+     * @param frameNanos - the time the frame was due to start
+     * @param drawNanos - the time spent drawing it
+     * @param animating - whether the frame was part of an animation
+     */
+    void record(long frameNanos, long drawNanos, boolean animating)
+    {
+        if (lastFrameNanos != 0)
+        {
+            long interval = frameNanos - lastFrameNanos;
+            frames++;
+            if (interval * 2 > periodNanos * 3) lateFrames++;
+            totalIntervalNanos += interval;
+            if (interval > maxIntervalNanos) maxIntervalNanos = interval;
+            totalDrawNanos += drawNanos;
+            if (drawNanos > maxDrawNanos) maxDrawNanos = drawNanos;
+        }
+        lastFrameNanos = animating ? frameNanos : 0;
+    }
+
+    /* getFrames
+     *
+     * @return the number of animation frames timed
+     */
+    public long getFrames()
+    {
+        return frames;
+    }
+
+    /* getLateFrames
+     *
+     * @return the number of animation frames that missed a refresh
+     */
+    public long getLateFrames()
+    {
+        return lateFrames;
+    }
+
+    /* getAverageIntervalMillis
+     *
+     * @return the average time between animation frames in milliseconds
+     */
+    public double getAverageIntervalMillis()
+    {
+        return frames == 0 ? 0 : totalIntervalNanos / 1e6 / frames;
+    }
+
+    /* getMaxIntervalMillis
+     *
+     * @return the longest time between animation frames in milliseconds
+     */
+    public double getMaxIntervalMillis()
+    {
+        return maxIntervalNanos / 1e6;
+    }
+
+    /* getAverageDrawMillis
+     *
+     * @return the average time spent drawing an animation frame in milliseconds
+     */
+    public double getAverageDrawMillis()
+    {
+        return frames == 0 ? 0 : totalDrawNanos / 1e6 / frames;
+    }
+
+    /* getMaxDrawMillis
+     *
+     * @return the longest time spent drawing an animation frame in milliseconds
+     */
+    public double getMaxDrawMillis()
+    {
+        return maxDrawNanos / 1e6;
+    }
+
+    /* getFramesPerSecond
+     *
+     * @return the average rate of animation frames
+     */
+    public double getFramesPerSecond()
+    {
+        return totalIntervalNanos == 0 ? 0 : frames * 1e9 / totalIntervalNanos;
+    }
+}
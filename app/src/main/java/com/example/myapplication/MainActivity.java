@@ -44,9 +44,20 @@ import android.annotation.SuppressLint;
 import android.os.Bundle;
 import android.widget.Button;
 import android.widget.SeekBar;
+import android.widget.TextView;
+
+import java.io.File;
+import java.io.IOException;
 
 public class MainActivity extends AppCompatActivity {
 
+    // the key of the saved game in the instance state and the app-private file it is kept in
+    private static final String SAVED_GAME = "savedGame";
+    private static final String SAVED_GAME_FILE = "game.bin";
+
+    // the view playing the game
+    private BoardView boardView;
+
     @SuppressLint("ClickableViewAccessibility")
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -54,17 +65,61 @@ public class MainActivity extends AppCompatActivity {
         setContentView(R.layout.activity_main);
 
         // initialize a new board view
-        BoardView boardView = findViewById(R.id.boardView);
+        boardView = findViewById(R.id.boardView);
+
+        // carry on the game from before a rotation or the app being stopped, if there is one
+        byte[] savedGame = savedInstanceState == null ? null : savedInstanceState.getByteArray(SAVED_GAME);
+        boolean resumed = boardView.resumeGame(savedGame) || boardView.resumeGame(savedGameFile());
 
         // set up the on click listener for the reset button
         Button reset = findViewById(R.id.reset_button);
         reset.setOnClickListener(boardView);
 
+        // set up the on click listener for the hint button
+        Button hint = findViewById(R.id.hint_button);
+        hint.setOnClickListener(boardView);
+
+        // set up the on click listeners for the undo and redo buttons
+        Button undo = findViewById(R.id.undo_button);
+        undo.setOnClickListener(boardView);
+        Button redo = findViewById(R.id.redo_button);
+        redo.setOnClickListener(boardView);
+
         // set up the touch listener for the board
         boardView.setOnTouchListener(boardView);
 
         // set up the seek bar for the board
         SeekBar seekBar = findViewById(R.id.numSqBoard);
+        if (resumed) seekBar.setProgress(boardView.getBoardSize());
         seekBar.setOnSeekBarChangeListener(boardView);
+
+        // set up the text showing how far the board is from being solved
+        TextView distanceText = findViewById(R.id.distance_text);
+        boardView.setDistanceText(distanceText);
+    }
+
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+
+        // keep the game through a rotation or the process being killed
+        outState.putByteArray(SAVED_GAME, boardView.saveGame());
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+
+        // keep the game for the next time the app starts
+        try {
+            boardView.saveGame(savedGameFile());
+        } catch (IOException e) {
+            // the game is still in the instance state, only a cold start loses it
+        }
+    }
+
+    // the app-private file the game is kept in between runs
+    private File savedGameFile() {
+        return new File(getFilesDir(), SAVED_GAME_FILE);
     }
-}
\ No newline at end of file
+}
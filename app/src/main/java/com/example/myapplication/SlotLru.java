@@ -0,0 +1,209 @@
+package com.example.myapplication;
+
+import java.util.Arrays;
+
+/* SlotLru Class
+ *
+ * This class hands out a fixed number of slots to integer keys and takes
+ * back the least recently used slot when they run out. The tile atlas uses
+ * it to decide which pre-drawn tiles stay in its bitmap.
+ *
+ * Everything is kept in int arrays (a key to slot table and a doubly linked
+ * list of slots from most to least recently used), so lookups allocate
+ * nothing while frames are being drawn. The number of slots in use can be
+ * changed through reset without making the arrays again.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+final class SlotLru
+{
+    /* Constant Variables */
+    // the slot of a key that has none, and the end of the list
+    static final int NONE = -1;
+
+
+    /* Instance/Member Variables */
+    // the slot each key is in and the key each slot holds
+    private final int[] slotOfKey;
+    private final int[] keyOfSlot;
+
+    // the neighbours of each slot in the list, most recently used first
+    private final int[] prev;
+    private final int[] next;
+    private int head = NONE;
+    private int tail = NONE;
+
+    // the number of slots in use and the number handed out
+    private int capacity;
+    private int used;
+
+
+    /* SlotLru
+     *
+     * Constructor for a set of empty slots.
+     *
+     * @param capacity - the number of slots
+     * @param keyCount - the number of keys, each key is from 0 to keyCount - 1
+     */
+    SlotLru(int capacity, int keyCount)
+    {
+        if (capacity < 1) throw new IllegalArgumentException("At least one slot is needed: " + capacity);
+        slotOfKey = new int[keyCount];
+        keyOfSlot = new int[capacity];
+        prev = new int[capacity];
+        next = new int[capacity];
+        Arrays.fill(slotOfKey, NONE);
+        this.capacity = capacity;
+    }
+
+    /* get
+     *
+     * Returns the slot of a key and marks it as the most recently used.
+     *
+     * @param key - the key to look up
+     * @return the slot of the key or NONE if it has none
+     */
+    int get(int key)
+    {
+        int slot = slotOfKey[key];
+        if (slot != NONE) moveToFront(slot);
+        return slot;
+    }
+
+    /* assign
+     *
+     * Gives a key that has no slot a slot, taking it from the least recently
+     * used key when every slot is in use.
+     *
+     * @param key - the key without a slot
+     * @return the slot given to the key
+     */
+    int assign(int key)
+    {
+        int slot;
+        if (used < capacity)
+        {
+            slot = used++;
+        }
+        else
+        {
+            // take the least recently used slot from its key
+            slot = tail;
+            unlink(slot);
+            slotOfKey[keyOfSlot[slot]] = NONE;
+        }
+        slotOfKey[key] = slot;
+        keyOfSlot[slot] = key;
+        linkFront(slot);
+        return slot;
+    }
+
+    /* clear
+     *
+     * Takes every slot back, only touching the keys that had one.
+     */
+    void clear()
+    {
+        for (int slot = 0; slot < used; slot++) slotOfKey[keyOfSlot[slot]] = NONE;
+        head = NONE;
+        tail = NONE;
+        used = 0;
+    }
+
+    /* reset
+     *
+     * Takes every slot back and changes the number of slots in use, up to
+     * the number the arrays were made for.
+     *
+     * @param newCapacity - the number of slots, from 1 to maxCapacity()
+     */
+    void reset(int newCapacity)
+    {
+        if (newCapacity < 1 || newCapacity > keyOfSlot.length)
+        {
+            throw new IllegalArgumentException("Capacity out of range: " + newCapacity);
+        }
+        clear();
+        capacity = newCapacity;
+    }
+
+    /* capacity
+     *
+     * @return the number of slots in use
+     */
+    int capacity()
+    {
+        return capacity;
+    }
+
+    /* maxCapacity
+     *
+     * @return the most slots reset can put in use
+     */
+    int maxCapacity()
+    {
+        return keyOfSlot.length;
+    }
+
+    /* keyCount
+     *
+     * @return the number of keys
+     */
+    int keyCount()
+    {
+        return slotOfKey.length;
+    }
+
+    /* size
+     *
+     * @return the number of slots handed out
+     */
+    int size()
+    {
+        return used;
+    }
+
+    /* moveToFront
+     *
+     * Helper method that marks a slot as the most recently used.
+     *
+     * @param slot - the slot to move
+     */
+    private void moveToFront(int slot)
+    {
+        if (slot == head) return;
+        unlink(slot);
+        linkFront(slot);
+    }
+
+    /* unlink
+     *
+     * Helper method that takes a slot out of the list.
+     *
+     * @param slot - the slot to take out
+     */
+    private void unlink(int slot)
+    {
+        if (prev[slot] != NONE) next[prev[slot]] = next[slot];
+        else head = next[slot];
+        if (next[slot] != NONE) prev[next[slot]] = prev[slot];
+        else tail = prev[slot];
+    }
+
+    /* linkFront
+     *
+     * Helper method that puts a slot at the front of the list.
+     *
+     * @param slot - the slot to put in front
+     */
+    private void linkFront(int slot)
+    {
+        prev[slot] = NONE;
+        next[slot] = head;
+        if (head != NONE) prev[head] = slot;
+        head = slot;
+        if (tail == NONE) tail = slot;
+    }
+}
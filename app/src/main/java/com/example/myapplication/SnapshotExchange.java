@@ -0,0 +1,105 @@
+package com.example.myapplication;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/* SnapshotExchange Class
+ *
+ * This class passes board snapshots from the UI thread to the render thread
+ * and back again for reuse, without any locks.
+ *
+ * The UI thread obtains a spare snapshot, fills it and publishes it. If the
+ * render thread has not taken the last published snapshot yet, the new one
+ * takes its place, inherits its changed squares, and the old one goes back
+ * to the spares. The render thread takes the published snapshot and recycles
+ * the one it drew before. Only three snapshots are ever in use at once (one
+ * being filled, one waiting and one on screen), so with three spare slots a
+ * snapshot is never thrown away and nothing is allocated after the first few
+ * moves.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+final class SnapshotExchange
+{
+    /* Constant Variables */
+    // the number of snapshots kept for reuse
+    private static final int SPARES = 3;
+
+
+    /* Instance/Member Variables */
+    // the published snapshot the render thread has not taken yet
+    private final AtomicReference<BoardSnapshot> waiting = new AtomicReference<>();
+
+    // the snapshots free for the UI thread to fill
+    private final AtomicReferenceArray<BoardSnapshot> spares = new AtomicReferenceArray<>(SPARES);
+
+
+    /* obtain
+     *
+     * Returns a snapshot that no other thread is using, reusing a spare one
+     * when there is one.
+     *
+     * @return the snapshot to fill
+     */
+    BoardSnapshot obtain()
+    {
+        for (int slot = 0; slot < SPARES; slot++)
+        {
+            BoardSnapshot spare = spares.getAndSet(slot, null);
+            if (spare != null) return spare;
+        }
+        return new BoardSnapshot();
+    }
+
+    /* publish
+     *
+     * Hands a filled snapshot to the render thread. A snapshot still waiting
+     * to be drawn is replaced, its changed squares merged into the new one.
+     *
+     * @param snapshot - the filled snapshot, not to be touched after this call
+     */
+    void publish(BoardSnapshot snapshot)
+    {
+        int ownCount = snapshot.getDirtyCount();
+        boolean ownFull = snapshot.isFullRedraw();
+        BoardSnapshot replaced;
+        do
+        {
+            // merge again from scratch if the render thread took the old one meanwhile
+            replaced = waiting.get();
+            snapshot.truncateDirty(ownCount, ownFull);
+            snapshot.mergeFrom(replaced);
+        }
+        while (!waiting.compareAndSet(replaced, snapshot));
+
+        // the render thread never saw the replaced snapshot
+        if (replaced != null) recycle(replaced);
+    }
+
+    /* take
+     *
+     * Takes the published snapshot for the render thread to draw.
+     *
+     * @return the snapshot or null if nothing new was published
+     */
+    BoardSnapshot take()
+    {
+        return waiting.getAndSet(null);
+    }
+
+    /* recycle
+     *
+     * Hands a snapshot no thread is reading any more back for reuse.
+     *
+     * @param snapshot - the snapshot to reuse
+     */
+    void recycle(BoardSnapshot snapshot)
+    {
+        for (int slot = 0; slot < SPARES; slot++)
+        {
+            if (spares.compareAndSet(slot, null, snapshot)) return;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.myapplication;
+
+import com.example.myapplication.engine.Board;
+
+/* TileAnimator Class
+ *
+ * This class slides tiles from where they were drawn to where a new snapshot
+ * puts them, instead of letting them jump there on the next frame. Positions
+ * are eased with a table worked out once, so a frame only looks numbers up.
+ *
+ * Everything the animation needs is kept in primitive arrays indexed by the
+ * tile number, which only grow when the board does, so animating a frame
+ * allocates nothing. A tile that moves again while it is still sliding sets
+ * off from wherever it is drawn at that moment, so moves made faster than
+ * the slides finish are all shown and none of them jump.
+ *
+ * Positions are in squares (column and row), so panning and zooming while a
+ * tile slides does not disturb it. The animator belongs to the render thread.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+final class TileAnimator
+{
+    /* Constant Variables */
+    // how long one slide takes
+    static final long SLIDE_NANOS = 110_000_000L;
+
+    // the number of steps in the easing table
+    private static final int EASE_STEPS = 64;
+
+    // the eased progress of a slide at each step (a cubic that slows into place)
+    private static final float[] EASE = new float[EASE_STEPS + 1];
+
+    static
+    {
+        for (int step = 0; step <= EASE_STEPS; step++)
+        {
+            float remaining = 1f - (float) step / EASE_STEPS;
+            EASE[step] = 1f - remaining * remaining * remaining;
+        }
+    }
+
+
+    /* Instance/Member Variables */
+    // the number of squares per row and in total
+    private int sqPerRow;
+    private int cellCount;
+
+    // the square each tile slides to, and where and when its slide started
+    private int[] cellOf = new int[0];
+    private float[] fromCol = new float[0];
+    private float[] fromRow = new float[0];
+    private long[] startNanos = new long[0];
+
+    // the position of each sliding tile on the current frame
+    private float[] col = new float[0];
+    private float[] row = new float[0];
+
+    // the tiles sliding, and each tile's place in that list (-1 if still)
+    private int[] active = new int[0];
+    private int[] slotOf = new int[0];
+    private int activeCount;
+
+
+    /* place
+     *
+     * Puts every tile where the snapshot has it without sliding, stopping
+     * any slides underway. Used when the board is reset or resized.
+     *
+     * @param snapshot - the game state to take the positions from
+     */
+    void place(BoardSnapshot snapshot)
+    {
+        sqPerRow = snapshot.getSqPerRow();
+        cellCount = sqPerRow * sqPerRow;
+
+        // grow the arrays only when the board has more squares than ever before
+        if (cellOf.length < cellCount)
+        {
+            cellOf = new int[cellCount];
+            fromCol = new float[cellCount];
+            fromRow = new float[cellCount];
+            startNanos = new long[cellCount];
+            col = new float[cellCount];
+            row = new float[cellCount];
+            active = new int[cellCount];
+            slotOf = new int[cellCount];
+        }
+
+        // every tile rests in its square
+        for (int sqIndex = 0; sqIndex < cellCount; sqIndex++)
+        {
+            int tile = snapshot.getTile(sqIndex);
+            cellOf[tile] = sqIndex;
+            slotOf[tile] = -1;
+        }
+        activeCount = 0;
+    }
+
+    /* update
+     *
+     * Starts a slide for every tile the snapshot lists as changed that is
+     * not in the square it was last sent to. A tile already sliding sets off
+     * again from where it is now.
+     *
+     * @param snapshot - the new game state
+     * @param nowNanos - the time of the frame the slides start on
+     */
+    void update(BoardSnapshot snapshot, long nowNanos)
+    {
+        for (int position = 0; position < snapshot.getDirtyCount(); position++)
+        {
+            int sqIndex = snapshot.getDirtyCell(position);
+            int tile = snapshot.getTile(sqIndex);
+            if (cellOf[tile] == sqIndex) continue;
+
+            // the blank is drawn in its new square straight away
+            if (tile == Board.BLANK)
+            {
+                cellOf[tile] = sqIndex;
+                continue;
+            }
+
+            // start from where the tile is drawn now, which is mid slide if it is still moving
+            if (slotOf[tile] >= 0)
+            {
+                position(tile, nowNanos);
+                fromCol[tile] = col[tile];
+                fromRow[tile] = row[tile];
+            }
+            else
+            {
+                fromCol[tile] = cellOf[tile] % sqPerRow;
+                fromRow[tile] = cellOf[tile] / sqPerRow;
+                slotOf[tile] = activeCount;
+                active[activeCount++] = tile;
+            }
+            cellOf[tile] = sqIndex;
+            startNanos[tile] = nowNanos;
+        }
+    }
+
+    /* advance
+     *
+     * Works out where every sliding tile is drawn on a frame, and stops the
+     * slides that have finished. Call this after reading the area the slides
+     * cover, so the last frame of a slide still redraws its path.
+     *
+     * @param nowNanos - the time of the frame
+     */
+    void advance(long nowNanos)
+    {
+        for (int slot = activeCount - 1; slot >= 0; slot--)
+        {
+            int tile = active[slot];
+            if (position(tile, nowNanos)) continue;
+
+            // the slide is over, move the last tile in the list into its place
+            int last = active[--activeCount];
+            active[slot] = last;
+            slotOf[last] = slot;
+            slotOf[tile] = -1;
+        }
+    }
+
+    /* position
+     *
+     * Helper method that works out where a tile is drawn at a time.
+     *
+     * @param tile - the tile number
+     * @param nowNanos - the time
+     * @return whether the tile is still sliding
+     */
+    private boolean position(int tile, long nowNanos)
+    {
+        float progress = ease((float) (nowNanos - startNanos[tile]) / SLIDE_NANOS);
+        int target = cellOf[tile];
+        col[tile] = fromCol[tile] + (target % sqPerRow - fromCol[tile]) * progress;
+        row[tile] = fromRow[tile] + (target / sqPerRow - fromRow[tile]) * progress;
+        return progress < 1f;
+    }
+
+    /* ease
+     *
+     * Looks up the eased progress of a slide in the table, blending the two
+     * nearest steps.
+     *
+     * @param linear - the share of the slide's time that has passed
+     * @return the share of the distance covered
+     */
+    static float ease(float linear)
+    {
+        if (linear <= 0f) return 0f;
+        if (linear >= 1f) return 1f;
+        float scaled = linear * EASE_STEPS;
+        int step = (int) scaled;
+        return EASE[step] + (EASE[step + 1] - EASE[step]) * (scaled - step);
+    }
+
+    /* isAnimating
+     *
+     * @return whether any tile is sliding
+     */
+    boolean isAnimating()
+    {
+        return activeCount > 0;
+    }
+
+    /* isSliding
+     *
+     * @param tile - the tile number
+     * @return whether the tile is sliding, and so is not drawn in its square
+     */
+    boolean isSliding(int tile)
+    {
+        return tile < slotOf.length && slotOf[tile] >= 0;
+    }
+
+    /* getActiveCount
+     *
+     * @return the number of tiles sliding
+     */
+    int getActiveCount()
+    {
+        return activeCount;
+    }
+
+    /* getActiveTile
+     *
+     * @param slot - the place in the list of sliding tiles
+     * @return the tile number
+     */
+    int getActiveTile(int slot)
+    {
+        return active[slot];
+    }
+
+    /* getCell
+     *
+     * @param tile - the tile number
+     * @return the square the tile is sliding to, or rests in
+     */
+    int getCell(int tile)
+    {
+        return cellOf[tile];
+    }
+
+    /* getFromCol
+     *
+     * @param tile - the tile number of a sliding tile
+     * @return the column its slide started from
+     */
+    float getFromCol(int tile)
+    {
+        return fromCol[tile];
+    }
+
+    /* getFromRow
+     *
+     * @param tile - the tile number of a sliding tile
+     * @return the row its slide started from
+     */
+    float getFromRow(int tile)
+    {
+        return fromRow[tile];
+    }
+
+    /* getCol
+     *
+     * @param tile - the tile number of a sliding tile
+     * @return the column it is drawn at on the frame passed to advance
+     */
+    float getCol(int tile)
+    {
+        return col[tile];
+    }
+
+    /* getRow
+     *
+     * @param tile - the tile number of a sliding tile
+     * @return the row it is drawn at on the frame passed to advance
+     */
+    float getRow(int tile)
+    {
+        return row[tile];
+    }
+}
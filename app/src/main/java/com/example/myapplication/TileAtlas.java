@@ -0,0 +1,239 @@
+package com.example.myapplication;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+
+import com.example.myapplication.engine.Board;
+
+/* TileAtlas Class
+ *
+ * This class draws each numbered square once into a shared bitmap, one copy
+ * for every colour state, so drawing a frame is a series of bitmap copies
+ * instead of filling rectangles and laying out text for every square.
+ *
+ * A square is drawn into the atlas the first time it is needed. The atlas is
+ * only drawn again when the size of the squares changes, and it never uses
+ * more than its memory cap. Zooming changes the size on every step, so the
+ * bitmap is only made again when it has to grow and the slots are reused. On boards with more squares than fit under the
+ * cap, the squares used least recently are drawn over when space runs out.
+ *
+ * The atlas belongs to the render thread and is not safe to share.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public class TileAtlas
+{
+    /* Constant Variables */
+    // the default memory cap of the bitmap (8 MB)
+    public static final long DEFAULT_MAX_BYTES = 8L << 20;
+
+    // the widest and tallest bitmap the atlas makes
+    private static final int MAX_SIDE = 2048;
+
+    // the bytes per pixel of the bitmap
+    private static final int BYTES_PER_PIXEL = 4;
+
+    // the gap around each square and the largest number size
+    private static final int MAX_INSET = 10;
+    private static final float MAX_TEXT_SIZE = 50;
+
+
+    /* Instance/Member Variables */
+    // the colour of each colour state and the number of states
+    private final int[] stateColours;
+
+    // the memory cap of the bitmap in bytes
+    private final long maxBytes;
+
+    // the paints for the square and its number
+    private final Paint sqColor = new Paint();
+    private final Paint textColor = new Paint();
+
+    // the size of the board squares, the gap around each one and the drawn part
+    private int sqSize;
+    private int inset;
+    private int tileSize;
+
+    // the bitmap of drawn squares and the canvas that draws into it
+    private Bitmap bitmap;
+    private Canvas bitmapCanvas;
+    private int slotsPerRow;
+
+    // which square is in each slot of the bitmap
+    private SlotLru slots;
+
+    // the source and destination of each copy
+    private final Rect src = new Rect();
+    private final Rect dst = new Rect();
+
+    // the number of squares drawn into the atlas since it was built
+    private int misses;
+
+
+    /* TileAtlas
+     *
+     * Constructor for an empty atlas.
+     *
+     * @param stateColours - the colour of each colour state, indexed by the state
+     * @param maxBytes - the most memory the bitmap may use
+     */
+    public TileAtlas(int[] stateColours, long maxBytes)
+    {
+        this.stateColours = stateColours.clone();
+        this.maxBytes = maxBytes;
+
+        // initialize the text color to white
+        textColor.setColor(Color.WHITE);
+        textColor.setAntiAlias(true);
+    }
+
+    /* prepare
+     *
+     * Gets the atlas ready for squares of the given size on a board with the
+     * given number of squares. The atlas is only built again if the size of
+     * the squares changed or there are more squares than it has keys for,
+     * and the bitmap is kept if the new squares still fit in it.
+     *
+     * @param newSqSize - the size of one board square
+     * @param cellCount - the number of squares on the board
+     */
+    public void prepare(int newSqSize, int cellCount)
+    {
+        int keyCount = cellCount * stateColours.length;
+        if (bitmap != null && newSqSize == sqSize && keyCount <= slots.keyCount()) return;
+
+        // leave a gap around each square that shrinks on very small squares
+        sqSize = newSqSize;
+        inset = Math.min(MAX_INSET, sqSize / 10);
+        tileSize = Math.max(1, sqSize - 2 * inset);
+        textColor.setTextSize(Math.min(MAX_TEXT_SIZE, tileSize / 2f));
+
+        // fit as many squares as the memory cap and the largest bitmap allow
+        long tileBytes = (long) tileSize * tileSize * BYTES_PER_PIXEL;
+        int perSide = Math.max(1, MAX_SIDE / tileSize);
+        long capacity = Math.min(keyCount, Math.max(1, maxBytes / tileBytes));
+        capacity = Math.min(capacity, (long) perSide * perSide);
+        slotsPerRow = (int) Math.min(capacity, perSide);
+        int rows = (int) ((capacity + slotsPerRow - 1) / slotsPerRow);
+
+        // build a new bitmap unless the old one is large enough (every slot is
+        // drawn again before it is used, so the old pixels do not matter)
+        int width = slotsPerRow * tileSize;
+        int height = rows * tileSize;
+        if (bitmap == null || bitmap.getWidth() < width || bitmap.getHeight() < height)
+        {
+            release();
+            bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            bitmapCanvas = new Canvas(bitmap);
+        }
+        // reuse the slots unless there are more keys (they are made with room
+        // for every key, so zooming out never outgrows them)
+        if (slots == null || keyCount > slots.keyCount()) slots = new SlotLru(keyCount, keyCount);
+        slots.reset((int) capacity);
+        misses = 0;
+    }
+
+    /* draw
+     *
+     * Draws one board square onto the canvas, drawing it into the atlas
+     * first if it is not there yet.
+     *
+     * @param canvas - the canvas to draw onto
+     * @param tile - the tile number on the square (0 for the blank)
+     * @param state - the colour state of the square
+     * @param sqLeft - the left edge of the board square
+     * @param sqTop - the top edge of the board square
+     */
+    public void draw(Canvas canvas, int tile, int state, float sqLeft, float sqTop)
+    {
+        int key = tile * stateColours.length + state;
+        int slot = slots.get(key);
+        if (slot == SlotLru.NONE)
+        {
+            slot = slots.assign(key);
+            drawTile(slot, tile, state);
+        }
+
+        // copy the square out of the atlas
+        slotBounds(slot, src);
+        int left = (int) sqLeft + inset;
+        int top = (int) sqTop + inset;
+        dst.set(left, top, left + tileSize, top + tileSize);
+        canvas.drawBitmap(bitmap, src, dst, null);
+    }
+
+    /* release
+     *
+     * Frees the bitmap. The next call to prepare builds it again.
+     */
+    public void release()
+    {
+        if (bitmap != null) bitmap.recycle();
+        bitmap = null;
+        bitmapCanvas = null;
+        slots = null;
+    }
+
+    /* getCapacity
+     *
+     * @return the number of squares the atlas holds at once (0 before prepare)
+     */
+    public int getCapacity()
+    {
+        return slots == null ? 0 : slots.capacity();
+    }
+
+    /* getMisses
+     *
+     * @return the number of squares drawn into the atlas since it was built
+     */
+    public int getMisses()
+    {
+        return misses;
+    }
+
+    /* drawTile
+     *
+     * Helper method that draws a square and its number into a slot.
+     *
+     * @param slot - the slot to draw into
+     * @param tile - the tile number on the square (0 for the blank)
+     * @param state - the colour state of the square
+     */
+    private void drawTile(int slot, int tile, int state)
+    {
+        misses++;
+        slotBounds(slot, src);
+        sqColor.setColor(stateColours[state]);
+        bitmapCanvas.drawRect(src, sqColor);
+
+        // draw the number onto the square (the blank square has no number)
+        if (tile != Board.BLANK)
+        {
+            bitmapCanvas.save();
+            bitmapCanvas.clipRect(src);
+            bitmapCanvas.drawText(String.valueOf(tile), src.left + sqSize / 2 - inset,
+                    src.top + sqSize / 2 - inset, textColor);
+            bitmapCanvas.restore();
+        }
+    }
+
+    /* slotBounds
+     *
+     * Helper method that finds the area of a slot in the bitmap.
+     *
+     * @param slot - the slot
+     * @param bounds - the rectangle to fill
+     */
+    private void slotBounds(int slot, Rect bounds)
+    {
+        int left = (slot % slotsPerRow) * tileSize;
+        int top = (slot / slotsPerRow) * tileSize;
+        bounds.set(left, top, left + tileSize, top + tileSize);
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.myapplication;
+
+/* Viewport Class
+ *
+ * This class tracks the part of the board that is on screen. The board is
+ * fitted to the view to start with and can then be zoomed in, down to a
+ * readable square size, and panned around. Drawing and tapping both go
+ * through the same transform, so the square drawn under a finger is always
+ * the square the tap moves.
+ *
+ * Positions are kept in whole pixels so squares line up exactly from one
+ * frame to the next. The zoom itself is kept as a fraction and only rounded
+ * to place the board, so a slow pinch still adds up to a new square size.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public class Viewport
+{
+    /* Constant Variables */
+    // the gap between the board and the edge of the view when fitted
+    private static final int MARGIN = 25;
+
+    // the largest square size zooming in reaches
+    private static final int MAX_SQ_SIZE = 200;
+
+
+    /* Instance/Member Variables */
+    // the size of the view
+    private int viewWidth;
+    private int viewHeight;
+
+    // the number of squares per row
+    private int sqPerRow = 1;
+
+    // the size of one square when the board is fitted and right now
+    private int fitSqSize = 1;
+    private int sqSize = 1;
+
+    // the size of one square before it is rounded to a whole pixel
+    private float exactSqSize = 1;
+
+    // the position of the top left corner of the board in the view
+    private int boardLeft;
+    private int boardTop;
+
+
+    /* Viewport
+     *
+     * Constructor for a viewport of the given size.
+     *
+     * @param width - the width of the view
+     * @param height - the height of the view
+     */
+    public Viewport(int width, int height)
+    {
+        viewWidth = width;
+        viewHeight = height;
+    }
+
+    /* setViewSize
+     *
+     * Changes the size of the view and fits the board to it again.
+     *
+     * @param width - the new width of the view
+     * @param height - the new height of the view
+     */
+    public void setViewSize(int width, int height)
+    {
+        viewWidth = width;
+        viewHeight = height;
+        fit(sqPerRow);
+    }
+
+    /* fit
+     *
+     * Zooms all the way out so the whole board fits in the view.
+     *
+     * @param newSqPerRow - the number of squares per row
+     */
+    public void fit(int newSqPerRow)
+    {
+        sqPerRow = newSqPerRow;
+        fitSqSize = Math.max(1, (Math.min(viewWidth, viewHeight) - 2 * MARGIN) / sqPerRow);
+        sqSize = fitSqSize;
+        exactSqSize = fitSqSize;
+        boardLeft = MARGIN;
+        boardTop = MARGIN;
+        clamp();
+    }
+
+    /* zoom
+     *
+     * Scales the board around a point in the view, keeping that point over
+     * the same spot on the board.
+     *
+     * @param factor - how much larger the squares should get
+     * @param focusX - the x coordinate to zoom around
+     * @param focusY - the y coordinate to zoom around
+     * @return whether the view changed
+     */
+    public boolean zoom(float factor, float focusX, float focusY)
+    {
+        // add the factor to the unrounded size, so small steps are not lost
+        exactSqSize = Math.max(fitSqSize, Math.min(Math.max(fitSqSize, MAX_SQ_SIZE), exactSqSize * factor));
+        int newSqSize = Math.round(exactSqSize);
+        if (newSqSize == sqSize) return false;
+
+        // keep the focus over the same spot on the board
+        float ratio = (float) newSqSize / sqSize;
+        boardLeft = Math.round(focusX - (focusX - boardLeft) * ratio);
+        boardTop = Math.round(focusY - (focusY - boardTop) * ratio);
+        sqSize = newSqSize;
+        clamp();
+        return true;
+    }
+
+    /* pan
+     *
+     * Moves the board by a distance, stopping when an edge of the board
+     * reaches the view.
+     *
+     * @param dx - the distance to move right
+     * @param dy - the distance to move down
+     * @return whether the view changed
+     */
+    public boolean pan(float dx, float dy)
+    {
+        int oldLeft = boardLeft;
+        int oldTop = boardTop;
+        boardLeft += Math.round(dx);
+        boardTop += Math.round(dy);
+        clamp();
+        return boardLeft != oldLeft || boardTop != oldTop;
+    }
+
+    /* cellAt
+     *
+     * Finds the square under a point in the view.
+     *
+     * @param x - the x coordinate in the view
+     * @param y - the y coordinate in the view
+     * @return the index of the square or -1 if the point is off the board
+     */
+    public int cellAt(float x, float y)
+    {
+        if (x < boardLeft || y < boardTop) return -1;
+        int col = (int) ((x - boardLeft) / sqSize);
+        int row = (int) ((y - boardTop) / sqSize);
+        if (col >= sqPerRow || row >= sqPerRow) return -1;
+        return row * sqPerRow + col;
+    }
+
+    /* clamp
+     *
+     * Helper method that keeps the board from leaving the view. A board
+     * smaller than the view stays where it was fitted, a larger one may not
+     * leave a gap wider than the margin at any edge.
+     */
+    private void clamp()
+    {
+        boardLeft = clampAxis(boardLeft, viewWidth);
+        boardTop = clampAxis(boardTop, viewHeight);
+    }
+
+    /* clampAxis
+     *
+     * Helper method that keeps one coordinate of the board in range.
+     *
+     * @param position - the position of the board's edge
+     * @param viewSize - the size of the view along the same axis
+     * @return the position kept in range
+     */
+    private int clampAxis(int position, int viewSize)
+    {
+        int width = getBoardWidth();
+        if (width + 2 * MARGIN <= viewSize) return MARGIN;
+        return Math.max(viewSize - MARGIN - width, Math.min(MARGIN, position));
+    }
+
+    /* isZoomed
+     *
+     * @return whether the squares are larger than when the board is fitted
+     */
+    public boolean isZoomed()
+    {
+        return sqSize > fitSqSize;
+    }
+
+    /* getBoardLeft
+     *
+     * @return the left edge of the board in the view
+     */
+    public int getBoardLeft()
+    {
+        return boardLeft;
+    }
+
+    /* getBoardTop
+     *
+     * @return the top edge of the board in the view
+     */
+    public int getBoardTop()
+    {
+        return boardTop;
+    }
+
+    /* getBoardWidth
+     *
+     * @return the width of the whole board at the current zoom
+     */
+    public int getBoardWidth()
+    {
+        return sqSize * sqPerRow;
+    }
+
+    /* getSqSize
+     *
+     * @return the size of one square at the current zoom
+     */
+    public int getSqSize()
+    {
+        return sqSize;
+    }
+}
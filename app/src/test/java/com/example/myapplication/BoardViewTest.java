@@ -0,0 +1,112 @@
+package com.example.myapplication;
+
+import android.app.Activity;
+import android.widget.FrameLayout;
+
+import com.example.myapplication.engine.Board;
+import com.example.myapplication.engine.BoardGenerator;
+import com.example.myapplication.engine.GameSnapshot;
+import com.example.myapplication.engine.MoveLog;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Tests for BoardView that need it attached to a window, run under Robolectric.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class BoardViewTest {
+    // the size of the view and its surface
+    private static final int SURFACE_SIZE = 1150;
+
+    // the resets made before counting, and the resets counted
+    private static final int WARMUP_RESETS = 200;
+    private static final int MEASURED_RESETS = 200;
+
+    @Test
+    public void reset_allocatesNothingAfterWarmUp() throws InterruptedException {
+        assumeTrue(FrameMeter.isSupported());
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        // a 16x16 game drawn into a counting surface, with no distance text set
+        BoardView view = new BoardView(RuntimeEnvironment.getApplication(), null);
+        view.layout(0, 0, SURFACE_SIZE, SURFACE_SIZE);
+        CountingSurfaceHolder holder = new CountingSurfaceHolder(SURFACE_SIZE, SURFACE_SIZE);
+        BoardRenderer renderer = new BoardRenderer(holder);
+        view.useRenderer(renderer);
+        FrameMeter meter = new FrameMeter(renderer, holder);
+        Board board = new Board(16);
+        new BoardGenerator(7).shuffle(board);
+        assertTrue(view.resumeGame(GameSnapshot.encode(board, new MoveLog()).array()));
+
+        // warm up so the snapshots and the pool's queues exist, then count only the resets,
+        // each taking a board the pool has ready as the reset button does
+        for (int reset = 0; reset < WARMUP_RESETS; reset++) resetAndDraw(view, meter);
+        long threadId = Thread.currentThread().getId();
+        long allocated = 0;
+        for (int reset = 0; reset < MEASURED_RESETS; reset++) {
+            waitForPooledBoard(view, 16);
+            long before = threads.getThreadAllocatedBytes(threadId);
+            view.initBoard();
+            allocated += threads.getThreadAllocatedBytes(threadId) - before;
+            meter.drain(false);
+        }
+        assertEquals(MEASURED_RESETS + WARMUP_RESETS, view.getBoardPool().getHits());
+
+        // allow for the bytes reading the counter itself can take
+        assertTrue("Resets allocated " + allocated + " bytes", allocated < 1024);
+    }
+
+    @Test
+    public void reattachedView_stillBuildsBoardsAndFindsHints() throws InterruptedException {
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        FrameLayout parent = new FrameLayout(activity);
+        activity.setContentView(parent);
+        BoardView view = new BoardView(activity, null);
+
+        // leave the screen and come back, as a view kept across a recreated activity does
+        parent.addView(view);
+        parent.removeView(view);
+        parent.addView(view);
+
+        // neither the board builder nor the hint thread was left shut down
+        view.requestHint();
+        view.requestBoardSize(5);
+        for (int wait = 0; wait < 500 && view.getBoardSize() != 5; wait++) {
+            Thread.sleep(10);
+            shadowOf(activity.getMainLooper()).idle();
+        }
+        assertEquals(5, view.getBoardSize());
+        view.requestHint();
+        parent.removeView(view);
+    }
+
+    /**
+     * Resets the board once a pooled board is ready and draws the new game.
+     */
+    private static void resetAndDraw(BoardView view, FrameMeter meter) throws InterruptedException {
+        waitForPooledBoard(view, view.getBoardSize());
+        view.initBoard();
+        meter.drain(false);
+    }
+
+    /**
+     * Waits for the pool to have a board of the size ready.
+     */
+    private static void waitForPooledBoard(BoardView view, int size) throws InterruptedException {
+        for (int wait = 0; wait < 5000 && view.getBoardPool().available(size) == 0; wait++) Thread.sleep(1);
+        assertTrue(view.getBoardPool().available(size) > 0);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.myapplication;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+/**
+ * A canvas that counts the draw calls made on it instead of drawing them, so a frame's
+ * cost can be measured without any pixels being touched (and without allocating).
+ */
+class CountingCanvas extends Canvas {
+    private final int width;
+    private final int height;
+    private int drawCalls;
+    private int bitmapDraws;
+
+    CountingCanvas(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /** Starts counting a new frame. */
+    void reset() {
+        drawCalls = 0;
+        bitmapDraws = 0;
+    }
+
+    int getDrawCalls() {
+        return drawCalls;
+    }
+
+    int getBitmapDraws() {
+        return bitmapDraws;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public void drawColor(int color) {
+        drawCalls++;
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+        drawCalls++;
+    }
+
+    @Override
+    public void drawRect(Rect rect, Paint paint) {
+        drawCalls++;
+    }
+
+    @Override
+    public void drawRect(RectF rect, Paint paint) {
+        drawCalls++;
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, Rect src, Rect dst, Paint paint) {
+        drawCalls++;
+        bitmapDraws++;
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, Rect src, RectF dst, Paint paint) {
+        drawCalls++;
+        bitmapDraws++;
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+        drawCalls++;
+        bitmapDraws++;
+    }
+
+    @Override
+    public void drawText(String text, float x, float y, Paint paint) {
+        drawCalls++;
+    }
+}
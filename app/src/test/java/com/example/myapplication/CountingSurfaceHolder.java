@@ -0,0 +1,89 @@
+package com.example.myapplication;
+
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.view.Surface;
+import android.view.SurfaceHolder;
+
+/**
+ * A surface holder that hands out one counting canvas the size of its surface, so a
+ * renderer can draw frames in a test without a real surface.
+ */
+class CountingSurfaceHolder implements SurfaceHolder {
+    private final Rect frame;
+    private final CountingCanvas canvas;
+    private int locks;
+
+    CountingSurfaceHolder(int width, int height) {
+        frame = new Rect(0, 0, width, height);
+        canvas = new CountingCanvas(width, height);
+    }
+
+    CountingCanvas getCanvas() {
+        return canvas;
+    }
+
+    /** Returns the number of times a canvas was handed out, which is the number of frames drawn. */
+    int getLocks() {
+        return locks;
+    }
+
+    @Override
+    public Canvas lockCanvas() {
+        locks++;
+        return canvas;
+    }
+
+    @Override
+    public Canvas lockCanvas(Rect dirty) {
+        locks++;
+        return canvas;
+    }
+
+    @Override
+    public void unlockCanvasAndPost(Canvas canvas) {
+    }
+
+    @Override
+    public Rect getSurfaceFrame() {
+        return frame;
+    }
+
+    @Override
+    public Surface getSurface() {
+        return null;
+    }
+
+    @Override
+    public void addCallback(Callback callback) {
+    }
+
+    @Override
+    public void removeCallback(Callback callback) {
+    }
+
+    @Override
+    public boolean isCreating() {
+        return false;
+    }
+
+    @Override
+    public void setType(int type) {
+    }
+
+    @Override
+    public void setFixedSize(int width, int height) {
+    }
+
+    @Override
+    public void setSizeFromLayout() {
+    }
+
+    @Override
+    public void setFormat(int format) {
+    }
+
+    @Override
+    public void setKeepScreenOn(boolean screenOn) {
+    }
+}
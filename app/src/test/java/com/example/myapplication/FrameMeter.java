@@ -0,0 +1,108 @@
+package com.example.myapplication;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Draws a renderer's frames one after another on the test thread, a refresh apart, and
+ * measures the draw calls, allocated bytes and time of each frame that reached the surface.
+ */
+class FrameMeter {
+    /** The time between frames (60 Hz). */
+    static final long FRAME_NANOS = 16_666_667L;
+
+    // more frames than any slide takes, in case the renderer never settles
+    private static final int MAX_FRAMES = 1000;
+
+    private final BoardRenderer renderer;
+    private final CountingSurfaceHolder holder;
+    private final com.sun.management.ThreadMXBean threads;
+    private final long threadId = Thread.currentThread().getId();
+
+    // the bytes reading the allocation counter allocates itself
+    private final long probeBytes;
+
+    private long frameTimeNanos = 1_000_000_000L;
+    private long frames;
+    private int maxDrawCalls;
+    private long allocatedBytes;
+    private long drawNanos;
+
+    FrameMeter(BoardRenderer renderer, CountingSurfaceHolder holder) {
+        this.renderer = renderer;
+        this.holder = holder;
+        this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        // the smallest gap between two readings is what a reading costs
+        long smallest = Long.MAX_VALUE;
+        for (int i = 0; i < 100; i++) {
+            long before = allocated();
+            smallest = Math.min(smallest, allocated() - before);
+        }
+        probeBytes = smallest;
+    }
+
+    /** Returns whether the JVM can count the bytes a thread allocates. */
+    static boolean isSupported() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return threads instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported();
+    }
+
+    /**
+     * Draws frames until the renderer has nothing left to draw.
+     *
+     * @param measured whether the frames count toward the measurements
+     */
+    void drain(boolean measured) {
+        for (int frame = 0; frame < MAX_FRAMES; frame++) {
+            CountingCanvas canvas = holder.getCanvas();
+            canvas.reset();
+            int locks = holder.getLocks();
+
+            long before = allocated();
+            long start = System.nanoTime();
+            boolean more = renderer.drawNext(frameTimeNanos);
+            long elapsed = System.nanoTime() - start;
+            long bytes = Math.max(0, allocated() - before - probeBytes);
+            frameTimeNanos += FRAME_NANOS;
+
+            if (measured && holder.getLocks() != locks) {
+                frames++;
+                maxDrawCalls = Math.max(maxDrawCalls, canvas.getDrawCalls());
+                allocatedBytes += bytes;
+                drawNanos += elapsed;
+            }
+            if (!more) return;
+        }
+        throw new AssertionError("the renderer was still drawing after " + MAX_FRAMES + " frames");
+    }
+
+    /** Forgets the measurements so far. */
+    void reset() {
+        frames = 0;
+        maxDrawCalls = 0;
+        allocatedBytes = 0;
+        drawNanos = 0;
+    }
+
+    long getFrames() {
+        return frames;
+    }
+
+    int getMaxDrawCalls() {
+        return maxDrawCalls;
+    }
+
+    double getBytesPerFrame() {
+        return frames == 0 ? 0 : (double) allocatedBytes / frames;
+    }
+
+    double getMillisPerFrame() {
+        return frames == 0 ? 0 : drawNanos / 1e6 / frames;
+    }
+
+    private long allocated() {
+        return threads.getThreadAllocatedBytes(threadId);
+    }
+}
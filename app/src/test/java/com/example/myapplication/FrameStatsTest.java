@@ -0,0 +1,59 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for timing the frames of an animation against the display's refresh.
+ */
+public class FrameStatsTest {
+    private static final long PERIOD_60HZ = 16_666_667L;
+    private static final long PERIOD_120HZ = 8_333_333L;
+
+    // frame times count from boot, so they never start at zero
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    public void framesOnEveryRefresh_areNotLate() {
+        FrameStats stats = new FrameStats();
+        stats.setRefreshRate(60f);
+        for (int frame = 0; frame < 10; frame++) stats.record(START + frame * PERIOD_60HZ, 1_000_000L, true);
+        assertEquals(9, stats.getFrames());
+        assertEquals(0, stats.getLateFrames());
+        assertEquals(60.0, stats.getFramesPerSecond(), 0.01);
+        assertEquals(1.0, stats.getMaxDrawMillis(), 1e-9);
+    }
+
+    @Test
+    public void missedRefresh_isLateAt120HzButNotAt60Hz() {
+        FrameStats fast = new FrameStats();
+        FrameStats slow = new FrameStats();
+        fast.setRefreshRate(120f);
+        slow.setRefreshRate(60f);
+
+        // the third frame comes two 120 Hz refreshes after the second
+        long[] times = {START, START + PERIOD_120HZ, START + 3 * PERIOD_120HZ, START + 4 * PERIOD_120HZ};
+        for (long time : times) {
+            fast.record(time, 0, true);
+            slow.record(time, 0, true);
+        }
+        assertEquals(1, fast.getLateFrames());
+        assertEquals(0, slow.getLateFrames());
+        assertEquals(2 * PERIOD_120HZ / 1e6, fast.getMaxIntervalMillis(), 1e-6);
+    }
+
+    @Test
+    public void pauseBetweenSlides_isNotTimed() {
+        FrameStats stats = new FrameStats();
+        stats.record(START, 0, true);
+        stats.record(START + PERIOD_60HZ, 0, false);
+
+        // the board sat still for a second before the next slide
+        long next = START + PERIOD_60HZ + 1_000_000_000L;
+        stats.record(next, 0, true);
+        stats.record(next + PERIOD_60HZ, 0, true);
+        assertEquals(2, stats.getFrames());
+        assertEquals(0, stats.getLateFrames());
+    }
+}
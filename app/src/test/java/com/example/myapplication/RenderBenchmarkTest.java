@@ -0,0 +1,254 @@
+package com.example.myapplication;
+
+import android.content.Context;
+
+import com.example.myapplication.engine.Board;
+import com.example.myapplication.engine.BoardGenerator;
+import com.example.myapplication.engine.Direction;
+import com.example.myapplication.engine.GameSnapshot;
+import com.example.myapplication.engine.MoveLog;
+import com.example.myapplication.engine.SplitMix64;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Rendering benchmark for BoardView at every SeekBar size, gated on the draw calls and bytes
+ * allocated per frame.
+ *
+ * <p>The view is built under Robolectric and drawn through a renderer whose surface is a
+ * {@link CountingCanvas}. For each size a seeded game is resumed
+ * and warmed up, then frames that redraw the whole board and frames that slide tiles through
+ * undo and redo are measured. A size fails the gate when any frame makes more draw calls, or
+ * the frames of every measured round allocate more bytes on average, than
+ * {@code render_baseline.csv} allows. Times are
+ * written to {@code build/reports/render/render_benchmark.csv} but not gated, since they depend
+ * on the machine. Run with {@code -PupdateRenderBaseline} to save the measurements as the new
+ * baseline.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class RenderBenchmarkTest {
+    // the largest size the SeekBar offers
+    private static final int LARGEST_SIZE = 64;
+
+    // the size of the view's viewport before it is laid out, and of the surface
+    private static final int SURFACE_SIZE = 1150;
+
+    // the seed of every game and the moves made before it is resumed
+    private static final long SEED = 25;
+    private static final int WALK_MOVES = 12;
+
+    // the rounds drawn before measuring, so the atlas holds every square, and the rounds measured
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+
+    // measurement noise allowed on top of the baseline's bytes per frame
+    private static final double ALLOCATION_SLACK_BYTES = 16;
+
+    private static final String BASELINE = "render_baseline.csv";
+    private static final String HEADER = "size,fullDrawCalls,moveDrawCalls,fullBytesPerFrame,moveBytesPerFrame";
+
+    @Test
+    public void everySize_staysWithinTheDrawCallAndAllocationBaseline() throws IOException {
+        assumeTrue(FrameMeter.isSupported());
+        Context context = RuntimeEnvironment.getApplication();
+        BoardView view = new BoardView(context, null);
+        view.layout(0, 0, SURFACE_SIZE, SURFACE_SIZE);
+
+        CountingSurfaceHolder holder = new CountingSurfaceHolder(SURFACE_SIZE, SURFACE_SIZE);
+        BoardRenderer renderer = new BoardRenderer(holder);
+        view.useRenderer(renderer);
+        FrameMeter meter = new FrameMeter(renderer, holder);
+
+        Map<Integer, double[]> baseline = readBaseline();
+        StringBuilder measurements = new StringBuilder(HEADER).append('\n');
+        StringBuilder report = new StringBuilder(HEADER).append(",fullMillisPerFrame,moveMillisPerFrame\n");
+        List<String> regressions = new ArrayList<>();
+        try {
+            for (int size = Board.MIN_SIZE; size <= LARGEST_SIZE; size++) {
+                resume(view, size);
+                meter.drain(false);
+                for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                    redrawBoard(view, meter, false);
+                    slideThroughHistory(view, meter, false);
+                }
+
+                double[] full = measure(meter, () -> redrawBoard(view, meter, true));
+                double[] move = measure(meter, () -> slideThroughHistory(view, meter, true));
+                int fullDrawCalls = (int) full[0];
+                double fullBytes = full[1];
+                double fullMillis = full[2];
+                int moveDrawCalls = (int) move[0];
+                double moveBytes = move[1];
+                double moveMillis = move[2];
+
+                String row = String.format(Locale.US, "%d,%d,%d,%.1f,%.1f",
+                        size, fullDrawCalls, moveDrawCalls, fullBytes, moveBytes);
+                measurements.append(row).append('\n');
+                report.append(row).append(String.format(Locale.US, ",%.4f,%.4f%n", fullMillis, moveMillis));
+
+                double[] limits = baseline.get(size);
+                if (limits == null) {
+                    regressions.add(size + "x" + size + ": no baseline");
+                    continue;
+                }
+                check(regressions, size, "full board draw calls per frame", fullDrawCalls, limits[0]);
+                check(regressions, size, "slide draw calls per frame", moveDrawCalls, limits[1]);
+                check(regressions, size, "full board bytes per frame", fullBytes, limits[2] + ALLOCATION_SLACK_BYTES);
+                check(regressions, size, "slide bytes per frame", moveBytes, limits[3] + ALLOCATION_SLACK_BYTES);
+            }
+        } finally {
+            view.getBoardPool().shutdown();
+            write(new File("build/reports/render/render_benchmark.csv"), report.toString());
+        }
+
+        if (Boolean.getBoolean("renderBaseline.update")) {
+            write(new File("src/test/resources/" + BASELINE), measurements.toString());
+            return;
+        }
+        assertTrue(String.join("\n", regressions), regressions.isEmpty());
+    }
+
+    @Test
+    public void batchedSlide_isDrawnOnEveryRefresh() {
+        BoardView view = new BoardView(RuntimeEnvironment.getApplication(), null);
+        view.layout(0, 0, SURFACE_SIZE, SURFACE_SIZE);
+        CountingSurfaceHolder holder = new CountingSurfaceHolder(SURFACE_SIZE, SURFACE_SIZE);
+        BoardRenderer renderer = new BoardRenderer(holder);
+        view.useRenderer(renderer);
+        FrameMeter meter = new FrameMeter(renderer, holder);
+
+        // three moves the same way, which undo and redo slide as one run of three tiles
+        Board board = new Board(4);
+        MoveLog log = new MoveLog();
+        for (int move = 0; move < 3; move++) {
+            board.move(Direction.LEFT);
+            log.record(Direction.LEFT);
+        }
+        assertTrue(view.resumeGame(GameSnapshot.encode(board, log).array()));
+        meter.drain(false);
+
+        try {
+            assertTrue(view.undoMove());
+            meter.drain(false);
+            assertTrue(view.redoMove());
+            meter.drain(false);
+        } finally {
+            view.getBoardPool().shutdown();
+        }
+
+        // every frame of both slides came one refresh after the last
+        FrameStats stats = view.getFrameStats();
+        long framesPerSlide = TileAnimator.SLIDE_NANOS / FrameMeter.FRAME_NANOS;
+        assertTrue(stats.getFrames() >= 2 * (framesPerSlide - 1));
+        assertEquals(0, stats.getLateFrames());
+        assertEquals(60.0, stats.getFramesPerSecond(), 0.1);
+    }
+
+    /** Resumes a seeded game of the size, a few moves in so undo and redo have slides to make. */
+    private static void resume(BoardView view, int size) {
+        Board board = new Board(size);
+        new BoardGenerator(SplitMix64.valueAt(SEED, size)).shuffle(board);
+        SplitMix64 random = new SplitMix64(SplitMix64.valueAt(SEED + 1, size));
+        MoveLog log = new MoveLog();
+        int last = Direction.NONE;
+        for (int move = 0; move < WALK_MOVES; move++) {
+            int direction = random.nextInt(Direction.COUNT);
+            while (direction == Direction.opposite(last) || !board.canMove(direction)) {
+                direction = random.nextInt(Direction.COUNT);
+            }
+            board.move(direction);
+            log.record(direction);
+            last = direction;
+        }
+        assertTrue(view.resumeGame(GameSnapshot.encode(board, log).array()));
+    }
+
+    /**
+     * Measures the rounds one at a time, keeping the most draw calls of any round but the fewest
+     * bytes and milliseconds, so a stray allocation or pause in one round is not taken for a
+     * regression while one that happens every frame still is.
+     *
+     * @return the draw calls, bytes and milliseconds per frame
+     */
+    private static double[] measure(FrameMeter meter, Runnable round) {
+        double[] measured = {0, Double.MAX_VALUE, Double.MAX_VALUE};
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            meter.reset();
+            round.run();
+            measured[0] = Math.max(measured[0], meter.getMaxDrawCalls());
+            measured[1] = Math.min(measured[1], meter.getBytesPerFrame());
+            measured[2] = Math.min(measured[2], meter.getMillisPerFrame());
+        }
+        return measured;
+    }
+
+    /** Draws the whole board again, as a reset or a finished hint does. */
+    private static void redrawBoard(BoardView view, FrameMeter meter, boolean measured) {
+        view.sqCorrectPosition();
+        meter.drain(measured);
+    }
+
+    /** Undoes every slide of the game and redoes them, drawing each slide to its end. */
+    private static void slideThroughHistory(BoardView view, FrameMeter meter, boolean measured) {
+        while (view.undoMove()) meter.drain(measured);
+        while (view.redoMove()) meter.drain(measured);
+    }
+
+    private static void check(List<String> regressions, int size, String measure, double measured, double limit) {
+        if (measured > limit) {
+            regressions.add(String.format(Locale.US, "%dx%d: %s rose to %.1f (baseline %.1f)",
+                    size, size, measure, measured, limit));
+        }
+    }
+
+    /** Reads the limits of every size from the baseline, skipping comments and the header. */
+    private static Map<Integer, double[]> readBaseline() throws IOException {
+        Map<Integer, double[]> baseline = new HashMap<>();
+        InputStream input = RenderBenchmarkTest.class.getClassLoader().getResourceAsStream(BASELINE);
+        if (input == null) return baseline;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#") || line.startsWith("size")) continue;
+                String[] fields = line.split(",");
+                double[] limits = new double[fields.length - 1];
+                for (int i = 1; i < fields.length; i++) limits[i - 1] = Double.parseDouble(fields[i]);
+                baseline.put(Integer.parseInt(fields[0]), limits);
+            }
+        }
+        return baseline;
+    }
+
+    private static void write(File file, String text) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Could not create " + parent);
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write(text);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Tests for the least recently used slots behind the tile atlas.
+ */
+public class SlotLruTest
+{
+    @Test
+    public void assign_usesFreeSlotsFirst()
+    {
+        SlotLru slots = new SlotLru(3, 10);
+        assertEquals(0, slots.assign(4));
+        assertEquals(1, slots.assign(7));
+        assertEquals(2, slots.assign(2));
+        assertEquals(3, slots.size());
+        assertEquals(1, slots.get(7));
+        assertEquals(SlotLru.NONE, slots.get(5));
+    }
+
+    @Test
+    public void assign_evictsLeastRecentlyUsed()
+    {
+        SlotLru slots = new SlotLru(3, 10);
+        int first = slots.assign(1);
+        slots.assign(2);
+        slots.assign(3);
+
+        // touching key 1 leaves key 2 as the least recently used
+        slots.get(1);
+        int reused = slots.assign(4);
+        assertEquals(SlotLru.NONE, slots.get(2));
+        assertNotEquals(first, reused);
+        assertEquals(first, slots.get(1));
+        assertEquals(reused, slots.get(4));
+
+        // key 3 is next, then key 1
+        slots.assign(5);
+        assertEquals(SlotLru.NONE, slots.get(3));
+        assertEquals(first, slots.get(1));
+    }
+
+    @Test
+    public void clear_freesEverySlot()
+    {
+        SlotLru slots = new SlotLru(2, 4);
+        slots.assign(0);
+        slots.assign(3);
+        slots.clear();
+        assertEquals(0, slots.size());
+        assertEquals(SlotLru.NONE, slots.get(0));
+        assertEquals(0, slots.assign(3));
+    }
+
+    @Test
+    public void reset_changesTheSlotsInUseWithoutNewArrays()
+    {
+        SlotLru slots = new SlotLru(4, 8);
+        for (int key = 0; key < 4; key++) slots.assign(key);
+
+        // fewer slots, so the third key takes back the least recently used one
+        slots.reset(2);
+        assertEquals(2, slots.capacity());
+        assertEquals(4, slots.maxCapacity());
+        assertEquals(SlotLru.NONE, slots.get(3));
+        int first = slots.assign(5);
+        slots.assign(6);
+        assertEquals(first, slots.assign(7));
+        assertEquals(SlotLru.NONE, slots.get(5));
+
+        // and back up to every slot
+        slots.reset(4);
+        for (int key = 0; key < 4; key++) assertEquals(key, slots.assign(key));
+    }
+}
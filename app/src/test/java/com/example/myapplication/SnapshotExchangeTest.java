@@ -0,0 +1,75 @@
+package com.example.myapplication;
+
+import com.example.myapplication.engine.Board;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for passing snapshots between the UI and render threads and reusing
+ * them.
+ */
+public class SnapshotExchangeTest {
+    @Test
+    public void publish_mergesSnapshotThatWasNotDrawn() {
+        SnapshotExchange exchange = new SnapshotExchange();
+        Board board = new Board(4);
+
+        BoardSnapshot first = exchange.obtain();
+        first.fill(board, -1, 0, 0, 400, 100);
+        first.markDirty(3);
+        first.markDirty(7);
+        exchange.publish(first);
+
+        BoardSnapshot second = exchange.obtain();
+        second.fill(board, -1, 0, 0, 400, 100);
+        second.markDirty(11);
+        exchange.publish(second);
+
+        // the render thread only sees the second snapshot, with all three squares
+        assertSame(second, exchange.take());
+        assertNull(exchange.take());
+        assertEquals(3, second.getDirtyCount());
+        assertEquals(11, second.getDirtyCell(0));
+        assertEquals(3, second.getDirtyCell(1));
+        assertEquals(7, second.getDirtyCell(2));
+
+        // the replaced snapshot is reused
+        assertSame(first, exchange.obtain());
+    }
+
+    @Test
+    public void publish_keepsFullRedrawOfReplacedSnapshot() {
+        SnapshotExchange exchange = new SnapshotExchange();
+        Board board = new Board(3);
+
+        BoardSnapshot first = exchange.obtain();
+        first.fill(board, -1, 0, 0, 300, 100);
+        first.markFullRedraw();
+        exchange.publish(first);
+
+        BoardSnapshot second = exchange.obtain();
+        second.fill(board, -1, 0, 0, 300, 100);
+        second.markDirty(1);
+        exchange.publish(second);
+        assertTrue(exchange.take().isFullRedraw());
+    }
+
+    @Test
+    public void markDirty_fallsBackToFullRedrawWhenListFills() {
+        BoardSnapshot snapshot = new BoardSnapshot();
+        snapshot.fill(new Board(32), -1, 0, 0, 1024, 32);
+        snapshot.markDirty(-1);
+        snapshot.markDirty(32 * 32);
+        assertEquals(0, snapshot.getDirtyCount());
+        for (int index = 0; index < BoardSnapshot.MAX_DIRTY; index++) snapshot.markDirty(index);
+        assertFalse(snapshot.isFullRedraw());
+        snapshot.markDirty(0);
+        assertTrue(snapshot.isFullRedraw());
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.myapplication;
+
+import com.example.myapplication.engine.Board;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for sliding moved tiles into place between snapshots.
+ */
+public class TileAnimatorTest {
+    private static final long SLIDE = TileAnimator.SLIDE_NANOS;
+
+    @Test
+    public void ease_runsFromZeroToOneWithoutGoingBack() {
+        assertEquals(0f, TileAnimator.ease(-1f), 0f);
+        assertEquals(1f, TileAnimator.ease(2f), 0f);
+        float last = 0f;
+        for (int step = 1; step <= 1000; step++) {
+            float eased = TileAnimator.ease(step / 1000f);
+            assertTrue(eased >= last);
+            last = eased;
+        }
+        assertEquals(1f, last, 1e-6f);
+    }
+
+    @Test
+    public void update_slidesTheWholeRunAndFinishes() {
+        Board board = new Board(4);
+        TileAnimator animator = new TileAnimator();
+        animator.place(snapshot(board, 15, 15));
+
+        // slide the three tiles above the blank down in one go
+        assertEquals(3, board.slideTo(3));
+        animator.update(snapshot(board, 3, 15), 1000);
+        assertEquals(3, animator.getActiveCount());
+        assertTrue(animator.isSliding(4));
+        assertFalse(animator.isSliding(Board.BLANK));
+
+        // halfway through, tile 4 is between row 0 and row 1 of the last column
+        animator.advance(1000 + SLIDE / 2);
+        assertEquals(3f, animator.getCol(4), 0f);
+        float row = animator.getRow(4);
+        assertTrue(row > 0.5f && row < 1f);
+
+        // once the slide is over every tile rests in its square
+        animator.advance(1000 + SLIDE);
+        assertFalse(animator.isAnimating());
+        assertEquals(7, animator.getCell(4));
+    }
+
+    @Test
+    public void update_setsOffAgainFromMidSlide() {
+        Board board = new Board(3);
+        TileAnimator animator = new TileAnimator();
+        animator.place(snapshot(board, 8, 8));
+
+        // tile 8 slides right, then back left before it gets there
+        board.slideTo(7);
+        animator.update(snapshot(board, 7, 8), 0);
+        animator.advance(SLIDE / 4);
+        float midway = animator.getCol(8);
+        board.slideTo(8);
+        animator.update(snapshot(board, 7, 8), SLIDE / 4);
+        assertEquals(midway, animator.getFromCol(8), 0f);
+        assertEquals(7, animator.getCell(8));
+        assertEquals(1, animator.getActiveCount());
+
+        animator.advance(SLIDE / 4 + SLIDE);
+        assertFalse(animator.isAnimating());
+    }
+
+    private static BoardSnapshot snapshot(Board board, int firstIndex, int lastIndex) {
+        BoardSnapshot snapshot = new BoardSnapshot();
+        snapshot.fill(board, -1, 0, 0, 400, 100);
+        int step = firstIndex / board.getSize() == lastIndex / board.getSize() ? 1 : board.getSize();
+        for (int index = Math.min(firstIndex, lastIndex); index <= Math.max(firstIndex, lastIndex); index += step) {
+            snapshot.markDirty(index);
+        }
+        return snapshot;
+    }
+}
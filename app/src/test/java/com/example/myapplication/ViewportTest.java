@@ -0,0 +1,87 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for fitting, zooming, panning and hit-testing the board on screen.
+ */
+public class ViewportTest {
+    @Test
+    public void fit_matchesTheFixedBoardOnATabletSizedView() {
+        Viewport viewport = new Viewport(1150, 1150);
+        viewport.fit(4);
+        assertEquals(275, viewport.getSqSize());
+        assertEquals(1100, viewport.getBoardWidth());
+        assertEquals(25, viewport.getBoardLeft());
+        assertEquals(25, viewport.getBoardTop());
+        assertFalse(viewport.isZoomed());
+    }
+
+    @Test
+    public void cellAt_followsPanAndZoom() {
+        Viewport viewport = new Viewport(1150, 1150);
+        viewport.fit(64);
+        assertEquals(0, viewport.cellAt(26, 26));
+        assertEquals(-1, viewport.cellAt(10, 26));
+        assertEquals(64 * 64 - 1, viewport.cellAt(25 + 64 * 17 - 1, 25 + 64 * 17 - 1));
+
+        // zoom around a point and it stays over the same square
+        int before = viewport.cellAt(600, 400);
+        assertTrue(viewport.zoom(5, 600, 400));
+        assertTrue(viewport.isZoomed());
+        assertEquals(before, viewport.cellAt(600, 400));
+
+        // pan by exactly one square and the square under the point moves by one column
+        int sqSize = viewport.getSqSize();
+        assertTrue(viewport.pan(-sqSize, 0));
+        assertEquals(before + 1, viewport.cellAt(600, 400));
+    }
+
+    @Test
+    public void pan_stopsAtTheEdgeOfTheBoard() {
+        Viewport viewport = new Viewport(1000, 1000);
+        viewport.fit(10);
+        assertFalse(viewport.pan(100, 100));
+
+        // zoomed in, the board can not be pulled away from the top left corner
+        viewport.zoom(4, 0, 0);
+        assertFalse(viewport.pan(500, 500));
+        assertEquals(25, viewport.getBoardLeft());
+
+        // nor past the bottom right corner
+        viewport.pan(-100000, -100000);
+        assertEquals(1000 - 25, viewport.getBoardLeft() + viewport.getBoardWidth());
+        assertEquals(1000 - 25, viewport.getBoardTop() + viewport.getBoardWidth());
+    }
+
+    @Test
+    public void zoom_staysBetweenFittedAndLargestSquares() {
+        Viewport viewport = new Viewport(1150, 1150);
+        viewport.fit(32);
+        int fitted = viewport.getSqSize();
+        assertFalse(viewport.zoom(0.5f, 500, 500));
+        assertEquals(fitted, viewport.getSqSize());
+        viewport.zoom(100, 500, 500);
+        assertEquals(200, viewport.getSqSize());
+    }
+
+    @Test
+    public void zoom_addsUpSlowPinchesOnALargeBoard() {
+        Viewport viewport = new Viewport(1150, 1150);
+        viewport.fit(64);
+        int fitted = viewport.getSqSize();
+
+        // each step is too small to change a whole pixel on its own
+        assertFalse(viewport.zoom(1.02f, 500, 500));
+        int changed = 0;
+        for (int step = 0; step < 10; step++) {
+            if (viewport.zoom(1.02f, 500, 500)) changed++;
+        }
+        assertTrue(changed > 0);
+        assertTrue(viewport.getSqSize() > fitted);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.myapplication.benchmarks;
+
+import com.example.myapplication.engine.Board;
+import com.example.myapplication.engine.BoardGenerator;
+import com.example.myapplication.engine.Direction;
+import com.example.myapplication.engine.Inversions;
+import com.example.myapplication.engine.SplitMix64;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/* BoardBenchmark Class
+ *
+ * This class measures the paths BoardView used to own, on the engine and on
+ * the legacy board side by side: generating a board (initBoard), checking it
+ * can be solved (isSolvable), counting its inversions (getInversionCount),
+ * making a tapped move (checkSwap) and recolouring after a move
+ * (sqCorrectPosition). The engine only looks at the two squares a move
+ * changes, where the legacy board recolours every square.
+ *
+ * Moves are taps on a random neighbour of the blank, drawn from a seeded
+ * generator so every run makes the same moves.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BoardBenchmark
+{
+    /* Instance/Member Variables */
+    // the number of squares per row
+    @Param({"3", "4", "8", "16", "32", "64"})
+    public int size;
+
+    // the engine board and its generator, and the legacy board
+    private Board board;
+    private BoardGenerator generator;
+    private LegacyBoard legacy;
+
+    // a shuffled layout and the scratch tree for counting its inversions
+    private short[] layout;
+    private int[] tree;
+
+    // the taps of the move benchmarks
+    private SplitMix64 taps;
+
+
+    /* setUp
+     *
+     * Shuffles the boards every benchmark starts from.
+     */
+    @Setup
+    public void setUp()
+    {
+        generator = new BoardGenerator(1);
+        board = new Board(size);
+        generator.shuffle(board);
+        legacy = new LegacyBoard(size, 1);
+        taps = new SplitMix64(2);
+
+        layout = new short[board.getCellCount()];
+        for (int index = 0; index < layout.length; index++) layout[index] = (short) board.getTile(index);
+        tree = new int[layout.length];
+    }
+
+    @Benchmark
+    public long initBoard_engine()
+    {
+        generator.shuffle(board);
+        return board.getHash();
+    }
+
+    @Benchmark
+    public int initBoard_legacy()
+    {
+        legacy.initBoard();
+        return legacy.getBlankIndex();
+    }
+
+    @Benchmark
+    public boolean isSolvable_engine()
+    {
+        return board.isSolvable();
+    }
+
+    @Benchmark
+    public boolean isSolvable_legacy()
+    {
+        return legacy.isSolvable();
+    }
+
+    @Benchmark
+    public long getInversionCount_engine()
+    {
+        return Inversions.count(layout, tree);
+    }
+
+    @Benchmark
+    public int getInversionCount_legacy()
+    {
+        return legacy.getInversionCount();
+    }
+
+    @Benchmark
+    public boolean checkSwap_engine()
+    {
+        return board.moveTile(nextTap(board.getBlankIndex()));
+    }
+
+    @Benchmark
+    public boolean checkSwap_legacy()
+    {
+        return legacy.checkSwap(nextTap(legacy.getBlankIndex()));
+    }
+
+    @Benchmark
+    public boolean sqCorrectPosition_engine()
+    {
+        // only the blank's square and the square next to it that a move swaps can change colour
+        int blank = board.getBlankIndex();
+        return board.isTileCorrect(blank) & board.isTileCorrect(nextTap(blank)) & board.isSolved();
+    }
+
+    @Benchmark
+    public boolean sqCorrectPosition_legacy()
+    {
+        legacy.sqCorrectPosition();
+        return legacy.isSolved();
+    }
+
+    /* nextTap
+     *
+     * Helper method that picks a random square next to the blank.
+     *
+     * @param blank - the index of the blank
+     * @return the index of the square to tap
+     */
+    private int nextTap(int blank)
+    {
+        while (true)
+        {
+            int direction = taps.nextInt(Direction.COUNT);
+            int row = blank / size + Direction.rowDelta(direction);
+            int col = blank % size + Direction.colDelta(direction);
+            if (row >= 0 && row < size && col >= 0 && col < size) return row * size + col;
+        }
+    }
+}
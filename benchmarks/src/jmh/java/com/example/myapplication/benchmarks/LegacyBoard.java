@@ -0,0 +1,241 @@
+package com.example.myapplication.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+/* LegacyBoard Class
+ *
+ * This class keeps the game logic BoardView had before the engine existed,
+ * so the benchmarks can measure it next to the engine that replaced it. The
+ * board is a list of square objects rebuilt on every shuffle, a shuffle is
+ * retried until it is solvable, solvability counts every pair of tiles, and
+ * every swap recolours every square.
+ *
+ * Only the drawing is left out (a square keeps a flag in place of its
+ * paint), and the hard-coded 16 for the blank and the inversion loop that
+ * stopped one square short are fixed so every board size can be measured.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+final class LegacyBoard
+{
+    /* Instance/Member Variables */
+    // the size of the rows, the index of the last square and the number on the blank
+    private final int sqPerRow;
+    private final int sqTotal;
+    private final int blankNumber;
+
+    // the shuffle of every new board
+    private final Random random;
+
+    // the squares in the game
+    private ArrayList<Square> board;
+
+    // track if the game is over
+    private boolean solved;
+
+    // track where the empty square is
+    private int blankSqRow, blankSqCol, blankSqIndex;
+
+
+    /* LegacyBoard
+     *
+     * Constructor for LegacyBoard that shuffles a first board.
+     *
+     * @param sqPerRow - the number of squares per row
+     * @param seed - the seed of the shuffles
+     */
+    LegacyBoard(int sqPerRow, long seed)
+    {
+        this.sqPerRow = sqPerRow;
+        this.sqTotal = sqPerRow * sqPerRow - 1;
+        this.blankNumber = sqTotal + 1;
+        this.random = new Random(seed);
+        initBoard();
+    }
+
+    /* initBoard
+     *
+     * Initialize the board to a random setup, shuffling again until it can
+     * be solved.
+     */
+    void initBoard()
+    {
+        // initialize the list of numbers that a square can hold as a value
+        ArrayList<Integer> sqNumbers = new ArrayList<>();
+        for (int sqNum = 1; sqNum <= sqTotal + 1; sqNum++) sqNumbers.add(sqNum);
+
+        // shuffle the board to create random numbering
+        Collections.shuffle(sqNumbers, random);
+
+        // instantiate the list of squares via the randomly shuffled integers
+        board = new ArrayList<>();
+        int sqIndex = 0;
+        for (int row = 0; row < sqPerRow; row++)
+        {
+            for (int col = 0; col < sqPerRow; col++)
+            {
+                board.add(new Square(sqNumbers.get(sqIndex)));
+
+                // determine the current values of the blank square
+                if (sqNumbers.get(sqIndex) == blankNumber)
+                {
+                    blankSqRow = row;
+                    blankSqCol = col;
+                    blankSqIndex = sqIndex;
+                }
+                sqIndex++;
+            }
+        }
+
+        // if unable to solve, call the initialization again
+        if (!isSolvable()) initBoard();
+
+        // determine if any squares are in the correct position
+        sqCorrectPosition();
+    }
+
+    /* sqCorrectPosition
+     *
+     * Recolours every square by whether it is in its correct place.
+     */
+    void sqCorrectPosition()
+    {
+        solved = true;
+        for (int sqNum = 0; sqNum <= sqTotal; sqNum++)
+        {
+            Square currSq = board.get(sqNum);
+            currSq.correct = currSq.sqNumber - 1 == sqNum;
+            if (!currSq.correct) solved = false;
+        }
+    }
+
+    /* checkSwap
+     *
+     * Swaps the square at the index into the blank if it is next to it.
+     *
+     * @param sqIndex - the index of the square tapped
+     * @return whether the swap was successful
+     */
+    boolean checkSwap(int sqIndex)
+    {
+        int sqTapRow = sqIndex / sqPerRow;
+        int sqTapCol = sqIndex % sqPerRow;
+        Square sqTapped = board.get(sqIndex);
+
+        // verify the square is not empty and is next to the blank
+        if (sqTapped.sqNumber == blankNumber) return false;
+        if (!surroundsBlank(sqTapRow, sqTapCol)) return false;
+        swap(sqIndex, sqTapped, sqTapRow, sqTapCol);
+        return true;
+    }
+
+    /* surroundsBlank
+     *
+     * @param sqTapRow - the row of the square that was tapped
+     * @param sqTapCol - the column of the square that was tapped
+     * @return whether the location surrounds the blank square
+     */
+    private boolean surroundsBlank(int sqTapRow, int sqTapCol)
+    {
+        if (sqTapRow == blankSqRow) return Math.abs(blankSqCol - sqTapCol) == 1;
+        if (sqTapCol == blankSqCol) return Math.abs(blankSqRow - sqTapRow) == 1;
+        return false;
+    }
+
+    /* swap
+     *
+     * Helper method that swaps the tapped square with the blank and
+     * recolours the board.
+     *
+     * @param sqIndex - the index of the square that was tapped
+     * @param sqTapped - the square that was tapped
+     * @param sqTapRow - the row position of the square tapped
+     * @param sqTapCol - the column position of the square tapped
+     */
+    private void swap(int sqIndex, Square sqTapped, int sqTapRow, int sqTapCol)
+    {
+        int swapSqNum = sqTapped.sqNumber;
+        sqTapped.sqNumber = blankNumber;
+        board.get(blankSqIndex).sqNumber = swapSqNum;
+
+        // reset the blank square values
+        blankSqIndex = sqIndex;
+        blankSqRow = sqTapRow;
+        blankSqCol = sqTapCol;
+
+        // determine if the new board is correct
+        sqCorrectPosition();
+    }
+
+    /* isSolvable
+     *
+     * @return whether the board can be solved
+     */
+    boolean isSolvable()
+    {
+        boolean inversionOdd = getInversionCount() % 2 != 0;
+
+        // on odd rows the inversions must be even, on even rows it depends on the blank's row
+        if (sqPerRow % 2 != 0) return !inversionOdd;
+        return blankSqRow % 2 != 0 ? !inversionOdd : inversionOdd;
+    }
+
+    /* getInversionCount
+     *
+     * Counts the inversions by comparing every pair of squares.
+     *
+     * @return the inversion count
+     */
+    int getInversionCount()
+    {
+        int count = 0;
+        for (int x = 0; x <= sqTotal; x++)
+        {
+            for (int y = x + 1; y <= sqTotal; y++)
+            {
+                // ensure the blank square is not viewed
+                if (x == blankSqIndex || y == blankSqIndex) continue;
+                if (board.get(x).sqNumber > board.get(y).sqNumber) count++;
+            }
+        }
+        return count;
+    }
+
+    /* getBlankIndex
+     *
+     * @return the index of the blank square
+     */
+    int getBlankIndex()
+    {
+        return blankSqIndex;
+    }
+
+    /* isSolved
+     *
+     * @return whether every square is in its correct place
+     */
+    boolean isSolved()
+    {
+        return solved;
+    }
+
+    /* Square Class
+     *
+     * A square of the board without its drawing.
+     */
+    private static final class Square
+    {
+        // the number on the square and whether it is in its correct place
+        int sqNumber;
+        boolean correct;
+
+        Square(int sqNumber)
+        {
+            this.sqNumber = sqNumber;
+        }
+    }
+}
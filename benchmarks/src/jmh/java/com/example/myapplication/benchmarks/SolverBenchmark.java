@@ -0,0 +1,220 @@
+package com.example.myapplication.benchmarks;
+
+import com.example.myapplication.engine.Board;
+import com.example.myapplication.engine.BoardGenerator;
+import com.example.myapplication.engine.Direction;
+import com.example.myapplication.engine.IdaStarSolver;
+import com.example.myapplication.engine.ManhattanLinearConflict;
+import com.example.myapplication.engine.MoveSink;
+import com.example.myapplication.engine.ParallelIdaStarSolver;
+import com.example.myapplication.engine.ReductionSolver;
+import com.example.myapplication.engine.SplitMix64;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/* SolverBenchmark Class
+ *
+ * This class measures the solvers on a fixed corpus of seeded boards, so two
+ * runs always solve the same boards. The 3x3 corpus is uniformly shuffled,
+ * and the 4x4 corpus is scrambled by a walk of a fixed number of moves so
+ * every board is solved in milliseconds rather than anywhere from
+ * milliseconds to minutes. The parallel solver is measured at several
+ * thread counts on the 4x4 corpus to show how it scales, and the reduction
+ * solver on one uniformly shuffled board of each large size.
+ *
+ * One operation solves the whole corpus.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SolverBenchmark
+{
+    /* Constant Variables */
+    // the boards in each corpus and the seed they come from
+    private static final int CORPUS_BOARDS = 8;
+    private static final long CORPUS_SEED = 1;
+
+    // the length of the walk that scrambles each 4x4 board
+    private static final int WALK_MOVES = 80;
+
+    // long enough that no board in the corpus gives up
+    private static final long TIME_LIMIT_MILLIS = 60000;
+
+
+    /* Corpus Class
+     *
+     * The seeded boards shared by every solver benchmark.
+     */
+    @State(Scope.Benchmark)
+    public static class Corpus
+    {
+        Board[] eights;
+        Board[] fifteens;
+
+        @Setup
+        public void setUp()
+        {
+            BoardGenerator generator = new BoardGenerator(CORPUS_SEED);
+            SplitMix64 random = new SplitMix64(CORPUS_SEED);
+            eights = new Board[CORPUS_BOARDS];
+            fifteens = new Board[CORPUS_BOARDS];
+            for (int i = 0; i < CORPUS_BOARDS; i++)
+            {
+                eights[i] = new Board(3);
+                generator.shuffle(eights[i]);
+                fifteens[i] = new Board(4);
+                walk(fifteens[i], random);
+            }
+        }
+    }
+
+    /* Sequential Class
+     *
+     * The single threaded IDA* solver.
+     */
+    @State(Scope.Thread)
+    public static class Sequential
+    {
+        IdaStarSolver solver;
+
+        @Setup
+        public void setUp()
+        {
+            solver = new IdaStarSolver();
+            solver.setTimeLimitMillis(TIME_LIMIT_MILLIS);
+        }
+    }
+
+    /* Parallel Class
+     *
+     * The parallel IDA* solver at each thread count.
+     */
+    @State(Scope.Benchmark)
+    public static class Parallel
+    {
+        @Param({"1", "2", "4", "8"})
+        public int parallelism;
+
+        ParallelIdaStarSolver solver;
+
+        @Setup
+        public void setUp()
+        {
+            solver = new ParallelIdaStarSolver(new ManhattanLinearConflict(), parallelism);
+            solver.setTimeLimitMillis(TIME_LIMIT_MILLIS);
+        }
+
+        @TearDown
+        public void tearDown()
+        {
+            solver.shutdown();
+        }
+    }
+
+    /* Reduction Class
+     *
+     * The reduction solver and a shuffled board of each large size.
+     */
+    @State(Scope.Thread)
+    public static class Reduction
+    {
+        @Param({"8", "16", "32", "64"})
+        public int size;
+
+        Board board;
+        final ReductionSolver solver = new ReductionSolver();
+
+        // counts the moves without keeping them
+        long moves;
+        final MoveSink counter = direction -> {
+            moves++;
+            return true;
+        };
+
+        @Setup
+        public void setUp()
+        {
+            board = new Board(size);
+            new BoardGenerator(CORPUS_SEED).shuffle(board);
+        }
+    }
+
+    @Benchmark
+    public long idaStar_3x3(Corpus corpus, Sequential sequential)
+    {
+        return solveAll(corpus.eights, sequential.solver, null);
+    }
+
+    @Benchmark
+    public long idaStar_4x4(Corpus corpus, Sequential sequential)
+    {
+        return solveAll(corpus.fifteens, sequential.solver, null);
+    }
+
+    @Benchmark
+    public long parallelIdaStar_4x4(Corpus corpus, Parallel parallel)
+    {
+        return solveAll(corpus.fifteens, null, parallel.solver);
+    }
+
+    @Benchmark
+    public long reduction(Reduction reduction)
+    {
+        return reduction.solver.solve(reduction.board, reduction.counter);
+    }
+
+    /* solveAll
+     *
+     * Helper method that solves every board of a corpus with one of the solvers.
+     *
+     * @param boards - the corpus
+     * @param sequential - the sequential solver or null
+     * @param parallel - the parallel solver or null
+     * @return the total length of the solutions
+     */
+    private static long solveAll(Board[] boards, IdaStarSolver sequential, ParallelIdaStarSolver parallel)
+    {
+        long moves = 0;
+        for (Board board : boards)
+        {
+            moves += (sequential != null ? sequential.solve(board) : parallel.solve(board)).getLength();
+        }
+        return moves;
+    }
+
+    /* walk
+     *
+     * Helper method that scrambles a solved board with random moves that
+     * never undo the move before.
+     *
+     * @param board - the board to scramble
+     * @param random - the source of the moves
+     */
+    private static void walk(Board board, SplitMix64 random)
+    {
+        int last = Direction.NONE;
+        for (int move = 0; move < WALK_MOVES; move++)
+        {
+            int direction = random.nextInt(Direction.COUNT);
+            while (direction == Direction.opposite(last) || !board.canMove(direction))
+            {
+                direction = random.nextInt(Direction.COUNT);
+            }
+            board.move(direction);
+            last = direction;
+        }
+    }
+}
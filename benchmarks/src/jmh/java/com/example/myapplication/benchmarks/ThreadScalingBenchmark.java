@@ -0,0 +1,148 @@
+package com.example.myapplication.benchmarks;
+
+import com.example.myapplication.engine.Board;
+import com.example.myapplication.engine.BoardGenerator;
+import com.example.myapplication.engine.Direction;
+import com.example.myapplication.engine.SplitMix64;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+
+/* ThreadScalingBenchmark Class
+ *
+ * This class measures how board generation and moves scale as more threads
+ * run them at once, as they do when the pool refills on several cores. Every
+ * thread has its own board and generator, so the only thing shared is the
+ * machine; throughput that does not grow with the threads points at memory
+ * bandwidth or false sharing rather than locking.
+ *
+ * JMH reports the total throughput of all the threads of a benchmark.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ThreadScalingBenchmark
+{
+    /* Instance/Member Variables */
+    // the number of squares per row
+    @Param({"4", "32"})
+    public int size;
+
+    // this thread's board, generator and moves
+    private Board board;
+    private BoardGenerator generator;
+    private SplitMix64 random;
+
+
+    /* setUp
+     *
+     * Gives each thread its own seeded board.
+     *
+     * @param threads - the thread running the benchmark
+     */
+    @Setup
+    public void setUp(ThreadParams threads)
+    {
+        long seed = SplitMix64.valueAt(1, threads.getThreadIndex());
+        generator = new BoardGenerator(seed);
+        random = new SplitMix64(seed);
+        board = new Board(size);
+        generator.shuffle(board);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long shuffle_1thread()
+    {
+        return shuffle();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public long shuffle_2threads()
+    {
+        return shuffle();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long shuffle_4threads()
+    {
+        return shuffle();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long shuffle_allThreads()
+    {
+        return shuffle();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int move_1thread()
+    {
+        return move();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public int move_2threads()
+    {
+        return move();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int move_4threads()
+    {
+        return move();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int move_allThreads()
+    {
+        return move();
+    }
+
+    /* shuffle
+     *
+     * Helper method that shuffles this thread's board.
+     *
+     * @return the hash of the new layout
+     */
+    private long shuffle()
+    {
+        generator.shuffle(board);
+        return board.getHash();
+    }
+
+    /* move
+     *
+     * Helper method that makes a random legal move on this thread's board.
+     *
+     * @return the index of the blank after the move
+     */
+    private int move()
+    {
+        int direction = random.nextInt(Direction.COUNT);
+        while (!board.canMove(direction)) direction = random.nextInt(Direction.COUNT);
+        board.move(direction);
+        return board.getBlankIndex();
+    }
+}
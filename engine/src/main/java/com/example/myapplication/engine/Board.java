@@ -0,0 +1,654 @@
+package com.example.myapplication.engine;
+
+/* Board Class
+ *
+ * This class holds the state of an NxN sliding puzzle without any Android
+ * dependencies. The tiles are stored row by row in a single primitive array
+ * where 0 represents the blank square and 1 through N*N-1 are the numbered
+ * tiles. The solved board has every tile at index (number - 1) and the blank
+ * in the bottom right corner.
+ *
+ * Moves are described by the direction the blank square travels in (see
+ * Direction) and never allocate, so the board can be driven millions of
+ * times per second on a plain JVM.
+ *
+ * The board tracks the parity of its permutation (with the blank counted as
+ * the largest tile). Every move is a single swap, which flips that parity and
+ * also flips the parity of the blank's distance from the bottom right corner.
+ * A board is solvable exactly when the two parities match, so once a layout
+ * is set up the check costs O(1) no matter how many moves are made.
+ *
+ * The number of misplaced tiles and the sum of every tile's Manhattan
+ * distance from its goal are kept up to date the same way. A move only
+ * changes the position of one numbered tile, so both counters (and the
+ * solved check built on them) are updated in O(1).
+ *
+ * A 64 bit Zobrist hash of the layout is kept as well (see Zobrist), which
+ * costs two XORs per move and lets two positions be compared without
+ * walking the tiles.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class Board
+{
+    /* Constant Variables */
+    // the value stored for the blank square
+    public static final int BLANK = 0;
+
+    // the smallest and largest supported number of squares per row
+    public static final int MIN_SIZE = 2;
+    public static final int MAX_SIZE = 128;
+
+
+    /* Instance/Member Variables */
+    // the number of squares per row and in total
+    private final int size;
+    private final int cellCount;
+
+    // the tile number stored at each index of the board
+    private final short[] tiles;
+
+    // track where the blank square is
+    private int blankIndex;
+
+    // track whether the permutation of the squares is odd
+    private boolean oddPermutation;
+
+    // track the numbered tiles that are not in their correct position
+    private int misplacedCount;
+
+    // track the sum of every numbered tile's distance from its correct position
+    private int manhattanDistance;
+
+    // the keys of this board size and the hash of the current layout
+    private final Zobrist zobrist;
+    private long hash;
+
+
+    /* Board
+     *
+     * Constructor for Board that creates a solved board of the given size.
+     *
+     * @param size - the number of squares per row
+     */
+    public Board(int size)
+    {
+        // verify the size is supported
+        if (size < MIN_SIZE || size > MAX_SIZE)
+        {
+            throw new IllegalArgumentException("Board size must be between "
+                    + MIN_SIZE + " and " + MAX_SIZE + ": " + size);
+        }
+
+        // initialize the size of the rows and total squares
+        this.size = size;
+        this.cellCount = size * size;
+
+        // initialize the tiles to the solved layout
+        this.tiles = new short[cellCount];
+        this.zobrist = Zobrist.forSize(size);
+        reset();
+    }
+
+    /* Board Copy Constructor
+     *
+     * Creates a deep copy of the board passed in.
+     *
+     * @param other - the board to be copied
+     */
+    public Board(Board other)
+    {
+        this.size = other.size;
+        this.cellCount = other.cellCount;
+        this.tiles = other.tiles.clone();
+        this.blankIndex = other.blankIndex;
+        this.oddPermutation = other.oddPermutation;
+        this.misplacedCount = other.misplacedCount;
+        this.manhattanDistance = other.manhattanDistance;
+        this.zobrist = other.zobrist;
+        this.hash = other.hash;
+    }
+
+    /* reset
+     *
+     * Returns the board to the solved layout.
+     */
+    public void reset()
+    {
+        // place every tile at index (number - 1) and the blank in the last index
+        for (int index = 0; index < cellCount - 1; index++) tiles[index] = (short) (index + 1);
+        tiles[cellCount - 1] = BLANK;
+        blankIndex = cellCount - 1;
+        oddPermutation = false;
+        misplacedCount = 0;
+        manhattanDistance = 0;
+        hash = zobrist.hash(tiles);
+    }
+
+    /* setTiles
+     *
+     * Replaces the board with the layout passed in. The layout must hold
+     * every number from 0 to N*N-1 exactly once.
+     *
+     * @param layout - the tile number for each index of the board
+     */
+    public void setTiles(int[] layout)
+    {
+        // verify the layout is a permutation of the tile numbers
+        checkLayout(layout);
+
+        // copy the layout and find the blank square
+        for (int index = 0; index < cellCount; index++)
+        {
+            tiles[index] = (short) layout[index];
+            if (layout[index] == BLANK) blankIndex = index;
+        }
+
+        // determine the parity and the distance to goal of the new layout
+        oddPermutation = permutationParity(Inversions.count(this), blankIndex);
+        recount();
+    }
+
+    /* copyFrom
+     *
+     * Copies the state of another board of the same size into this board.
+     *
+     * @param other - the board to copy from
+     */
+    public void copyFrom(Board other)
+    {
+        // verify both boards are the same size
+        if (other.size != size)
+        {
+            throw new IllegalArgumentException("Board sizes differ: " + other.size + " != " + size);
+        }
+
+        System.arraycopy(other.tiles, 0, tiles, 0, cellCount);
+        blankIndex = other.blankIndex;
+        oddPermutation = other.oddPermutation;
+        misplacedCount = other.misplacedCount;
+        manhattanDistance = other.manhattanDistance;
+        hash = other.hash;
+    }
+
+    /* copyTiles
+     *
+     * Copies the tile numbers into the array passed in.
+     *
+     * @param dest - the array to fill, at least N*N long
+     */
+    public void copyTiles(int[] dest)
+    {
+        for (int index = 0; index < cellCount; index++) dest[index] = tiles[index];
+    }
+
+    /* canMove
+     *
+     * Determines whether the blank square can travel in the given direction.
+     *
+     * @param direction - the direction the blank would travel in
+     * @return whether the move stays on the board
+     */
+    public boolean canMove(int direction)
+    {
+        switch (direction)
+        {
+            case Direction.UP:
+                return blankIndex >= size;
+            case Direction.DOWN:
+                return blankIndex < cellCount - size;
+            case Direction.LEFT:
+                return blankIndex % size != 0;
+            case Direction.RIGHT:
+                return blankIndex % size != size - 1;
+            default:
+                return false;
+        }
+    }
+
+    /* move
+     *
+     * Slides the tile next to the blank square into the blank by moving the
+     * blank in the given direction.
+     *
+     * @param direction - the direction the blank travels in
+     * @return whether the move was made
+     */
+    public boolean move(int direction)
+    {
+        // verify the move stays on the board
+        if (!canMove(direction)) return false;
+
+        // swap the blank with the neighbouring tile
+        swapBlank(neighbour(blankIndex, direction));
+        return true;
+    }
+
+    /* undo
+     *
+     * Reverses a move previously made in the given direction.
+     *
+     * @param direction - the direction of the move to reverse
+     */
+    public void undo(int direction)
+    {
+        move(Direction.opposite(direction));
+    }
+
+    /* directionTo
+     *
+     * Determines which direction the blank must travel to reach the index
+     * passed in.
+     *
+     * @param index - the index of the tile next to the blank
+     * @return the direction or Direction.NONE if the index is not next to the blank
+     */
+    public int directionTo(int index)
+    {
+        // determine the row and column of the index and the blank
+        int row = index / size, col = index % size;
+        int blankRow = blankIndex / size, blankCol = blankIndex % size;
+
+        // determine if the index is above/below the blank square
+        if (col == blankCol)
+        {
+            if (row == blankRow - 1) return Direction.UP;
+            if (row == blankRow + 1) return Direction.DOWN;
+        }
+
+        // determine if the index is left/right to the blank square
+        if (row == blankRow)
+        {
+            if (col == blankCol - 1) return Direction.LEFT;
+            if (col == blankCol + 1) return Direction.RIGHT;
+        }
+
+        // otherwise the index is not next to the blank
+        return Direction.NONE;
+    }
+
+    /* moveTile
+     *
+     * Slides the tile at the index into the blank if it is next to the blank.
+     *
+     * @param index - the index of the tile to slide
+     * @return whether the tile was moved
+     */
+    public boolean moveTile(int index)
+    {
+        // verify the index is on the board
+        if (index < 0 || index >= cellCount) return false;
+
+        // determine the direction and make the move
+        int direction = directionTo(index);
+        return direction != Direction.NONE && move(direction);
+    }
+
+    /* slideDirection
+     *
+     * Determines which direction the blank must travel to reach an index in
+     * its row or column.
+     *
+     * @param index - the index of a tile in the blank's row or column
+     * @return the direction or Direction.NONE if the index is not in line with the blank
+     */
+    public int slideDirection(int index)
+    {
+        // determine the row and column of the index and the blank
+        int row = index / size, col = index % size;
+        int blankRow = blankIndex / size, blankCol = blankIndex % size;
+
+        // the index must share the blank's column or row, and not be the blank
+        if (col == blankCol && row != blankRow) return row < blankRow ? Direction.UP : Direction.DOWN;
+        if (row == blankRow && col != blankCol) return col < blankCol ? Direction.LEFT : Direction.RIGHT;
+        return Direction.NONE;
+    }
+
+    /* slideTo
+     *
+     * Slides every tile between the blank and the index one square toward
+     * the blank in a single operation, leaving the blank at the index. The
+     * counters and hash are updated as each tile moves, so a slide of any
+     * length never rescans the board.
+     *
+     * @param index - the index of a tile in the blank's row or column
+     * @return the number of tiles moved (0 if the index is not in line with the blank)
+     */
+    public int slideTo(int index)
+    {
+        // verify the index is on the board and in line with the blank
+        if (index < 0 || index >= cellCount) return 0;
+        int direction = slideDirection(index);
+        if (direction == Direction.NONE) return 0;
+
+        // step the blank along the row or column until it reaches the index
+        int count = 0;
+        while (blankIndex != index)
+        {
+            swapBlank(neighbour(blankIndex, direction));
+            count++;
+        }
+        return count;
+    }
+
+    /* isTileCorrect
+     *
+     * Determines whether the index holds the tile it holds on a solved board.
+     *
+     * @param index - the index to check
+     * @return whether the tile at the index is in the correct position
+     */
+    public boolean isTileCorrect(int index)
+    {
+        return tiles[index] == goalTile(index);
+    }
+
+    /* isSolved
+     *
+     * Determines whether every tile is in the correct position.
+     *
+     * @return whether the board is solved
+     */
+    public boolean isSolved()
+    {
+        return misplacedCount == 0;
+    }
+
+    /* getMisplacedCount
+     *
+     * @return the number of numbered tiles that are not in their correct position
+     */
+    public int getMisplacedCount()
+    {
+        return misplacedCount;
+    }
+
+    /* getManhattanDistance
+     *
+     * Returns the sum of the number of rows and columns each numbered tile is
+     * away from its correct position. This is a lower bound on the number of
+     * moves left to solve the board.
+     *
+     * @return the Manhattan distance of the board
+     */
+    public int getManhattanDistance()
+    {
+        return manhattanDistance;
+    }
+
+    /* tileDistance
+     *
+     * Returns the number of rows and columns between the index and the
+     * correct position of the tile.
+     *
+     * @param tile - the numbered tile
+     * @param index - the index the tile is at
+     * @return the Manhattan distance of the tile
+     */
+    public int tileDistance(int tile, int index)
+    {
+        int goal = tile - 1;
+        return Math.abs(goal / size - index / size) + Math.abs(goal % size - index % size);
+    }
+
+    /* getHash
+     *
+     * Returns the Zobrist hash of the layout. Equal layouts always have equal
+     * hashes, and different layouts almost never do.
+     *
+     * @return the 64 bit hash of the layout
+     */
+    public long getHash()
+    {
+        return hash;
+    }
+
+    /* isSolvable
+     *
+     * This method determines whether the board can be solved from its current
+     * layout. The parity of the permutation must match the parity of the
+     * blank's distance from the bottom right corner. On boards with an odd
+     * number of squares per row this is the same as the number of inversions
+     * being even.
+     *
+     * @return whether the board can be solved
+     */
+    public boolean isSolvable()
+    {
+        // determine the parity of the blank's distance from the bottom right corner
+        int blankDistance = (size - 1 - blankIndex / size) + (size - 1 - blankIndex % size);
+        return oddPermutation == (blankDistance % 2 != 0);
+    }
+
+    /* getSize
+     *
+     * @return the number of squares per row
+     */
+    public int getSize()
+    {
+        return size;
+    }
+
+    /* getCellCount
+     *
+     * @return the total number of squares including the blank
+     */
+    public int getCellCount()
+    {
+        return cellCount;
+    }
+
+    /* getTile
+     *
+     * @param index - the index on the board
+     * @return the tile number at the index (0 for the blank)
+     */
+    public int getTile(int index)
+    {
+        return tiles[index];
+    }
+
+    /* getBlankIndex
+     *
+     * @return the index of the blank square
+     */
+    public int getBlankIndex()
+    {
+        return blankIndex;
+    }
+
+    /* getBlankRow
+     *
+     * @return the row of the blank square
+     */
+    public int getBlankRow()
+    {
+        return blankIndex / size;
+    }
+
+    /* getBlankCol
+     *
+     * @return the column of the blank square
+     */
+    public int getBlankCol()
+    {
+        return blankIndex % size;
+    }
+
+    /* goalTile
+     *
+     * Returns the tile the index holds on a solved board.
+     *
+     * @param index - the index on the board
+     * @return the tile number the index should hold
+     */
+    public int goalTile(int index)
+    {
+        return index == cellCount - 1 ? BLANK : index + 1;
+    }
+
+    /* neighbourTable
+     *
+     * Builds a table of the index the blank moves to for every index and
+     * direction, so searches can make moves without bounds checks. Entry
+     * (index * Direction.COUNT + direction) is -1 when the move leaves the board.
+     *
+     * @param size - the number of squares per row
+     * @return the table of neighbouring indexes
+     */
+    static int[] neighbourTable(int size)
+    {
+        int cellCount = size * size;
+        int[] table = new int[cellCount * Direction.COUNT];
+        for (int index = 0; index < cellCount; index++)
+        {
+            int row = index / size, col = index % size;
+            for (int direction = 0; direction < Direction.COUNT; direction++)
+            {
+                int newRow = row + Direction.rowDelta(direction);
+                int newCol = col + Direction.colDelta(direction);
+                boolean onBoard = newRow >= 0 && newRow < size && newCol >= 0 && newCol < size;
+                table[index * Direction.COUNT + direction] = onBoard ? newRow * size + newCol : -1;
+            }
+        }
+        return table;
+    }
+
+    /* tiles
+     *
+     * Gives classes in the engine direct access to the tile array so they can
+     * rewrite the whole board without copying. Callers must call tilesChanged
+     * once they are done.
+     *
+     * @return the tile array of the board
+     */
+    short[] tiles()
+    {
+        return tiles;
+    }
+
+    /* tilesChanged
+     *
+     * Updates the board after the tile array was rewritten directly.
+     *
+     * @param newBlankIndex - the index of the blank square in the new layout
+     * @param newOddPermutation - whether the new layout is an odd permutation
+     */
+    void tilesChanged(int newBlankIndex, boolean newOddPermutation)
+    {
+        blankIndex = newBlankIndex;
+        oddPermutation = newOddPermutation;
+        recount();
+    }
+
+    /* recount
+     *
+     * Helper method that recounts the misplaced tiles, the Manhattan
+     * distance and the hash of the whole board after a new layout is loaded.
+     */
+    private void recount()
+    {
+        misplacedCount = 0;
+        manhattanDistance = 0;
+        for (int index = 0; index < cellCount; index++)
+        {
+            int tile = tiles[index];
+            if (tile == BLANK || tile == index + 1) continue;
+            misplacedCount++;
+            manhattanDistance += tileDistance(tile, index);
+        }
+        hash = zobrist.hash(tiles);
+    }
+
+    /* permutationParity
+     *
+     * Helper method that converts an inversion count into the parity of the
+     * whole permutation. Counting the blank as the largest tile adds one
+     * inversion for every square after the blank.
+     *
+     * @param inversions - the inversions between the numbered tiles
+     * @param blank - the index of the blank square
+     * @return whether the permutation is odd
+     */
+    private boolean permutationParity(long inversions, int blank)
+    {
+        return (inversions + cellCount - 1 - blank) % 2 != 0;
+    }
+
+    /* neighbour
+     *
+     * Helper method that returns the index next to the one passed in. The
+     * caller is responsible for checking the move stays on the board.
+     *
+     * @param index - the starting index
+     * @param direction - the direction to step in
+     * @return the neighbouring index
+     */
+    private int neighbour(int index, int direction)
+    {
+        switch (direction)
+        {
+            case Direction.UP:
+                return index - size;
+            case Direction.DOWN:
+                return index + size;
+            case Direction.LEFT:
+                return index - 1;
+            default:
+                return index + 1;
+        }
+    }
+
+    /* swapBlank
+     *
+     * Helper method that swaps the blank square with the tile at the index.
+     *
+     * @param index - the index of the tile to slide into the blank
+     */
+    private void swapBlank(int index)
+    {
+        // update the counters for the tile that leaves the index
+        int tile = tiles[index];
+        if (tile == index + 1) misplacedCount++;
+        else if (tile == blankIndex + 1) misplacedCount--;
+        manhattanDistance += tileDistance(tile, blankIndex) - tileDistance(tile, index);
+        hash ^= zobrist.key(tile, index) ^ zobrist.key(tile, blankIndex);
+
+        // slide the tile into the blank
+        tiles[blankIndex] = (short) tile;
+        tiles[index] = BLANK;
+        blankIndex = index;
+
+        // a single swap always flips the parity of the permutation
+        oddPermutation = !oddPermutation;
+    }
+
+    /* checkLayout
+     *
+     * Helper method that verifies a layout holds every tile number exactly once.
+     *
+     * @param layout - the layout to verify
+     */
+    private void checkLayout(int[] layout)
+    {
+        // verify the layout is the size of the board
+        if (layout.length != cellCount)
+        {
+            throw new IllegalArgumentException("Layout has " + layout.length
+                    + " squares, expected " + cellCount);
+        }
+
+        // verify every number appears once (the blank is counted as 0)
+        boolean[] seen = new boolean[cellCount];
+        for (int tile : layout)
+        {
+            if (tile < 0 || tile >= cellCount || seen[tile])
+            {
+                throw new IllegalArgumentException("Layout is not a permutation of 0.." + (cellCount - 1));
+            }
+            seen[tile] = true;
+        }
+    }
+}
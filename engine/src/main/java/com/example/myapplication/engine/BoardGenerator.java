@@ -0,0 +1,96 @@
+package com.example.myapplication.engine;
+
+/* BoardGenerator Class
+ *
+ * This class shuffles boards into uniformly random, solvable layouts in a
+ * single pass. Every square (including the blank) is shuffled with a
+ * Fisher-Yates shuffle while the parity of the permutation is tracked. A
+ * layout is solvable exactly when that parity matches the parity of the
+ * blank's distance from the bottom right corner. When it does not, two
+ * numbered tiles are swapped, which flips the parity without moving the
+ * blank. That swap pairs every unsolvable layout with exactly one solvable
+ * layout, so the result is still uniform and the board never has to be
+ * generated again.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class BoardGenerator
+{
+    /* Instance/Member Variables */
+    // the random number generator used for shuffling
+    private final SplitMix64 random;
+
+
+    /* BoardGenerator
+     *
+     * Constructor for BoardGenerator that shuffles with a new generator.
+     *
+     * @param seed - the seed of the random number generator
+     */
+    public BoardGenerator(long seed)
+    {
+        this(new SplitMix64(seed));
+    }
+
+    /* BoardGenerator
+     *
+     * Constructor for BoardGenerator that shuffles with the generator passed in.
+     *
+     * @param random - the random number generator to shuffle with
+     */
+    public BoardGenerator(SplitMix64 random)
+    {
+        this.random = random;
+    }
+
+    /* shuffle
+     *
+     * Shuffles the board into a uniformly random solvable layout.
+     *
+     * @param board - the board to shuffle
+     */
+    public void shuffle(Board board)
+    {
+        // start from the solved layout, which has even parity
+        board.reset();
+        short[] tiles = board.tiles();
+        int cellCount = board.getCellCount();
+        int size = board.getSize();
+
+        // shuffle every square, flipping the parity on every real swap
+        boolean oddPermutation = false;
+        int blankIndex = cellCount - 1;
+        for (int index = cellCount - 1; index > 0; index--)
+        {
+            int other = random.nextInt(index + 1);
+            if (other == index) continue;
+
+            // swap the squares and keep track of where the blank ends up
+            short tile = tiles[index];
+            tiles[index] = tiles[other];
+            tiles[other] = tile;
+            if (tiles[index] == Board.BLANK) blankIndex = index;
+            else if (tiles[other] == Board.BLANK) blankIndex = other;
+            oddPermutation = !oddPermutation;
+        }
+
+        // determine the parity of the blank's distance from the bottom right corner
+        int blankDistance = (size - 1 - blankIndex / size) + (size - 1 - blankIndex % size);
+        boolean oddDistance = blankDistance % 2 != 0;
+
+        // if unable to solve, swap the first two numbered tiles to fix the parity
+        if (oddPermutation != oddDistance)
+        {
+            int first = blankIndex == 0 ? 1 : 0;
+            int second = blankIndex <= 1 ? 2 : 1;
+            short tile = tiles[first];
+            tiles[first] = tiles[second];
+            tiles[second] = tile;
+        }
+
+        // let the board know where the blank is, the parity now matches the distance
+        board.tilesChanged(blankIndex, oddDistance);
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.myapplication.engine;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/* BoardPool Class
+ *
+ * This class keeps a few shuffled boards ready so a new game can start
+ * without waiting for one to be generated. A low priority thread keeps the
+ * pool topped up for the size being played (and optionally the sizes either
+ * side of it), and taking a board is a single poll of a bounded queue.
+ *
+ * Boards that are finished with can be handed back, and the refill thread
+ * shuffles them again instead of making new ones. The pool counts how many
+ * takes found a board ready (hits) and how many did not (misses), which
+ * shows whether resets ever wait on generation.
+ *
+ * Once a difficulty tier is set, the refill thread generates boards inside
+ * the tier's band instead of shuffling them uniformly, so every board taken
+ * is about as hard as the last.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class BoardPool
+{
+    /* Constant Variables */
+    // the most finished boards kept for reshuffling, per size
+    private static final int SPARES_PER_SIZE = 4;
+
+    // the longest the refill thread searches for one board inside a tier's band
+    private static final long GRADING_BUDGET_MILLIS = 100;
+
+
+    /* Instance/Member Variables */
+    // the number of ready boards kept per size
+    private final int perSize;
+
+    // the ready boards and the boards waiting to be shuffled again, by size
+    private final AtomicReferenceArray<ArrayBlockingQueue<Board>> ready;
+    private final AtomicReferenceArray<ArrayBlockingQueue<Board>> spares;
+
+    // shuffles boards on the refill thread
+    private final BoardGenerator generator;
+
+    // generates boards of a difficulty tier on the cores the UI thread is not using,
+    // and the tier wanted (null for uniformly random boards)
+    private final DifficultyGenerator grader;
+    private volatile DifficultyGenerator.Tier tier;
+
+    // the size being played (0 for none) and whether the sizes either side are kept too
+    private volatile int focusSize;
+    private volatile boolean withNeighbours;
+
+    // the refill thread and whether it should keep running
+    private final Thread refiller;
+    private volatile boolean running = true;
+
+    // the number of takes that found a board ready and that did not
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+
+    /* BoardPool
+     *
+     * Constructor for a pool that starts its refill thread right away. Call
+     * focus to say which size to fill.
+     *
+     * @param perSize - the number of ready boards to keep per size
+     * @param seed - the seed of the refill thread's shuffler
+     */
+    public BoardPool(int perSize, long seed)
+    {
+        if (perSize < 1) throw new IllegalArgumentException("The pool needs room for a board: " + perSize);
+        this.perSize = perSize;
+        ready = new AtomicReferenceArray<>(Board.MAX_SIZE + 1);
+        spares = new AtomicReferenceArray<>(Board.MAX_SIZE + 1);
+        generator = new BoardGenerator(seed);
+        grader = new DifficultyGenerator(Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+                SplitMix64.mix(seed));
+
+        // fill the pool on a low priority thread that never keeps the app alive
+        refiller = new Thread(this::refill, "BoardPool");
+        refiller.setDaemon(true);
+        refiller.setPriority(Thread.MIN_PRIORITY);
+        refiller.start();
+    }
+
+    /* focus
+     *
+     * Sets the size to keep boards ready for. Ready boards of any other size
+     * are dropped.
+     *
+     * @param size - the number of squares per row being played
+     * @param neighbours - whether to also keep boards one size smaller and larger
+     */
+    public void focus(int size, boolean neighbours)
+    {
+        focusSize = size;
+        withNeighbours = neighbours;
+        for (int other = Board.MIN_SIZE; other <= Board.MAX_SIZE; other++)
+        {
+            ArrayBlockingQueue<Board> queue = ready.get(other);
+            if (queue != null && !isWanted(other)) queue.clear();
+        }
+        LockSupport.unpark(refiller);
+    }
+
+    /* setDifficulty
+     *
+     * Sets the difficulty tier of the boards handed out. Ready boards of
+     * another tier are dropped.
+     *
+     * @param newTier - the tier, or null for uniformly random boards
+     */
+    public void setDifficulty(DifficultyGenerator.Tier newTier)
+    {
+        if (newTier == tier) return;
+        tier = newTier;
+        for (int size = Board.MIN_SIZE; size <= Board.MAX_SIZE; size++)
+        {
+            ArrayBlockingQueue<Board> queue = ready.get(size);
+            if (queue != null) queue.clear();
+        }
+        LockSupport.unpark(refiller);
+    }
+
+    /* getDifficulty
+     *
+     * @return the difficulty tier of the boards handed out, or null if uniformly random
+     */
+    public DifficultyGenerator.Tier getDifficulty()
+    {
+        return tier;
+    }
+
+    /* getGenerator
+     *
+     * Returns the generator of graded boards, whose counts show how many
+     * candidates were scored per second and how many boards landed in their band.
+     *
+     * @return the generator of graded boards
+     */
+    public DifficultyGenerator getGenerator()
+    {
+        return grader;
+    }
+
+    /* take
+     *
+     * Takes a ready board of a size without waiting.
+     *
+     * @param size - the number of squares per row
+     * @return a shuffled board, or null if none of that size is ready
+     */
+    public Board take(int size)
+    {
+        ArrayBlockingQueue<Board> queue = size < Board.MIN_SIZE || size > Board.MAX_SIZE ? null : ready.get(size);
+        Board board = queue == null ? null : queue.poll();
+        if (board == null) misses.incrementAndGet();
+        else hits.incrementAndGet();
+        LockSupport.unpark(refiller);
+        return board;
+    }
+
+    /* recycle
+     *
+     * Hands back a board that is no longer used anywhere so it can be
+     * shuffled and handed out again.
+     *
+     * @param board - the finished board
+     */
+    public void recycle(Board board)
+    {
+        if (queueFor(spares, board.getSize(), SPARES_PER_SIZE).offer(board)) LockSupport.unpark(refiller);
+    }
+
+    /* available
+     *
+     * @param size - the number of squares per row
+     * @return the number of boards of that size ready to take
+     */
+    public int available(int size)
+    {
+        ArrayBlockingQueue<Board> queue = ready.get(size);
+        return queue == null ? 0 : queue.size();
+    }
+
+    /* getHits
+     *
+     * @return the number of takes that found a board ready
+     */
+    public long getHits()
+    {
+        return hits.get();
+    }
+
+    /* getMisses
+     *
+     * @return the number of takes that found no board ready
+     */
+    public long getMisses()
+    {
+        return misses.get();
+    }
+
+    /* shutdown
+     *
+     * Stops the refill thread, and the generator's threads with it. Boards
+     * already ready can still be taken.
+     */
+    public void shutdown()
+    {
+        running = false;
+        LockSupport.unpark(refiller);
+    }
+
+    /* refill
+     *
+     * The refill loop. Adds one board at a time, always starting again from
+     * the size being played so it fills first, and sleeps when every wanted
+     * size is full.
+     */
+    private void refill()
+    {
+        while (running)
+        {
+            int size = focusSize;
+            boolean added = fillOne(size);
+            if (!added && withNeighbours) added = fillOne(size - 1) || fillOne(size + 1);
+            if (!added) LockSupport.park(this);
+        }
+
+        // the generator is only used here, so it stops once the loop is done with it
+        grader.shutdown();
+    }
+
+    /* fillOne
+     *
+     * Helper method that adds a board of a size if the size has room.
+     *
+     * @param size - the number of squares per row
+     * @return whether a board was added
+     */
+    private boolean fillOne(int size)
+    {
+        if (size < Board.MIN_SIZE || size > Board.MAX_SIZE) return false;
+        ArrayBlockingQueue<Board> queue = queueFor(ready, size, perSize);
+        if (queue.remainingCapacity() == 0) return false;
+
+        // shuffle a finished board again if there is one, otherwise make one
+        ArrayBlockingQueue<Board> spare = spares.get(size);
+        Board board = spare == null ? null : spare.poll();
+        if (board == null) board = new Board(size);
+        DifficultyGenerator.Tier wantedTier = tier;
+        if (wantedTier == null) generator.shuffle(board);
+        else grader.generate(board, wantedTier, GRADING_BUDGET_MILLIS);
+
+        // only keep it if the size and tier are still wanted (either may have moved on)
+        if (isWanted(size) && wantedTier == tier && queue.offer(board)) return true;
+        recycle(board);
+        return false;
+    }
+
+    /* isWanted
+     *
+     * Helper method that determines whether boards of a size are kept.
+     *
+     * @param size - the number of squares per row
+     * @return whether the size is being played or is a wanted neighbour
+     */
+    private boolean isWanted(int size)
+    {
+        int focus = focusSize;
+        return size == focus || (withNeighbours && Math.abs(size - focus) == 1);
+    }
+
+    /* queueFor
+     *
+     * Helper method that returns the queue of a size, making it the first
+     * time it is needed.
+     *
+     * @param queues - the queues by size
+     * @param size - the number of squares per row
+     * @param capacity - the capacity of a new queue
+     * @return the queue of the size
+     */
+    private static ArrayBlockingQueue<Board> queueFor(AtomicReferenceArray<ArrayBlockingQueue<Board>> queues,
+                                                      int size, int capacity)
+    {
+        ArrayBlockingQueue<Board> queue = queues.get(size);
+        if (queue == null)
+        {
+            queues.compareAndSet(size, null, new ArrayBlockingQueue<>(capacity));
+            queue = queues.get(size);
+        }
+        return queue;
+    }
+}
@@ -0,0 +1,399 @@
+package com.example.myapplication.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/* DifficultyGenerator Class
+ *
+ * This class generates boards whose estimated solution length falls inside
+ * a band, so every game of a difficulty tier is about as hard as the last.
+ * The estimate is the Manhattan distance plus linear conflicts, which never
+ * overestimates and is cheap enough to score thousands of candidates a
+ * second on boards of any size. On 3x3 boards the exact solution length is
+ * looked up in StateTable3x3 instead, which is just as cheap.
+ *
+ * Every worker makes and scores its own candidates with its own random
+ * numbers, heuristic and boards. Half the candidates are uniform shuffles,
+ * which are almost always hard, and half are partial shuffles that swap a
+ * random number of tile pairs on the solved board, which covers every
+ * estimate from trivial up to a uniform shuffle on any size. The first
+ * worker to score a candidate inside the band stops the others. If the time
+ * budget runs out first, the candidate closest to the band is used instead,
+ * so generating never stalls.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class DifficultyGenerator
+{
+    /* Tier Enum
+     *
+     * The difficulty tiers, as bands of the estimated solution length
+     * relative to the typical estimate of a uniformly random board of the
+     * same size.
+     */
+    public enum Tier
+    {
+        EASY(0.25, 0.6),
+        MEDIUM(0.6, 0.95),
+        HARD(0.95, Double.POSITIVE_INFINITY);
+
+        // the bounds of the band as fractions of the typical estimate
+        private final double low;
+        private final double high;
+
+        Tier(double low, double high)
+        {
+            this.low = low;
+            this.high = high;
+        }
+
+        /* minLength
+         *
+         * @param size - the number of squares per row
+         * @return the shortest estimate in the band for boards of the size
+         */
+        public int minLength(int size)
+        {
+            return (int) Math.ceil(low * typicalEstimate(size));
+        }
+
+        /* maxLength
+         *
+         * The band stops just short of the next tier's, so tiers never overlap.
+         *
+         * @param size - the number of squares per row
+         * @return the longest estimate in the band (Integer.MAX_VALUE if unbounded)
+         */
+        public int maxLength(int size)
+        {
+            if (Double.isInfinite(high)) return Integer.MAX_VALUE;
+            return Math.max(minLength(size), (int) Math.ceil(high * typicalEstimate(size)) - 1);
+        }
+    }
+
+
+    /* Constant Variables */
+    // the most tiles a partial shuffle moves, as a multiple of the top of the band
+    private static final int OVERSHOOT = 2;
+
+
+    /* Instance/Member Variables */
+    // the threads that score candidates and the number of them
+    private final ForkJoinPool pool;
+    private final int parallelism;
+
+    // the seed of every worker's random numbers and the number of boards generated
+    private final long seed;
+    private long generated;
+
+    // set by the first worker to find a candidate inside the band
+    private final AtomicBoolean found = new AtomicBoolean();
+
+    // the candidates scored, the boards generated inside the band and the time spent
+    private final AtomicLong candidates = new AtomicLong();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+
+    // the estimate of the last board generated
+    private volatile int lastEstimate;
+
+
+    /* DifficultyGenerator
+     *
+     * Constructor for a generator that scores candidates on the given
+     * number of threads.
+     *
+     * @param parallelism - the number of threads to score with
+     * @param seed - the seed of the random numbers
+     */
+    public DifficultyGenerator(int parallelism, long seed)
+    {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        this.parallelism = parallelism;
+        this.seed = seed;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /* generate
+     *
+     * Fills the board with a solvable layout from a difficulty tier.
+     *
+     * @param board - the board to fill (its size is kept)
+     * @param tier - the difficulty tier
+     * @param budgetMillis - the longest time to search for a board in the band
+     * @return whether the layout is inside the band
+     */
+    public boolean generate(Board board, Tier tier, long budgetMillis)
+    {
+        int size = board.getSize();
+        return generate(board, tier.minLength(size), tier.maxLength(size), budgetMillis);
+    }
+
+    /* generate
+     *
+     * Fills the board with a solvable layout whose estimated solution length
+     * is inside a band, or as close to it as the time budget allowed. Only
+     * one board is generated at a time.
+     *
+     * @param board - the board to fill (its size is kept)
+     * @param minLength - the shortest estimate wanted
+     * @param maxLength - the longest estimate wanted
+     * @param budgetMillis - the longest time to search for a board in the band
+     * @return whether the layout is inside the band
+     */
+    public synchronized boolean generate(Board board, int minLength, int maxLength, long budgetMillis)
+    {
+        if (minLength > maxLength) throw new IllegalArgumentException("Empty band: " + minLength + " to " + maxLength);
+        long start = System.nanoTime();
+        long deadline = start + budgetMillis * 1000000L;
+
+        // start one scoring task per thread, each with its own random numbers
+        found.set(false);
+        ScoreTask[] tasks = new ScoreTask[parallelism];
+        for (int i = 0; i < parallelism; i++)
+        {
+            long taskSeed = SplitMix64.valueAt(seed, generated * parallelism + i);
+            tasks[i] = new ScoreTask(board.getSize(), minLength, maxLength, deadline, taskSeed);
+        }
+        generated++;
+        pool.invoke(new RecursiveAction()
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute()
+            {
+                invokeAll(tasks);
+            }
+        });
+
+        // keep the candidate closest to the band
+        ScoreTask best = null;
+        long scored = 0;
+        for (ScoreTask task : tasks)
+        {
+            scored += task.scored;
+            if (best == null || task.bestGap < best.bestGap) best = task;
+        }
+        board.copyFrom(best.best);
+        lastEstimate = best.bestEstimate;
+
+        // add the work to the totals
+        candidates.addAndGet(scored);
+        elapsedNanos.addAndGet(System.nanoTime() - start);
+        if (best.bestGap == 0) accepted.incrementAndGet();
+        return best.bestGap == 0;
+    }
+
+    /* estimate
+     *
+     * Estimates the number of moves needed to solve a board. The estimate
+     * never overestimates, and is exact on 3x3 boards.
+     *
+     * @param board - the board to estimate
+     * @return the exact distance of a 3x3 board, otherwise the Manhattan
+     *         distance plus linear conflicts
+     */
+    public static int estimate(Board board)
+    {
+        if (board.getSize() == StateTable3x3.SIZE) return StateTable3x3.get().distance(board);
+        return new ManhattanLinearConflict().reset(board.tiles(), board.getSize());
+    }
+
+    /* typicalEstimate
+     *
+     * Approximates the Manhattan distance of a uniformly random board. A
+     * random tile is on average (n^2 - 1) / 3n rows and as many columns
+     * away from its goal, which the tier bands are scaled by. On 3x3 boards,
+     * which are scored by their exact distance, it is the mean of that.
+     *
+     * @param size - the number of squares per row
+     * @return the typical estimate of a random board of the size
+     */
+    public static int typicalEstimate(int size)
+    {
+        if (size == StateTable3x3.SIZE) return StateTable3x3.MEAN_DISTANCE;
+        long cells = (long) size * size;
+        return (int) Math.round(2.0 * (cells - 1) * (cells - 1) / (3.0 * size));
+    }
+
+    /* getLastEstimate
+     *
+     * @return the estimated solution length of the last board generated
+     */
+    public int getLastEstimate()
+    {
+        return lastEstimate;
+    }
+
+    /* getCandidates
+     *
+     * @return the number of candidates scored over every board generated
+     */
+    public long getCandidates()
+    {
+        return candidates.get();
+    }
+
+    /* getAccepted
+     *
+     * @return the number of boards generated inside their band
+     */
+    public long getAccepted()
+    {
+        return accepted.get();
+    }
+
+    /* getElapsedNanos
+     *
+     * @return the time spent generating boards in nanoseconds
+     */
+    public long getElapsedNanos()
+    {
+        return elapsedNanos.get();
+    }
+
+    /* getCandidatesPerSecond
+     *
+     * @return the number of candidates scored per second of generating
+     */
+    public double getCandidatesPerSecond()
+    {
+        return candidates.get() * 1e9 / Math.max(1, elapsedNanos.get());
+    }
+
+    /* getParallelism
+     *
+     * @return the number of threads candidates are scored on
+     */
+    public int getParallelism()
+    {
+        return parallelism;
+    }
+
+    /* shutdown
+     *
+     * Stops the worker threads once the generator is no longer needed.
+     */
+    public void shutdown()
+    {
+        pool.shutdown();
+    }
+
+    /* ScoreTask Class
+     *
+     * Makes and scores candidates on one worker until a candidate inside
+     * the band is found or the time runs out, remembering the closest one.
+     */
+    private final class ScoreTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        // the size of the boards, the band and when to stop
+        private final int size;
+        private final int minLength;
+        private final int maxLength;
+        private final long deadline;
+
+        // the worker's random numbers and shuffler
+        private final SplitMix64 random;
+        private final BoardGenerator shuffler;
+
+        // the closest candidate, its distance from the band and its estimate
+        private Board best;
+        private int bestGap = Integer.MAX_VALUE;
+        private int bestEstimate;
+
+        // the number of candidates scored
+        private long scored;
+
+        ScoreTask(int size, int minLength, int maxLength, long deadline, long seed)
+        {
+            this.size = size;
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.deadline = deadline;
+            this.random = new SplitMix64(seed);
+            this.shuffler = new BoardGenerator(random);
+        }
+
+        @Override
+        protected void compute()
+        {
+            Heuristic heuristic = new ManhattanLinearConflict();
+            StateTable3x3 exact = size == StateTable3x3.SIZE ? StateTable3x3.get() : null;
+            Board candidate = new Board(size);
+
+            // partial shuffles only help when the band has a top, and never need
+            // many more swaps than it takes to reach it
+            boolean partial = maxLength != Integer.MAX_VALUE;
+            int perSwap = Math.max(1, 2 * typicalEstimate(size) / (size * size - 1));
+            int mostSwaps = (int) Math.min(Integer.MAX_VALUE - 1, (long) OVERSHOOT * maxLength / perSwap + 1);
+
+            // always score at least one candidate so there is something to use
+            do
+            {
+                if (partial && random.nextInt(2) == 0) partialShuffle(candidate, 1 + random.nextInt(mostSwaps));
+                else shuffler.shuffle(candidate);
+                int estimate = exact != null ? exact.distance(candidate) : heuristic.reset(candidate.tiles(), size);
+                scored++;
+
+                // remember the candidate if it is the closest to the band so far
+                int gap = estimate < minLength ? minLength - estimate : Math.max(0, estimate - maxLength);
+                if (gap < bestGap)
+                {
+                    if (best == null) best = new Board(candidate);
+                    else best.copyFrom(candidate);
+                    bestGap = gap;
+                    bestEstimate = estimate;
+                }
+                if (gap == 0)
+                {
+                    found.set(true);
+                    return;
+                }
+            }
+            while (!found.get() && System.nanoTime() - deadline < 0);
+        }
+
+        /* partialShuffle
+         *
+         * Helper method that swaps random pairs of numbered tiles on the
+         * solved board, then wanders the blank a few moves away from its
+         * corner. An even number of swaps leaves the board solvable.
+         *
+         * @param board - the board to shuffle
+         * @param swaps - the number of pairs to swap (rounded up to even)
+         */
+        private void partialShuffle(Board board, int swaps)
+        {
+            board.reset();
+            short[] tiles = board.tiles();
+            int numbered = tiles.length - 1;
+            for (int swap = 0; swap < swaps + (swaps & 1); swap++)
+            {
+                int first = random.nextInt(numbered);
+                int second = random.nextInt(numbered - 1);
+                if (second >= first) second++;
+                short tile = tiles[first];
+                tiles[first] = tiles[second];
+                tiles[second] = tile;
+            }
+            board.tilesChanged(numbered, false);
+
+            // move the blank without undoing the move before
+            int previous = Direction.NONE;
+            for (int step = 0; step < size; )
+            {
+                int direction = random.nextInt(Direction.COUNT);
+                if (direction == Direction.opposite(previous) || !board.move(direction)) continue;
+                previous = direction;
+                step++;
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.myapplication.engine;
+
+/* DifficultyReportTool Class
+ *
+ * This class is the command line entry point for measuring difficulty
+ * graded generation. Boards of every tier are generated for each size and
+ * the candidates scored per second, the share of boards that landed inside
+ * their band and the average time per board are reported. It is run through
+ * the measureDifficultyGeneration Gradle task.
+ *
+ *   <boards> <seed> <budget ms> [threads]     defaults to every available core
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class DifficultyReportTool
+{
+    /* Constant Variables */
+    // the sizes measured
+    private static final int[] SIZES = {3, 4, 5, 8, 16, 32, 64};
+
+
+    /* DifficultyReportTool
+     *
+     * Private constructor as this class only holds the entry point.
+     */
+    private DifficultyReportTool() {}
+
+    /* main
+     *
+     * @param args - the boards per tier, the seed, the budget and optionally the threads
+     */
+    public static void main(String[] args)
+    {
+        if (args.length < 3)
+        {
+            System.err.println("usage: <boards> <seed> <budget ms> [threads]");
+            System.exit(2);
+        }
+        int boards = Integer.parseInt(args[0]);
+        long seed = Long.parseLong(args[1]);
+        long budgetMillis = Long.parseLong(args[2]);
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        System.out.println("threads: " + threads);
+
+        for (int size : SIZES)
+        {
+            for (DifficultyGenerator.Tier tier : DifficultyGenerator.Tier.values())
+            {
+                // a new generator per row so the counts are for this size and tier alone
+                DifficultyGenerator generator = new DifficultyGenerator(threads, seed);
+                Board board = new Board(size);
+                long estimates = 0;
+                for (int i = 0; i < boards; i++)
+                {
+                    generator.generate(board, tier, budgetMillis);
+                    estimates += generator.getLastEstimate();
+                }
+                generator.shutdown();
+
+                String band = tier.minLength(size) + "-" + (tier.maxLength(size) == Integer.MAX_VALUE
+                        ? "" : String.valueOf(tier.maxLength(size)));
+                System.out.printf("%2dx%-2d %-6s %-14s %5.1f%% in band %10.1f avg %8.2f ms/board %,12.0f candidates/s%n",
+                        size, size, tier, band, 100.0 * generator.getAccepted() / boards, (double) estimates / boards,
+                        generator.getElapsedNanos() / 1e6 / boards, generator.getCandidatesPerSecond());
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.myapplication.engine;
+
+/* Direction Class
+ *
+ * This class holds the four directions the blank square can travel in.
+ * Directions are plain ints (rather than an enum) so moves can be stored
+ * in primitive arrays and packed two bits at a time. The directions are
+ * laid out so that the opposite of a direction only differs in the
+ * lowest bit.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class Direction
+{
+    /* Constant Variables */
+    // the blank square swaps with the tile above, below, left or right of it
+    public static final int UP = 0;
+    public static final int DOWN = 1;
+    public static final int LEFT = 2;
+    public static final int RIGHT = 3;
+
+    // the number of directions and the value used when there is no direction
+    public static final int COUNT = 4;
+    public static final int NONE = -1;
+
+    /* Direction
+     *
+     * Private constructor as this class only holds constants and helpers.
+     */
+    private Direction() {}
+
+    /* opposite
+     *
+     * Returns the direction that undoes the given direction.
+     *
+     * @param direction - the direction to reverse
+     * @return the opposite direction
+     */
+    public static int opposite(int direction)
+    {
+        return direction ^ 1;
+    }
+
+    /* rowDelta
+     *
+     * Returns the change in row the blank makes when moving in the direction.
+     *
+     * @param direction - the direction the blank moves in
+     * @return -1, 0 or 1
+     */
+    public static int rowDelta(int direction)
+    {
+        if (direction == UP) return -1;
+        if (direction == DOWN) return 1;
+        return 0;
+    }
+
+    /* colDelta
+     *
+     * Returns the change in column the blank makes when moving in the direction.
+     *
+     * @param direction - the direction the blank moves in
+     * @return -1, 0 or 1
+     */
+    public static int colDelta(int direction)
+    {
+        if (direction == LEFT) return -1;
+        if (direction == RIGHT) return 1;
+        return 0;
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.myapplication.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/* GameSnapshot Class
+ *
+ * This class saves a game in progress to a small binary form and brings it
+ * back. Each tile takes only as many bits as the largest tile number needs
+ * (4 bits on a 4x4 board, 10 bits on a 32x32 board), and the moves are kept
+ * in the two bit form of the MoveLog, so a 32x32 game of 10,000 moves takes
+ * under 4 KB.
+ *
+ * A saved board was solvable when it was saved, so bringing it back neither
+ * shuffles nor checks that it can be solved. The tiles are unpacked straight
+ * into the board, and the hash saved with them catches a damaged snapshot.
+ * The seed of the game is not saved, since the boards played come from the
+ * pool and the difficulty generator rather than a seed, so a resumed game
+ * can be undone and redone but not replayed from a seed.
+ *
+ * Format (big endian): the magic number, the format version, the number of
+ * squares per row, the index of the blank, the hash of the board, the number
+ * of moves recorded and made, the packed tiles, then the packed moves.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class GameSnapshot
+{
+    /* Constant Variables */
+    // the first bytes of every snapshot ("15GS") and the format version
+    private static final int MAGIC = 0x31354753;
+    private static final int VERSION = 2;
+
+    // the bytes before the packed tiles
+    private static final int HEADER_BYTES = 4 + 1 + 1 + 2 + 8 + 4 + 4;
+
+
+    /* GameSnapshot
+     *
+     * Private constructor as this class only holds static methods.
+     */
+    private GameSnapshot() {}
+
+    /* byteSize
+     *
+     * @param board - the board of the game
+     * @param log - the moves of the game
+     * @return the number of bytes the snapshot of the game takes
+     */
+    public static int byteSize(Board board, MoveLog log)
+    {
+        return HEADER_BYTES + Long.BYTES * (tileWords(board.getCellCount()) + log.wordCount());
+    }
+
+    /* encode
+     *
+     * Saves a game to a new buffer, ready to be read or written out.
+     *
+     * @param board - the board of the game
+     * @param log - the moves of the game
+     * @return the buffer holding the snapshot
+     */
+    public static ByteBuffer encode(Board board, MoveLog log)
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(byteSize(board, log));
+        encode(board, log, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    /* encode
+     *
+     * Saves a game into a buffer with room for byteSize bytes.
+     *
+     * @param board - the board of the game
+     * @param log - the moves of the game
+     * @param buffer - the buffer to write to
+     */
+    public static void encode(Board board, MoveLog log, ByteBuffer buffer)
+    {
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        buffer.putInt(MAGIC).put((byte) VERSION).put((byte) board.getSize())
+                .putShort((short) board.getBlankIndex()).putLong(board.getHash())
+                .putInt(log.size()).putInt(log.position());
+
+        // pack each tile into the fewest bits that hold every tile number
+        short[] tiles = board.tiles();
+        int bits = tileBits(tiles.length);
+        long word = 0;
+        int used = 0;
+        for (short tile : tiles)
+        {
+            word |= (long) tile << used;
+            used += bits;
+            if (used >= Long.SIZE)
+            {
+                buffer.putLong(word);
+                used -= Long.SIZE;
+                word = used == 0 ? 0 : (long) tile >>> (bits - used);
+            }
+        }
+        if (used > 0) buffer.putLong(word);
+        log.writeTo(buffer);
+    }
+
+    /* decode
+     *
+     * Brings a game back from a snapshot, without shuffling or checking that
+     * the board can be solved.
+     *
+     * @param buffer - the buffer holding the snapshot
+     * @param log - the log to fill with the game's moves
+     * @return the board of the game
+     * @throws IOException - if the buffer does not hold a whole, undamaged snapshot
+     */
+    public static Board decode(ByteBuffer buffer, MoveLog log) throws IOException
+    {
+        // read and verify the header
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.get() != VERSION)
+        {
+            throw new IOException("Not a game snapshot");
+        }
+        int size = buffer.get() & 0xFF;
+        int blankIndex = buffer.getShort() & 0xFFFF;
+        long hash = buffer.getLong();
+        int moveCount = buffer.getInt();
+        int movePosition = buffer.getInt();
+        if (size < Board.MIN_SIZE || size > Board.MAX_SIZE || blankIndex >= size * size
+                || moveCount < 0 || movePosition < 0 || movePosition > moveCount)
+        {
+            throw new IOException("Corrupt game snapshot header");
+        }
+        int cellCount = size * size;
+        int moveWords = (moveCount + 31) / 32;
+        if (buffer.remaining() < Long.BYTES * (tileWords(cellCount) + moveWords))
+        {
+            throw new IOException("Game snapshot is cut short");
+        }
+
+        // unpack the tiles straight into a new board
+        Board board = new Board(size);
+        short[] tiles = board.tiles();
+        int bits = tileBits(cellCount);
+        long mask = (1L << bits) - 1;
+        long word = 0;
+        int available = 0;
+        for (int index = 0; index < cellCount; index++)
+        {
+            long value;
+            if (available >= bits)
+            {
+                value = word & mask;
+                word >>>= bits;
+                available -= bits;
+            }
+            else
+            {
+                // the tile runs over into the next long
+                long next = buffer.getLong();
+                value = (word | next << available) & mask;
+                word = next >>> (bits - available);
+                available += Long.SIZE - bits;
+            }
+            if (value >= cellCount) throw new IOException("Corrupt game snapshot tiles");
+            tiles[index] = (short) value;
+        }
+        if (tiles[blankIndex] != Board.BLANK) throw new IOException("Corrupt game snapshot blank");
+
+        // a solvable board's parity always matches the blank's distance from its corner
+        int blankDistance = (size - 1 - blankIndex / size) + (size - 1 - blankIndex % size);
+        board.tilesChanged(blankIndex, blankDistance % 2 != 0);
+        if (board.getHash() != hash) throw new IOException("Game snapshot does not match its hash");
+
+        log.readFrom(buffer, moveCount, movePosition);
+        return board;
+    }
+
+    /* write
+     *
+     * Saves a game to a file with a single buffer write.
+     *
+     * @param file - the file to write
+     * @param board - the board of the game
+     * @param log - the moves of the game
+     * @throws IOException - if the file can not be written
+     */
+    public static void write(File file, Board board, MoveLog log) throws IOException
+    {
+        ByteBuffer buffer = encode(board, log);
+        try (RandomAccessFile output = new RandomAccessFile(file, "rw");
+             FileChannel channel = output.getChannel())
+        {
+            channel.truncate(0);
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+    }
+
+    /* read
+     *
+     * Brings a game back from a file written by write.
+     *
+     * @param file - the file to read
+     * @param log - the log to fill with the game's moves
+     * @return the board of the game
+     * @throws IOException - if the file can not be read or is not an undamaged snapshot
+     */
+    public static Board read(File file, MoveLog log) throws IOException
+    {
+        try (RandomAccessFile input = new RandomAccessFile(file, "r");
+             FileChannel channel = input.getChannel())
+        {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(Integer.MAX_VALUE, channel.size()));
+            while (buffer.hasRemaining())
+            {
+                if (channel.read(buffer) < 0) break;
+            }
+            buffer.flip();
+            return decode(buffer, log);
+        }
+    }
+
+    /* tileBits
+     *
+     * Helper method that finds the bits needed for every tile number.
+     *
+     * @param cellCount - the number of squares on the board
+     * @return the number of bits per tile
+     */
+    private static int tileBits(int cellCount)
+    {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(cellCount - 1);
+    }
+
+    /* tileWords
+     *
+     * Helper method that finds the longs needed for the packed tiles.
+     *
+     * @param cellCount - the number of squares on the board
+     * @return the number of longs
+     */
+    private static int tileWords(int cellCount)
+    {
+        return (cellCount * tileBits(cellCount) + Long.SIZE - 1) / Long.SIZE;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.myapplication.engine;
+
+/* Heuristic Interface
+ *
+ * This interface estimates the number of moves left to solve a board. The
+ * solvers only use admissible heuristics (estimates that never exceed the
+ * real number of moves) so the solutions they find are optimal.
+ *
+ * A heuristic is told about every move instead of rescanning the board, so
+ * implementations can keep whatever running totals they need. Because of
+ * that an instance belongs to one search at a time, and parallel searches
+ * give every thread its own copy.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public interface Heuristic
+{
+    /* reset
+     *
+     * Starts a new estimate from the layout passed in.
+     *
+     * @param tiles - the tile number at each index (0 for the blank)
+     * @param size - the number of squares per row
+     * @return the estimate for the layout
+     */
+    int reset(short[] tiles, int size);
+
+    /* update
+     *
+     * Updates the estimate after a tile slid into the blank. The tile array
+     * already holds the layout after the move.
+     *
+     * @param tiles - the tile number at each index after the move
+     * @param tile - the tile that moved
+     * @param from - the index the tile moved from
+     * @param to - the index the tile moved to
+     * @return the estimate for the new layout
+     */
+    int update(short[] tiles, int tile, int from, int to);
+
+    /* copy
+     *
+     * Returns a new heuristic of the same kind for another search to use.
+     * Read-only tables such as pattern databases are shared, not copied.
+     *
+     * @return the new heuristic
+     */
+    Heuristic copy();
+}
@@ -0,0 +1,308 @@
+package com.example.myapplication.engine;
+
+/* IdaStarSolver Class
+ *
+ * This class finds optimal solutions with iterative-deepening A*. Each
+ * iteration is a depth first search that cuts off any path whose moves so
+ * far plus the heuristic estimate exceed the bound, and the next bound is
+ * the smallest estimate that was cut off. With an admissible heuristic the
+ * first solution found is the shortest one.
+ *
+ * The search works on its own copy of the tiles and makes and unmakes moves
+ * in place, so nothing is allocated per node. An optional transposition
+ * table keyed by the Zobrist hash prunes boards already reached in the same
+ * iteration in no more moves, since the first visit searched everything
+ * below them with at least as much budget. A node and time budget stop
+ * the search on hard boards, in which case the most promising first move
+ * seen is still reported.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class IdaStarSolver
+{
+    /* Constant Variables */
+    // the default budget of a search
+    public static final long DEFAULT_NODE_LIMIT = 200000000L;
+    public static final long DEFAULT_TIME_LIMIT_MILLIS = 1000;
+
+    // the longest solution the search will look for
+    private static final int MAX_DEPTH = 255;
+
+    // values returned by the depth first search
+    private static final int FOUND = -1;
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    // how many nodes are expanded between checks of the clock
+    private static final int CLOCK_MASK = 0x3FFF;
+
+    // boards this close to the bound are cheaper to search than to look up
+    private static final int MIN_PROBE_REMAINING = 3;
+
+
+    /* Instance/Member Variables */
+    // the estimate of the moves left
+    private final Heuristic heuristic;
+
+    // the budget of a search
+    private long nodeLimit = DEFAULT_NODE_LIMIT;
+    private long timeLimitNanos = DEFAULT_TIME_LIMIT_MILLIS * 1000000L;
+
+    // the board being searched and the index the blank moves to for each direction
+    private short[] tiles;
+    private int[] neighbours;
+    private int size;
+    private int blank;
+
+    // the hash of the board being searched and the table of boards seen (or null)
+    private Zobrist zobrist;
+    private long hash;
+    private TranspositionTable table;
+
+    // the directions of the current path and the length of the solution found
+    private final int[] path = new int[MAX_DEPTH + 1];
+    private int solutionLength;
+
+    // the work done so far and whether the budget ran out
+    private long nodes;
+    private long deadline;
+    private boolean aborted;
+
+    // the most promising first move seen so far
+    private int bestEstimate;
+    private int bestFirstMove;
+
+
+    /* IdaStarSolver
+     *
+     * Constructor for IdaStarSolver using the Manhattan distance plus linear
+     * conflicts as the heuristic.
+     */
+    public IdaStarSolver()
+    {
+        this(new ManhattanLinearConflict());
+    }
+
+    /* IdaStarSolver
+     *
+     * Constructor for IdaStarSolver using the heuristic passed in.
+     *
+     * @param heuristic - an admissible estimate of the moves left
+     */
+    public IdaStarSolver(Heuristic heuristic)
+    {
+        this.heuristic = heuristic;
+    }
+
+    /* setNodeLimit
+     *
+     * Sets the number of nodes a search may expand before giving up.
+     *
+     * @param nodeLimit - the maximum number of nodes
+     */
+    public void setNodeLimit(long nodeLimit)
+    {
+        this.nodeLimit = nodeLimit;
+    }
+
+    /* setTranspositionTable
+     *
+     * Sets the table used to prune boards reached twice in one iteration.
+     *
+     * @param table - the table to use or null to search without one
+     */
+    public void setTranspositionTable(TranspositionTable table)
+    {
+        this.table = table;
+    }
+
+    /* setTimeLimitMillis
+     *
+     * Sets how long a search may run before giving up.
+     *
+     * @param millis - the maximum time in milliseconds
+     */
+    public void setTimeLimitMillis(long millis)
+    {
+        this.timeLimitNanos = millis * 1000000L;
+    }
+
+    /* solve
+     *
+     * Searches for the shortest sequence of moves that solves the board. The
+     * board itself is not changed.
+     *
+     * @param board - the board to solve
+     * @return the result of the search
+     */
+    public Solution solve(Board board)
+    {
+        long start = System.nanoTime();
+
+        // verify the board can be solved
+        if (!board.isSolvable())
+        {
+            return new Solution(Solution.Status.UNSOLVABLE, new int[0], Direction.NONE, -1, 0,
+                    0, 0, System.nanoTime() - start);
+        }
+
+        // copy the board into the working arrays
+        if (tiles == null || tiles.length != board.getCellCount())
+        {
+            tiles = new short[board.getCellCount()];
+            neighbours = Board.neighbourTable(board.getSize());
+            zobrist = Zobrist.forSize(board.getSize());
+        }
+        System.arraycopy(board.tiles(), 0, tiles, 0, tiles.length);
+        size = board.getSize();
+        blank = board.getBlankIndex();
+        hash = board.getHash();
+
+        // reset the budget and the best move seen
+        nodes = 0;
+        deadline = start + timeLimitNanos;
+        aborted = false;
+        int estimate = heuristic.reset(tiles, size);
+        bestEstimate = INFINITY;
+        bestFirstMove = Direction.NONE;
+
+        // deepen the bound until a solution is found or the budget runs out
+        int bound = estimate;
+        while (true)
+        {
+            if (table != null) table.nextGeneration();
+            int result = search(0, estimate, bound, Direction.NONE);
+            if (result == FOUND)
+            {
+                return finish(board, Solution.Status.SOLVED, bound, start);
+            }
+            if (aborted || result == INFINITY || result > MAX_DEPTH)
+            {
+                return finish(board, Solution.Status.GAVE_UP, bound, start);
+            }
+            bound = result;
+        }
+    }
+
+    /* search
+     *
+     * Depth first search of the moves from the current board.
+     *
+     * @param depth - the number of moves made so far
+     * @param estimate - the heuristic estimate of the current board
+     * @param bound - the largest number of moves allowed this iteration
+     * @param previous - the direction of the last move (never undone right away)
+     * @return FOUND or the smallest total that went over the bound
+     */
+    private int search(int depth, int estimate, int bound, int previous)
+    {
+        // cut off the path if it can not finish within the bound
+        int total = depth + estimate;
+        if (total > bound) return total;
+
+        // the board is solved once every tile is home
+        if (estimate == 0 && isGoal())
+        {
+            solutionLength = depth;
+            return FOUND;
+        }
+
+        // remember the first move of the most promising board seen
+        if (depth > 0 && estimate < bestEstimate)
+        {
+            bestEstimate = estimate;
+            bestFirstMove = path[0];
+        }
+
+        // stop when the budget runs out
+        nodes++;
+        if (nodes >= nodeLimit || ((nodes & CLOCK_MASK) == 0 && System.nanoTime() > deadline))
+        {
+            aborted = true;
+            return INFINITY;
+        }
+
+        // skip boards already reached this iteration in no more moves
+        if (table != null && bound - total >= MIN_PROBE_REMAINING)
+        {
+            int seen = table.get(hash);
+            if (seen != TranspositionTable.MISSING && seen <= depth) return INFINITY;
+            table.put(hash, depth, bound - depth);
+        }
+
+        int smallest = INFINITY;
+        int base = blank * Direction.COUNT;
+        for (int direction = 0; direction < Direction.COUNT; direction++)
+        {
+            // skip moves that leave the board or undo the last move
+            int target = neighbours[base + direction];
+            if (target < 0 || direction == Direction.opposite(previous)) continue;
+
+            // make the move
+            int tile = tiles[target];
+            int from = blank;
+            long delta = zobrist.key(tile, target) ^ zobrist.key(tile, from);
+            tiles[from] = (short) tile;
+            tiles[target] = Board.BLANK;
+            blank = target;
+            hash ^= delta;
+            path[depth] = direction;
+
+            int result = search(depth + 1, heuristic.update(tiles, tile, target, from), bound, direction);
+            if (result == FOUND) return FOUND;
+
+            // unmake the move
+            tiles[target] = (short) tile;
+            tiles[from] = Board.BLANK;
+            blank = from;
+            hash ^= delta;
+            heuristic.update(tiles, tile, from, target);
+
+            if (aborted) return INFINITY;
+            if (result < smallest) smallest = result;
+        }
+        return smallest;
+    }
+
+    /* isGoal
+     *
+     * Helper method that checks the working board is solved.
+     *
+     * @return whether every tile is in its correct position
+     */
+    private boolean isGoal()
+    {
+        for (int index = 0; index < tiles.length - 1; index++)
+        {
+            if (tiles[index] != index + 1) return false;
+        }
+        return true;
+    }
+
+    /* finish
+     *
+     * Helper method that builds the solution once the search is over.
+     *
+     * @param board - the board that was solved
+     * @param status - the outcome of the search
+     * @param bound - the last bound searched
+     * @param start - when the search started
+     * @return the solution
+     */
+    private Solution finish(Board board, Solution.Status status, int bound, long start)
+    {
+        // copy the path if the board was solved
+        int[] moves = new int[status == Solution.Status.SOLVED ? solutionLength : 0];
+        System.arraycopy(path, 0, moves, 0, moves.length);
+
+        // determine the next move and the tile it slides
+        int next = moves.length > 0 ? moves[0] : bestFirstMove;
+        int nextIndex = next == Direction.NONE ? -1
+                : neighbours[board.getBlankIndex() * Direction.COUNT + next];
+        int nextTile = nextIndex < 0 ? 0 : board.getTile(nextIndex);
+
+        return new Solution(status, moves, next, nextIndex, nextTile, bound, nodes,
+                System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.myapplication.engine;
+
+/* Inversions Class
+ *
+ * This class counts the inversions of a board, the pairs of numbered tiles
+ * where a larger tile appears before a smaller one. The blank is ignored.
+ * Instead of comparing every pair, the tiles are visited from the last index
+ * to the first while a Fenwick (binary indexed) tree counts how many smaller
+ * tiles have already been seen, so a count costs O(n log n) in the number of
+ * squares.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class Inversions
+{
+    /* Inversions
+     *
+     * Private constructor as this class only holds static helpers.
+     */
+    private Inversions() {}
+
+    /* count
+     *
+     * Counts the inversions of the board.
+     *
+     * @param board - the board to count
+     * @return the number of inversions
+     */
+    public static long count(Board board)
+    {
+        return count(board.tiles(), new int[board.getCellCount()]);
+    }
+
+    /* count
+     *
+     * Counts the inversions of a layout using the scratch array passed in as
+     * the Fenwick tree, so repeated counts do not allocate.
+     *
+     * @param tiles - the tile number at each index (0 for the blank)
+     * @param tree - scratch array at least as long as the layout
+     * @return the number of inversions
+     */
+    public static long count(short[] tiles, int[] tree)
+    {
+        // clear the tree, tile t is counted at position t
+        int length = tiles.length;
+        for (int i = 0; i < length; i++) tree[i] = 0;
+
+        long count = 0;
+        for (int index = length - 1; index >= 0; index--)
+        {
+            int tile = tiles[index];
+            if (tile == Board.BLANK) continue;
+
+            // count the smaller tiles that appear after this one
+            for (int i = tile - 1; i > 0; i -= i & -i) count += tree[i];
+
+            // record this tile
+            for (int i = tile; i < length; i += i & -i) tree[i]++;
+        }
+        return count;
+    }
+
+    /* countQuadratic
+     *
+     * Counts the inversions by comparing every pair of tiles. This is only
+     * kept as a reference for testing the faster count.
+     *
+     * @param tiles - the tile number at each index (0 for the blank)
+     * @return the number of inversions
+     */
+    static long countQuadratic(short[] tiles)
+    {
+        long count = 0;
+        for (int x = 0; x < tiles.length; x++)
+        {
+            if (tiles[x] == Board.BLANK) continue;
+            for (int y = x + 1; y < tiles.length; y++)
+            {
+                if (tiles[y] != Board.BLANK && tiles[x] > tiles[y]) count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.myapplication.engine;
+
+/* ManhattanDistance Class
+ *
+ * This class estimates the moves left with the plain Manhattan distance,
+ * the sum of the rows and columns every tile is away from its goal. It is
+ * the weakest heuristic the solvers use and mostly serves as the baseline
+ * the stronger heuristics are measured against.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class ManhattanDistance implements Heuristic
+{
+    /* Instance/Member Variables */
+    // the number of squares per row of the current board
+    private int size;
+
+    // the running Manhattan distance
+    private int manhattan;
+
+
+    /* reset
+     *
+     * Starts a new estimate from the layout passed in.
+     *
+     * @param tiles - the tile number at each index (0 for the blank)
+     * @param size - the number of squares per row
+     * @return the estimate for the layout
+     */
+    @Override
+    public int reset(short[] tiles, int size)
+    {
+        this.size = size;
+        manhattan = 0;
+        for (int index = 0; index < tiles.length; index++)
+        {
+            int tile = tiles[index];
+            if (tile != Board.BLANK) manhattan += distance(tile, index);
+        }
+        return manhattan;
+    }
+
+    /* update
+     *
+     * Updates the estimate after a tile slid into the blank.
+     *
+     * @param tiles - the tile number at each index after the move
+     * @param tile - the tile that moved
+     * @param from - the index the tile moved from
+     * @param to - the index the tile moved to
+     * @return the estimate for the new layout
+     */
+    @Override
+    public int update(short[] tiles, int tile, int from, int to)
+    {
+        manhattan += distance(tile, to) - distance(tile, from);
+        return manhattan;
+    }
+
+    /* copy
+     *
+     * @return a new Manhattan distance heuristic
+     */
+    @Override
+    public Heuristic copy()
+    {
+        return new ManhattanDistance();
+    }
+
+    /* distance
+     *
+     * Helper method that returns the Manhattan distance of one tile.
+     *
+     * @param tile - the numbered tile
+     * @param index - the index the tile is at
+     * @return the distance from the index to the tile's goal
+     */
+    private int distance(int tile, int index)
+    {
+        int goal = tile - 1;
+        return Math.abs(goal / size - index / size) + Math.abs(goal % size - index % size);
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.myapplication.engine;
+
+/* ManhattanLinearConflict Class
+ *
+ * This class estimates the moves left with the Manhattan distance plus the
+ * linear conflicts. Two tiles are in linear conflict when they are both in
+ * their goal row (or column) but in the wrong order, so one of them has to
+ * leave the line and come back, which costs two extra moves. For each line
+ * the number of tiles that have to leave is the number of goal tiles in the
+ * line minus the longest run of them that is already in order.
+ *
+ * A vertical move only changes the conflicts of the two rows involved and a
+ * horizontal move only changes the conflicts of the two columns involved, so
+ * every update rescans at most two lines.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class ManhattanLinearConflict implements Heuristic
+{
+    /* Instance/Member Variables */
+    // the number of squares per row of the current board
+    private int size;
+
+    // the goal row and column of every tile and the row and column of every index
+    private int[] goalRow;
+    private int[] goalCol;
+    private int[] rowOf;
+    private int[] colOf;
+
+    // the number of tiles that have to leave each row and column
+    private int[] rowConflicts;
+    private int[] colConflicts;
+
+    // the running Manhattan distance and total conflicts
+    private int manhattan;
+    private int conflicts;
+
+    // scratch array for finding the longest run of tiles in order
+    private int[] tails;
+
+
+    /* reset
+     *
+     * Starts a new estimate from the layout passed in.
+     *
+     * @param tiles - the tile number at each index (0 for the blank)
+     * @param size - the number of squares per row
+     * @return the estimate for the layout
+     */
+    @Override
+    public int reset(short[] tiles, int size)
+    {
+        // only reallocate the tables when the size of the board changes
+        if (this.size != size)
+        {
+            this.size = size;
+            int cellCount = size * size;
+            goalRow = new int[cellCount];
+            goalCol = new int[cellCount];
+            rowOf = new int[cellCount];
+            colOf = new int[cellCount];
+            for (int index = 0; index < cellCount; index++)
+            {
+                rowOf[index] = index / size;
+                colOf[index] = index % size;
+                if (index > 0)
+                {
+                    goalRow[index] = (index - 1) / size;
+                    goalCol[index] = (index - 1) % size;
+                }
+            }
+            rowConflicts = new int[size];
+            colConflicts = new int[size];
+            tails = new int[size];
+        }
+
+        // add up the distance of every numbered tile
+        manhattan = 0;
+        for (int index = 0; index < tiles.length; index++)
+        {
+            int tile = tiles[index];
+            if (tile != Board.BLANK) manhattan += distance(tile, index);
+        }
+
+        // count the conflicts of every row and column
+        conflicts = 0;
+        for (int line = 0; line < size; line++)
+        {
+            rowConflicts[line] = rowConflict(tiles, line);
+            colConflicts[line] = colConflict(tiles, line);
+            conflicts += rowConflicts[line] + colConflicts[line];
+        }
+        return manhattan + 2 * conflicts;
+    }
+
+    /* update
+     *
+     * Updates the estimate after a tile slid into the blank.
+     *
+     * @param tiles - the tile number at each index after the move
+     * @param tile - the tile that moved
+     * @param from - the index the tile moved from
+     * @param to - the index the tile moved to
+     * @return the estimate for the new layout
+     */
+    @Override
+    public int update(short[] tiles, int tile, int from, int to)
+    {
+        // update the distance of the tile that moved
+        manhattan += distance(tile, to) - distance(tile, from);
+
+        int fromRow = rowOf[from], toRow = rowOf[to];
+        if (fromRow != toRow)
+        {
+            // a vertical move changes the two rows the tile left and entered
+            conflicts -= rowConflicts[fromRow] + rowConflicts[toRow];
+            rowConflicts[fromRow] = rowConflict(tiles, fromRow);
+            rowConflicts[toRow] = rowConflict(tiles, toRow);
+            conflicts += rowConflicts[fromRow] + rowConflicts[toRow];
+        }
+        else
+        {
+            // a horizontal move changes the two columns the tile left and entered
+            int fromCol = colOf[from], toCol = colOf[to];
+            conflicts -= colConflicts[fromCol] + colConflicts[toCol];
+            colConflicts[fromCol] = colConflict(tiles, fromCol);
+            colConflicts[toCol] = colConflict(tiles, toCol);
+            conflicts += colConflicts[fromCol] + colConflicts[toCol];
+        }
+        return manhattan + 2 * conflicts;
+    }
+
+    /* copy
+     *
+     * @return a new linear conflict heuristic
+     */
+    @Override
+    public Heuristic copy()
+    {
+        return new ManhattanLinearConflict();
+    }
+
+    /* distance
+     *
+     * Helper method that returns the Manhattan distance of one tile.
+     *
+     * @param tile - the numbered tile
+     * @param index - the index the tile is at
+     * @return the distance from the index to the tile's goal
+     */
+    private int distance(int tile, int index)
+    {
+        return Math.abs(goalRow[tile] - rowOf[index]) + Math.abs(goalCol[tile] - colOf[index]);
+    }
+
+    /* rowConflict
+     *
+     * Helper method that counts the tiles that have to leave a row.
+     *
+     * @param tiles - the tile number at each index
+     * @param row - the row to check
+     * @return the number of tiles that have to leave the row
+     */
+    private int rowConflict(short[] tiles, int row)
+    {
+        int count = 0, longest = 0;
+        int start = row * size;
+        for (int index = start; index < start + size; index++)
+        {
+            int tile = tiles[index];
+            if (tile == Board.BLANK || goalRow[tile] != row) continue;
+            count++;
+            longest = extendRun(longest, goalCol[tile]);
+        }
+        return count - longest;
+    }
+
+    /* colConflict
+     *
+     * Helper method that counts the tiles that have to leave a column.
+     *
+     * @param tiles - the tile number at each index
+     * @param col - the column to check
+     * @return the number of tiles that have to leave the column
+     */
+    private int colConflict(short[] tiles, int col)
+    {
+        int count = 0, longest = 0;
+        for (int index = col; index < tiles.length; index += size)
+        {
+            int tile = tiles[index];
+            if (tile == Board.BLANK || goalCol[tile] != col) continue;
+            count++;
+            longest = extendRun(longest, goalRow[tile]);
+        }
+        return count - longest;
+    }
+
+    /* extendRun
+     *
+     * Helper method for finding the longest increasing run of goal positions
+     * in a line. tails[k] holds the smallest goal position that ends an
+     * increasing run of length k + 1.
+     *
+     * @param longest - the length of the longest run so far
+     * @param goal - the goal position of the next tile in the line
+     * @return the length of the longest run including the tile
+     */
+    private int extendRun(int longest, int goal)
+    {
+        // find the first run whose last goal position is not smaller
+        int low = 0, high = longest;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (tails[mid] < goal) low = mid + 1;
+            else high = mid;
+        }
+        tails[low] = goal;
+        return low == longest ? longest + 1 : longest;
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.myapplication.engine;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/* MoveLog Class
+ *
+ * This class records the moves of a game so they can be undone, redone and
+ * replayed. Each move is one of four directions, so it is stored in two
+ * bits, 32 moves to a long, and a game of 10,000 moves fits in 2.5 KB.
+ * Recording a move only writes two bits (the array doubles when it fills),
+ * so nothing is allocated per move.
+ *
+ * Undoing a move steps back through the log without forgetting it, so it
+ * can be redone until a new move is recorded in its place. Undo and redo
+ * replay the direction on the board (undo through Board.undo), so each
+ * costs the same as a move.
+ *
+ * A game that starts from a seeded shuffle can be replayed from the seed
+ * and the log alone. Clearing the log or reading it back from a snapshot
+ * forgets the seed, so a game that was not seeded is never replayed from
+ * a stale one.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class MoveLog
+{
+    /* Constant Variables */
+    // the moves stored in one long and the bits per move
+    private static final int MOVES_PER_WORD = 32;
+    private static final int BITS_PER_MOVE = 2;
+
+    // the longs allocated for a new log
+    private static final int INITIAL_WORDS = 4;
+
+
+    /* Instance/Member Variables */
+    // the moves, two bits each from the low bits up
+    private long[] words = new long[INITIAL_WORDS];
+
+    // the number of moves recorded (including undone ones) and made
+    private int size;
+    private int position;
+
+    // the seed the game was shuffled from and whether it has one
+    private long seed;
+    private boolean seeded;
+
+
+    /* record
+     *
+     * Records a move that was just made. Any undone moves are forgotten.
+     *
+     * @param direction - the direction the blank travelled in
+     */
+    public void record(int direction)
+    {
+        if (direction < 0 || direction >= Direction.COUNT)
+        {
+            throw new IllegalArgumentException("Not a direction: " + direction);
+        }
+
+        // double the array when it is full
+        int word = position / MOVES_PER_WORD;
+        if (word == words.length) words = Arrays.copyOf(words, words.length * 2);
+
+        // clear the two bits and write the direction
+        int shift = (position % MOVES_PER_WORD) * BITS_PER_MOVE;
+        words[word] = (words[word] & ~(3L << shift)) | ((long) direction << shift);
+        position++;
+        size = position;
+    }
+
+    /* record
+     *
+     * Records a slide of several moves in the same direction.
+     *
+     * @param direction - the direction the blank travelled in
+     * @param count - the number of moves
+     */
+    public void record(int direction, int count)
+    {
+        for (int move = 0; move < count; move++) record(direction);
+    }
+
+    /* get
+     *
+     * @param index - the number of moves before the one returned
+     * @return the direction of the move
+     */
+    public int get(int index)
+    {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("No move " + index + " of " + size);
+        return (int) (words[index / MOVES_PER_WORD] >>> ((index % MOVES_PER_WORD) * BITS_PER_MOVE)) & 3;
+    }
+
+    /* undo
+     *
+     * Undoes the last move made on the board.
+     *
+     * @param board - the board the moves were made on
+     * @return the direction of the move undone, or Direction.NONE if there is none
+     */
+    public int undo(Board board)
+    {
+        if (position == 0) return Direction.NONE;
+        int direction = get(position - 1);
+        board.undo(direction);
+        position--;
+        return direction;
+    }
+
+    /* redo
+     *
+     * Makes the last undone move on the board again.
+     *
+     * @param board - the board the moves were made on
+     * @return the direction of the move made, or Direction.NONE if there is none
+     */
+    public int redo(Board board)
+    {
+        if (position == size) return Direction.NONE;
+        int direction = get(position);
+        board.move(direction);
+        position++;
+        return direction;
+    }
+
+    /* canUndo
+     *
+     * @return whether there is a move to undo
+     */
+    public boolean canUndo()
+    {
+        return position > 0;
+    }
+
+    /* canRedo
+     *
+     * @return whether there is an undone move to make again
+     */
+    public boolean canRedo()
+    {
+        return position < size;
+    }
+
+    /* peekUndo
+     *
+     * @return the direction undo would reverse, or Direction.NONE if there is none
+     */
+    public int peekUndo()
+    {
+        return position == 0 ? Direction.NONE : get(position - 1);
+    }
+
+    /* peekRedo
+     *
+     * @return the direction redo would make, or Direction.NONE if there is none
+     */
+    public int peekRedo()
+    {
+        return position == size ? Direction.NONE : get(position);
+    }
+
+    /* replay
+     *
+     * Makes every move up to the current position on a board that is at
+     * the layout the game started from.
+     *
+     * @param board - the board at the starting layout
+     */
+    public void replay(Board board)
+    {
+        for (int index = 0; index < position; index++) board.move(get(index));
+    }
+
+    /* replayFromSeed
+     *
+     * Shuffles a board from the game's seed and makes every move up to the
+     * current position on it, rebuilding the game as it is now.
+     *
+     * @param board - the board to rebuild the game on
+     */
+    public void replayFromSeed(Board board)
+    {
+        // verify the game was started from a seed
+        if (!seeded) throw new IllegalStateException("The game was not started from a seed");
+        new BoardGenerator(seed).shuffle(board);
+        replay(board);
+    }
+
+    /* start
+     *
+     * Forgets every move and starts a log for a game shuffled from a seed.
+     *
+     * @param board - the board to shuffle into the game's starting layout
+     * @param newSeed - the seed to shuffle from
+     */
+    public void start(Board board, long newSeed)
+    {
+        clear();
+        seed = newSeed;
+        seeded = true;
+        new BoardGenerator(newSeed).shuffle(board);
+    }
+
+    /* clear
+     *
+     * Forgets every move and the seed, keeping the array for the next game.
+     */
+    public void clear()
+    {
+        size = 0;
+        position = 0;
+        seed = 0;
+        seeded = false;
+    }
+
+    /* size
+     *
+     * @return the number of moves recorded, including undone ones
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /* position
+     *
+     * @return the number of moves made (recorded and not undone)
+     */
+    public int position()
+    {
+        return position;
+    }
+
+    /* getSeed
+     *
+     * @return the seed the game was shuffled from (0 if it has none)
+     */
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    /* isSeeded
+     *
+     * @return whether the game was shuffled from a seed and can be replayed from it
+     */
+    public boolean isSeeded()
+    {
+        return seeded;
+    }
+
+    /* wordCount
+     *
+     * @return the number of longs holding the recorded moves
+     */
+    int wordCount()
+    {
+        return (size + MOVES_PER_WORD - 1) / MOVES_PER_WORD;
+    }
+
+    /* writeTo
+     *
+     * Writes the longs holding the recorded moves to a buffer.
+     *
+     * @param buffer - the buffer to write to
+     */
+    void writeTo(ByteBuffer buffer)
+    {
+        for (int word = 0; word < wordCount(); word++) buffer.putLong(words[word]);
+    }
+
+    /* readFrom
+     *
+     * Replaces the log with moves read from a buffer written by writeTo.
+     * The game read back has no seed.
+     *
+     * @param buffer - the buffer to read from
+     * @param newSize - the number of moves recorded
+     * @param newPosition - the number of moves made
+     */
+    void readFrom(ByteBuffer buffer, int newSize, int newPosition)
+    {
+        clear();
+        size = newSize;
+        position = newPosition;
+        int count = wordCount();
+        if (words.length < count) words = new long[Math.max(count, words.length * 2)];
+        for (int word = 0; word < count; word++) words[word] = buffer.getLong();
+    }
+
+    /* getCapacityBytes
+     *
+     * @return the memory used for the moves in bytes
+     */
+    public long getCapacityBytes()
+    {
+        return (long) words.length * Long.BYTES;
+    }
+}
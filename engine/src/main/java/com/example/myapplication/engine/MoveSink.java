@@ -0,0 +1,23 @@
+package com.example.myapplication.engine;
+
+/* MoveSink Interface
+ *
+ * This interface receives the moves of a solution one at a time, as soon
+ * as the solver decides on them, so the first moves can be used before the
+ * rest of the solution has been found.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public interface MoveSink
+{
+    /* accept
+     *
+     * Receives the next move of the solution.
+     *
+     * @param direction - the direction the blank travels in
+     * @return whether the solver should keep going
+     */
+    boolean accept(int direction);
+}
@@ -0,0 +1,217 @@
+package com.example.myapplication.engine;
+
+/* PackedBoard4 Class
+ *
+ * This class is the fast path for the classic 4x4 board. All sixteen squares
+ * fit in a single long with four bits per square, where the square at index i
+ * is stored in bits 4i through 4i+3 and the blank is stored as 0. Every method
+ * is static and works on the packed value directly, so a search can hold a
+ * board in a register and make or unmake a move with a couple of shifts.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class PackedBoard4
+{
+    /* Constant Variables */
+    // the number of squares per row and in total
+    public static final int SIZE = 4;
+    public static final int CELLS = 16;
+
+    // the packed solved board (1 through 15 followed by the blank)
+    public static final long GOAL = 0x0FEDCBA987654321L;
+
+
+    /* PackedBoard4
+     *
+     * Private constructor as this class only holds static helpers.
+     */
+    private PackedBoard4() {}
+
+    /* pack
+     *
+     * Packs a 4x4 board into a long.
+     *
+     * @param board - the board to pack
+     * @return the packed board
+     */
+    public static long pack(Board board)
+    {
+        // verify the board is 4x4
+        if (board.getSize() != SIZE)
+        {
+            throw new IllegalArgumentException("Only 4x4 boards can be packed: " + board.getSize());
+        }
+
+        // store each tile in its own nibble
+        long state = 0;
+        for (int index = 0; index < CELLS; index++) state |= (long) board.getTile(index) << (index << 2);
+        return state;
+    }
+
+    /* unpack
+     *
+     * Writes a packed board back into a 4x4 board.
+     *
+     * @param state - the packed board
+     * @param board - the board to write into
+     */
+    public static void unpack(long state, Board board)
+    {
+        int[] layout = new int[CELLS];
+        for (int index = 0; index < CELLS; index++) layout[index] = tileAt(state, index);
+        board.setTiles(layout);
+    }
+
+    /* tileAt
+     *
+     * @param state - the packed board
+     * @param index - the index on the board
+     * @return the tile at the index (0 for the blank)
+     */
+    public static int tileAt(long state, int index)
+    {
+        return (int) (state >>> (index << 2)) & 0xF;
+    }
+
+    /* blankIndex
+     *
+     * Finds the blank square of a packed board.
+     *
+     * @param state - the packed board
+     * @return the index of the blank square
+     */
+    public static int blankIndex(long state)
+    {
+        for (int index = 0; index < CELLS; index++)
+        {
+            if (tileAt(state, index) == Board.BLANK) return index;
+        }
+        throw new IllegalArgumentException("Packed board has no blank: " + Long.toHexString(state));
+    }
+
+    /* canMove
+     *
+     * Determines whether the blank can travel in the given direction.
+     *
+     * @param blank - the index of the blank square
+     * @param direction - the direction the blank would travel in
+     * @return whether the move stays on the board
+     */
+    public static boolean canMove(int blank, int direction)
+    {
+        switch (direction)
+        {
+            case Direction.UP:
+                return blank >= SIZE;
+            case Direction.DOWN:
+                return blank < CELLS - SIZE;
+            case Direction.LEFT:
+                return (blank & 3) != 0;
+            case Direction.RIGHT:
+                return (blank & 3) != 3;
+            default:
+                return false;
+        }
+    }
+
+    /* target
+     *
+     * Returns the index the blank moves to. The caller is responsible for
+     * checking the move with canMove first.
+     *
+     * @param blank - the index of the blank square
+     * @param direction - the direction the blank travels in
+     * @return the new index of the blank square
+     */
+    public static int target(int blank, int direction)
+    {
+        switch (direction)
+        {
+            case Direction.UP:
+                return blank - SIZE;
+            case Direction.DOWN:
+                return blank + SIZE;
+            case Direction.LEFT:
+                return blank - 1;
+            default:
+                return blank + 1;
+        }
+    }
+
+    /* move
+     *
+     * Slides the tile at the target index into the blank. Since the blank is
+     * stored as 0 the move is two XORs, and calling it again with the blank
+     * and target swapped undoes it.
+     *
+     * @param state - the packed board
+     * @param blank - the index of the blank square
+     * @param target - the index of the tile to slide into the blank
+     * @return the packed board after the move
+     */
+    public static long move(long state, int blank, int target)
+    {
+        return state ^ delta(tileAt(state, target), target, blank);
+    }
+
+    /* delta
+     *
+     * Returns the bits a move flips, so a search that keeps the tiles in an
+     * array can keep the packed board up to date alongside them. XORing the
+     * same delta again unmakes the move.
+     *
+     * @param tile - the tile that slides
+     * @param from - the index the tile leaves
+     * @param to - the index the tile slides into (the blank)
+     * @return the bits to XOR into the packed board
+     */
+    public static long delta(int tile, int from, int to)
+    {
+        return (long) tile << (from << 2) ^ (long) tile << (to << 2);
+    }
+
+    /* isSolved
+     *
+     * @param state - the packed board
+     * @return whether the packed board is solved
+     */
+    public static boolean isSolved(long state)
+    {
+        return state == GOAL;
+    }
+
+    /* isSolvable
+     *
+     * Determines whether a packed board can be solved. Since the width is
+     * even, the inversions plus the rows between the blank and the bottom
+     * row must be even.
+     *
+     * @param state - the packed board
+     * @return whether the packed board can be solved
+     */
+    public static boolean isSolvable(long state)
+    {
+        // count the inversions between the numbered tiles
+        int inversions = 0;
+        int blank = -1;
+        for (int x = 0; x < CELLS; x++)
+        {
+            int tileX = tileAt(state, x);
+            if (tileX == Board.BLANK)
+            {
+                blank = x;
+                continue;
+            }
+            for (int y = x + 1; y < CELLS; y++)
+            {
+                int tileY = tileAt(state, y);
+                if (tileY != Board.BLANK && tileX > tileY) inversions++;
+            }
+        }
+
+        // add the rows between the blank square and the bottom row
+        return (inversions + SIZE - 1 - (blank >> 2)) % 2 == 0;
+    }
+}
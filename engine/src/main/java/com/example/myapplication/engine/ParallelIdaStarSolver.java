@@ -0,0 +1,609 @@
+package com.example.myapplication.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/* ParallelIdaStarSolver Class
+ *
+ * This class runs the same iterative-deepening A* search as IdaStarSolver
+ * on every core. Each iteration expands the first few moves (the split
+ * depth) as fork/join tasks and every path that reaches the split depth is
+ * searched depth first by whichever worker picks it up.
+ *
+ * The bound of the iteration is broadcast through a volatile field, the
+ * workers lower the next bound together with compare-and-set, and the first
+ * worker to find a solution raises a flag that stops all the others. All
+ * paths at the split depth of the last iteration are at most the bound, so
+ * any solution found in it is optimal.
+ *
+ * The workers share a lock-free transposition table of single longs (a check
+ * of the board's Zobrist hash, the iteration and the number of moves). A board
+ * reached again in the same iteration with no fewer moves is pruned, since
+ * whoever got there first searches everything below it with a larger budget.
+ * A hash collision can wrongly prune a board, which is unlikely enough with
+ * a 40 bit check to be ignored. A 4x4 board is keyed by its PackedBoard4
+ * value instead of its hash, which names the board exactly and also makes
+ * the goal check a single comparison.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class ParallelIdaStarSolver
+{
+    /* Constant Variables */
+    // the default number of moves expanded as tasks and the default table size
+    public static final int DEFAULT_SPLIT_DEPTH = 8;
+    public static final int DEFAULT_TABLE_BITS = 20;
+
+    // the longest solution the search will look for and the deepest split
+    private static final int MAX_DEPTH = 255;
+    private static final int MAX_SPLIT_DEPTH = 31;
+
+    // values returned by the depth first search
+    private static final int FOUND = -1;
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    // how many nodes are expanded between checks of the budget
+    private static final int CLOCK_MASK = 0x3FFF;
+
+    // the layout of a table entry: check bits, iteration and moves
+    private static final int MOVES_BITS = 8;
+    private static final int ITERATION_BITS = 16;
+    private static final int CHECK_SHIFT = MOVES_BITS + ITERATION_BITS;
+    private static final int ITERATION_MASK = (1 << ITERATION_BITS) - 1;
+
+    // boards this close to the bound are cheaper to search than to look up
+    private static final int MIN_PROBE_REMAINING = 3;
+
+
+    /* Instance/Member Variables */
+    // the heuristic every worker copies and the threads that search
+    private final Heuristic prototype;
+    private final ForkJoinPool pool;
+    private final int parallelism;
+
+    // the shared transposition table and the current iteration
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private int iteration;
+
+    // the budget of a search and the number of moves expanded as tasks
+    private long nodeLimit = IdaStarSolver.DEFAULT_NODE_LIMIT;
+    private long timeLimitNanos = IdaStarSolver.DEFAULT_TIME_LIMIT_MILLIS * 1000000L;
+    private int splitDepth = DEFAULT_SPLIT_DEPTH;
+
+    // the board being searched, written before the tasks start
+    private short[] rootTiles;
+    private int rootBlank;
+    private long rootHash;
+    private int size;
+    private int[] neighbours;
+    private Zobrist zobrist;
+    private boolean packed;
+
+    // the bound of the current iteration and the smallest total over it
+    private volatile int bound;
+    private final AtomicInteger nextBound = new AtomicInteger();
+
+    // whether a solution was found or the budget ran out, and the solution
+    private final AtomicBoolean found = new AtomicBoolean();
+    private volatile boolean aborted;
+    private int[] solution;
+
+    // the work done and the most promising first move seen (guarded by bestLock)
+    private final AtomicLong nodes = new AtomicLong();
+    private long deadline;
+    private final Object bestLock = new Object();
+    private int bestEstimate;
+    private int bestFirstMove;
+
+
+    /* ParallelIdaStarSolver
+     *
+     * Constructor for ParallelIdaStarSolver using the Manhattan distance plus
+     * linear conflicts on every core.
+     */
+    public ParallelIdaStarSolver()
+    {
+        this(new ManhattanLinearConflict(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /* ParallelIdaStarSolver
+     *
+     * Constructor for ParallelIdaStarSolver using the heuristic passed in.
+     *
+     * @param heuristic - an admissible estimate of the moves left, copied for every worker
+     * @param parallelism - the number of threads to search with
+     */
+    public ParallelIdaStarSolver(Heuristic heuristic, int parallelism)
+    {
+        this(heuristic, parallelism, DEFAULT_TABLE_BITS);
+    }
+
+    /* ParallelIdaStarSolver
+     *
+     * Constructor for ParallelIdaStarSolver with a transposition table size.
+     *
+     * @param heuristic - an admissible estimate of the moves left, copied for every worker
+     * @param parallelism - the number of threads to search with
+     * @param tableBits - the table holds 2^tableBits entries of 8 bytes
+     */
+    public ParallelIdaStarSolver(Heuristic heuristic, int parallelism, int tableBits)
+    {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        if (tableBits < 1 || tableBits > 30) throw new IllegalArgumentException("Table bits out of range: " + tableBits);
+        this.prototype = heuristic;
+        this.parallelism = parallelism;
+        this.table = new AtomicLongArray(1 << tableBits);
+        this.tableMask = (1 << tableBits) - 1;
+        this.pool = new ForkJoinPool(parallelism, SearchThread::new, null, false);
+    }
+
+    /* setNodeLimit
+     *
+     * Sets the number of nodes a search may expand, over all threads, before giving up.
+     *
+     * @param nodeLimit - the maximum number of nodes
+     */
+    public void setNodeLimit(long nodeLimit)
+    {
+        this.nodeLimit = nodeLimit;
+    }
+
+    /* setTimeLimitMillis
+     *
+     * Sets how long a search may run before giving up.
+     *
+     * @param millis - the maximum time in milliseconds
+     */
+    public void setTimeLimitMillis(long millis)
+    {
+        this.timeLimitNanos = millis * 1000000L;
+    }
+
+    /* setSplitDepth
+     *
+     * Sets how many moves from the start are expanded as separate tasks.
+     *
+     * @param splitDepth - the number of moves, from 1 to 31
+     */
+    public void setSplitDepth(int splitDepth)
+    {
+        if (splitDepth < 1 || splitDepth > MAX_SPLIT_DEPTH)
+        {
+            throw new IllegalArgumentException("Split depth out of range: " + splitDepth);
+        }
+        this.splitDepth = splitDepth;
+    }
+
+    /* getParallelism
+     *
+     * @return the number of threads the search runs on
+     */
+    public int getParallelism()
+    {
+        return parallelism;
+    }
+
+    /* shutdown
+     *
+     * Stops the worker threads once the solver is no longer needed.
+     */
+    public void shutdown()
+    {
+        pool.shutdown();
+    }
+
+    /* solve
+     *
+     * Searches for the shortest sequence of moves that solves the board. The
+     * board itself is not changed. Only one board is solved at a time.
+     *
+     * @param board - the board to solve
+     * @return the result of the search
+     */
+    public synchronized Solution solve(Board board)
+    {
+        long start = System.nanoTime();
+
+        // verify the board can be solved
+        if (!board.isSolvable())
+        {
+            return new Solution(Solution.Status.UNSOLVABLE, new int[0], Direction.NONE, -1, 0,
+                    0, 0, System.nanoTime() - start);
+        }
+
+        // copy the board the workers replay their paths from
+        if (rootTiles == null || rootTiles.length != board.getCellCount())
+        {
+            rootTiles = new short[board.getCellCount()];
+            neighbours = Board.neighbourTable(board.getSize());
+            zobrist = Zobrist.forSize(board.getSize());
+        }
+        System.arraycopy(board.tiles(), 0, rootTiles, 0, rootTiles.length);
+        size = board.getSize();
+        rootBlank = board.getBlankIndex();
+        packed = size == PackedBoard4.SIZE;
+        rootHash = packed ? PackedBoard4.pack(board) : board.getHash();
+
+        // reset the budget, the result and the best move seen
+        nodes.set(0);
+        deadline = start + timeLimitNanos;
+        aborted = false;
+        found.set(false);
+        solution = null;
+        synchronized (bestLock)
+        {
+            bestEstimate = INFINITY;
+            bestFirstMove = Direction.NONE;
+        }
+
+        // deepen the bound until a solution is found or the budget runs out
+        int nextLimit = prototype.copy().reset(rootTiles, size);
+        while (true)
+        {
+            bound = nextLimit;
+            nextBound.set(INFINITY);
+            nextIteration();
+            pool.invoke(new SearchTask(0, 0, Direction.NONE));
+            if (found.get())
+            {
+                return finish(board, Solution.Status.SOLVED, solution, start);
+            }
+            nextLimit = nextBound.get();
+            if (aborted || nextLimit == INFINITY || nextLimit > MAX_DEPTH)
+            {
+                return finish(board, Solution.Status.GAVE_UP, new int[0], start);
+            }
+        }
+    }
+
+    /* nextIteration
+     *
+     * Helper method that moves the table on to a new iteration, so entries
+     * from earlier iterations no longer prune anything.
+     */
+    private void nextIteration()
+    {
+        iteration = (iteration + 1) & ITERATION_MASK;
+        if (iteration == 0)
+        {
+            // the counter wrapped, so old entries could look current again
+            for (int slot = 0; slot < table.length(); slot++) table.set(slot, 0);
+            iteration = 1;
+        }
+    }
+
+    /* visit
+     *
+     * Helper method that records a board in the transposition table.
+     *
+     * @param hash - the hash of the board (the packed board on 4x4)
+     * @param moves - the number of moves made to reach it
+     * @return false if the board was already reached this iteration in no more moves
+     */
+    private boolean visit(long hash, int moves)
+    {
+        long mixed = SplitMix64.mix(hash);
+        int slot = (int) mixed & tableMask;
+        long check = mixed >>> CHECK_SHIFT;
+        long entry = table.get(slot);
+        if (entry >>> CHECK_SHIFT == check && (int) (entry >>> MOVES_BITS & ITERATION_MASK) == iteration
+                && (int) (entry & 0xFF) <= moves)
+        {
+            return false;
+        }
+        table.set(slot, check << CHECK_SHIFT | (long) iteration << MOVES_BITS | moves);
+        return true;
+    }
+
+    /* lowerNextBound
+     *
+     * Helper method that lowers the next bound to a total that went over the
+     * current one.
+     *
+     * @param total - the moves so far plus the estimate of a board
+     */
+    private void lowerNextBound(int total)
+    {
+        int current = nextBound.get();
+        while (total < current && !nextBound.compareAndSet(current, total)) current = nextBound.get();
+    }
+
+    /* publish
+     *
+     * Helper method that keeps the first solution found and stops the others.
+     *
+     * @param path - the directions of the solution
+     * @param length - the number of moves
+     */
+    private void publish(int[] path, int length)
+    {
+        if (found.compareAndSet(false, true)) solution = Arrays.copyOf(path, length);
+    }
+
+    /* offerBest
+     *
+     * Helper method that keeps the most promising first move of all the workers.
+     *
+     * @param estimate - the smallest estimate a worker saw
+     * @param firstMove - the first move of the path to that board
+     */
+    private void offerBest(int estimate, int firstMove)
+    {
+        synchronized (bestLock)
+        {
+            if (firstMove != Direction.NONE && estimate < bestEstimate)
+            {
+                bestEstimate = estimate;
+                bestFirstMove = firstMove;
+            }
+        }
+    }
+
+    /* finish
+     *
+     * Helper method that builds the solution once the search is over.
+     *
+     * @param board - the board that was solved
+     * @param status - the outcome of the search
+     * @param moves - the directions of the solution (empty unless solved)
+     * @param start - when the search started
+     * @return the solution
+     */
+    private Solution finish(Board board, Solution.Status status, int[] moves, long start)
+    {
+        int next;
+        synchronized (bestLock)
+        {
+            next = moves.length > 0 ? moves[0] : bestFirstMove;
+        }
+        int nextIndex = next == Direction.NONE ? -1
+                : neighbours[board.getBlankIndex() * Direction.COUNT + next];
+        int nextTile = nextIndex < 0 ? 0 : board.getTile(nextIndex);
+        return new Solution(status, moves, next, nextIndex, nextTile, bound, nodes.get(),
+                System.nanoTime() - start);
+    }
+
+    /* SearchTask Class
+     *
+     * Searches below the board reached by a path of moves. Paths shorter
+     * than the split depth fork a task per move, longer ones are searched
+     * depth first on the current worker.
+     */
+    private final class SearchTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        // the moves from the start, two bits each, the number of moves and the last one
+        private final long moves;
+        private final int depth;
+        private final int previous;
+
+        SearchTask(long moves, int depth, int previous)
+        {
+            this.moves = moves;
+            this.depth = depth;
+            this.previous = previous;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (found.get() || aborted) return;
+            SearchThread worker = (SearchThread) Thread.currentThread();
+            int estimate = worker.load(moves, depth);
+
+            if (depth < splitDepth)
+            {
+                // cut off the path or stop if it already solves the board
+                worker.pendingNodes++;
+                int total = depth + estimate;
+                if (total > bound)
+                {
+                    lowerNextBound(total);
+                    return;
+                }
+                if (estimate == 0 && worker.isGoal())
+                {
+                    publish(worker.path, depth);
+                    return;
+                }
+                if (!worker.withinBudget()) return;
+
+                // fork a task for every move that does not undo the last one
+                SearchTask[] children = new SearchTask[Direction.COUNT];
+                int count = 0;
+                for (int direction = 0; direction < Direction.COUNT; direction++)
+                {
+                    if (direction == Direction.opposite(previous)) continue;
+                    if (neighbours[worker.blank * Direction.COUNT + direction] < 0) continue;
+                    children[count++] = new SearchTask(moves | (long) direction << (2 * depth), depth + 1, direction);
+                }
+                invokeAll(Arrays.copyOf(children, count));
+            }
+            else
+            {
+                // search the rest of the path on this worker
+                worker.bestEstimate = INFINITY;
+                int result = worker.search(depth, estimate, bound, previous);
+                if (result != FOUND) lowerNextBound(result);
+                offerBest(worker.bestEstimate, worker.bestFirstMove);
+            }
+
+            // add the worker's nodes to the shared count and check the budget
+            worker.withinBudget();
+        }
+    }
+
+    /* SearchThread Class
+     *
+     * A worker thread with its own heuristic and copy of the board, so the
+     * depth first searches never share mutable state.
+     */
+    private final class SearchThread extends ForkJoinWorkerThread
+    {
+        // the worker's heuristic, board, hash (the packed board on 4x4) and path
+        private final Heuristic heuristic = prototype.copy();
+        private short[] tiles;
+        private int blank;
+        private long hash;
+        private final int[] path = new int[MAX_DEPTH + 1];
+
+        // nodes not yet added to the shared count and the best move seen
+        private long pendingNodes;
+        private int bestEstimate;
+        private int bestFirstMove;
+
+        SearchThread(ForkJoinPool pool)
+        {
+            super(pool);
+        }
+
+        /* load
+         *
+         * Replays a path of moves from the start on the worker's board.
+         *
+         * @param moves - the moves, two bits each
+         * @param depth - the number of moves
+         * @return the estimate of the board reached
+         */
+        int load(long moves, int depth)
+        {
+            if (tiles == null || tiles.length != rootTiles.length) tiles = new short[rootTiles.length];
+            System.arraycopy(rootTiles, 0, tiles, 0, tiles.length);
+            blank = rootBlank;
+            hash = rootHash;
+            for (int step = 0; step < depth; step++)
+            {
+                int direction = (int) (moves >>> (2 * step)) & 3;
+                path[step] = direction;
+                int target = neighbours[blank * Direction.COUNT + direction];
+                int tile = tiles[target];
+                tiles[blank] = (short) tile;
+                tiles[target] = Board.BLANK;
+                hash ^= key(tile, target, blank);
+                blank = target;
+            }
+            return heuristic.reset(tiles, size);
+        }
+
+        /* search
+         *
+         * Depth first search of the moves from the worker's board.
+         *
+         * @param depth - the number of moves made so far
+         * @param estimate - the heuristic estimate of the current board
+         * @param bound - the largest number of moves allowed this iteration
+         * @param previous - the direction of the last move (never undone right away)
+         * @return FOUND or the smallest total that went over the bound
+         */
+        int search(int depth, int estimate, int bound, int previous)
+        {
+            // cut off the path if it can not finish within the bound
+            int total = depth + estimate;
+            if (total > bound) return total;
+
+            // the board is solved once every tile is home
+            if (estimate == 0 && isGoal())
+            {
+                publish(path, depth);
+                return FOUND;
+            }
+
+            // stop once another worker found a solution or the budget ran out
+            if (found.get() || aborted) return INFINITY;
+            if ((++pendingNodes & CLOCK_MASK) == 0 && !withinBudget()) return INFINITY;
+
+            // remember the first move of the most promising board seen
+            if (depth > 0 && estimate < bestEstimate)
+            {
+                bestEstimate = estimate;
+                bestFirstMove = path[0];
+            }
+
+            // skip boards another path already reached in no more moves
+            if (bound - total >= MIN_PROBE_REMAINING && !visit(hash, depth)) return INFINITY;
+
+            int smallest = INFINITY;
+            int base = blank * Direction.COUNT;
+            for (int direction = 0; direction < Direction.COUNT; direction++)
+            {
+                // skip moves that leave the board or undo the last move
+                int target = neighbours[base + direction];
+                if (target < 0 || direction == Direction.opposite(previous)) continue;
+
+                // make the move
+                int tile = tiles[target];
+                int from = blank;
+                long delta = key(tile, target, from);
+                tiles[from] = (short) tile;
+                tiles[target] = Board.BLANK;
+                blank = target;
+                hash ^= delta;
+                path[depth] = direction;
+
+                int result = search(depth + 1, heuristic.update(tiles, tile, target, from), bound, direction);
+                if (result == FOUND) return FOUND;
+
+                // unmake the move
+                tiles[target] = (short) tile;
+                tiles[from] = Board.BLANK;
+                blank = from;
+                hash ^= delta;
+                heuristic.update(tiles, tile, from, target);
+
+                if (result < smallest) smallest = result;
+            }
+            return smallest;
+        }
+
+        /* withinBudget
+         *
+         * Adds the worker's nodes to the shared count and checks the budget.
+         *
+         * @return whether the search may go on
+         */
+        private boolean withinBudget()
+        {
+            long total = nodes.addAndGet(pendingNodes);
+            pendingNodes = 0;
+            if (total >= nodeLimit || System.nanoTime() > deadline) aborted = true;
+            return !aborted;
+        }
+
+        /* key
+         *
+         * @param tile - the tile that slides
+         * @param from - the index the tile leaves
+         * @param to - the index the tile slides into
+         * @return the bits the move flips in the worker's hash
+         */
+        private long key(int tile, int from, int to)
+        {
+            if (packed) return PackedBoard4.delta(tile, from, to);
+            return zobrist.key(tile, from) ^ zobrist.key(tile, to);
+        }
+
+        /* isGoal
+         *
+         * @return whether every tile of the worker's board is in its correct position
+         */
+        boolean isGoal()
+        {
+            if (packed) return PackedBoard4.isSolved(hash);
+            for (int index = 0; index < tiles.length - 1; index++)
+            {
+                if (tiles[index] != index + 1) return false;
+            }
+            return true;
+        }
+    }
+}
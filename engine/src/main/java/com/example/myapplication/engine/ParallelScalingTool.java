@@ -0,0 +1,89 @@
+package com.example.myapplication.engine;
+
+/* ParallelScalingTool Class
+ *
+ * This class is the command line entry point for measuring how the parallel
+ * solver scales with the number of threads. The same seeded 4x4 boards are
+ * solved by the sequential solver and then by the parallel solver with 1,
+ * 2, 4, ... threads up to the limit, and the time and speedup of each run is
+ * reported. It is run through the measureParallelScaling Gradle task.
+ *
+ *   <boards> <seed> [threads]     defaults to every available core
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class ParallelScalingTool
+{
+    /* ParallelScalingTool
+     *
+     * Private constructor as this class only holds the entry point.
+     */
+    private ParallelScalingTool() {}
+
+    /* main
+     *
+     * @param args - the number of boards, the seed and optionally the most threads
+     */
+    public static void main(String[] args)
+    {
+        if (args.length < 2)
+        {
+            System.err.println("usage: <boards> <seed> [threads]");
+            System.exit(2);
+        }
+        int boards = Integer.parseInt(args[0]);
+        long seed = Long.parseLong(args[1]);
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        System.out.println("available processors: " + Runtime.getRuntime().availableProcessors());
+
+        // the sequential solver is the baseline every run is compared against
+        IdaStarSolver sequential = new IdaStarSolver();
+        sequential.setTimeLimitMillis(600000);
+        long baseline = run("sequential", boards, seed, sequential, null);
+
+        // double the threads each run, finishing with the limit itself
+        int threads = 1;
+        while (true)
+        {
+            ParallelIdaStarSolver parallel = new ParallelIdaStarSolver(new ManhattanLinearConflict(), threads);
+            parallel.setTimeLimitMillis(600000);
+            long elapsed = run("parallel x" + threads, boards, seed, null, parallel);
+            System.out.printf("  speedup over sequential: %.2fx%n", (double) baseline / elapsed);
+            parallel.shutdown();
+            if (threads >= maxThreads) break;
+            threads = Math.min(threads * 2, maxThreads);
+        }
+    }
+
+    /* run
+     *
+     * Helper method that solves the seeded boards with one of the solvers.
+     *
+     * @param name - the name of the run
+     * @param boards - the number of boards to solve
+     * @param seed - the seed of the boards
+     * @param sequential - the sequential solver or null
+     * @param parallel - the parallel solver or null
+     * @return the total time in nanoseconds
+     */
+    private static long run(String name, int boards, long seed, IdaStarSolver sequential,
+                            ParallelIdaStarSolver parallel)
+    {
+        BoardGenerator generator = new BoardGenerator(seed);
+        Board board = new Board(4);
+        long elapsed = 0, nodes = 0, moves = 0;
+        for (int i = 0; i < boards; i++)
+        {
+            generator.shuffle(board);
+            Solution solution = sequential != null ? sequential.solve(board) : parallel.solve(board);
+            elapsed += solution.getElapsedNanos();
+            nodes += solution.getNodes();
+            moves += solution.getLength();
+        }
+        System.out.printf("%-14s %8.2f s %,14d nodes %6d moves %6.2fM nodes/s%n", name, elapsed / 1e9, nodes,
+                moves, nodes * 1e3 / Math.max(1, elapsed));
+        return elapsed;
+    }
+}
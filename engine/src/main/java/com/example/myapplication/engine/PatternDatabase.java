@@ -0,0 +1,465 @@
+package com.example.myapplication.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/* PatternDatabase Class
+ *
+ * This class stores the exact number of moves needed to bring a small group
+ * of tiles (the pattern) home, for every placement of those tiles. Only moves
+ * of pattern tiles are counted, so the values of databases built over
+ * disjoint patterns can be added together and still never overestimate.
+ *
+ * A placement of k tiles on n squares is stored at its rank as a partial
+ * permutation, giving n! / (n - k)! entries of one byte each. The table is
+ * built by a breadth first search backwards from the solved board over
+ * placements of the pattern tiles plus the blank, where moving the blank
+ * onto a square outside the pattern is free.
+ *
+ * Databases are written once to a small binary file and loaded through a
+ * memory mapped buffer, so loading does not copy the table onto the heap.
+ *
+ * File format (big endian): the magic number, the format version, the number
+ * of squares per row, the number of pattern tiles, the pattern tiles, then
+ * one byte per entry.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class PatternDatabase
+{
+    /* Constant Variables */
+    // the first bytes of every database file ("PDB1") and the format version
+    private static final int MAGIC = 0x50444231;
+    private static final int VERSION = 1;
+
+    // the value of an entry the search has not reached yet
+    private static final int UNVISITED = 0xFF;
+
+    // the standard 6-6-3 partition of the 4x4 board into additive patterns
+    public static final int[][] PARTITION_4X4_663 = {
+            {1, 5, 6, 9, 10, 13},
+            {7, 8, 11, 12, 14, 15},
+            {2, 3, 4}
+    };
+
+
+    /* Instance/Member Variables */
+    // the number of squares per row and in total
+    private final int size;
+    private final int cellCount;
+
+    // the tiles in the pattern
+    private final int[] pattern;
+
+    // one byte per placement of the pattern tiles
+    private final ByteBuffer entries;
+
+
+    /* PatternDatabase
+     *
+     * Private constructor, databases are created with build or load.
+     *
+     * @param size - the number of squares per row
+     * @param pattern - the tiles in the pattern
+     * @param entries - one byte per placement, starting at position 0
+     */
+    private PatternDatabase(int size, int[] pattern, ByteBuffer entries)
+    {
+        this.size = size;
+        this.cellCount = size * size;
+        this.pattern = pattern.clone();
+        this.entries = entries;
+    }
+
+    /* build
+     *
+     * Builds the database for a pattern by searching backwards from the
+     * solved board.
+     *
+     * @param size - the number of squares per row
+     * @param pattern - the tiles in the pattern
+     * @return the database
+     */
+    public static PatternDatabase build(int size, int[] pattern)
+    {
+        int cellCount = size * size;
+        int k = pattern.length;
+        checkPattern(cellCount, pattern);
+
+        // every placement of the pattern tiles plus the blank, the blank is the last digit
+        int blankRadix = cellCount - k;
+        int stateCount = (int) placements(cellCount, k + 1);
+        byte[] distance = new byte[stateCount];
+        Arrays.fill(distance, (byte) UNVISITED);
+
+        // the positions of the pattern tiles and the blank (the last entry)
+        int[] positions = new int[k + 1];
+        int[] neighbours = Board.neighbourTable(size);
+
+        // start from the solved board
+        for (int i = 0; i < k; i++) positions[i] = pattern[i] - 1;
+        positions[k] = cellCount - 1;
+        IntQueue current = new IntQueue();
+        IntQueue next = new IntQueue();
+        int start = rank(positions, k + 1, cellCount);
+        distance[start] = 0;
+        current.add(start);
+
+        // search one cost layer at a time, free moves stay in the current layer
+        for (int cost = 0; !current.isEmpty(); cost++)
+        {
+            while (!current.isEmpty())
+            {
+                int state = current.poll();
+                if ((distance[state] & 0xFF) != cost) continue;
+                unrank(state, positions, k + 1, cellCount);
+
+                // try moving the blank in every direction
+                int blank = positions[k];
+                for (int direction = 0; direction < Direction.COUNT; direction++)
+                {
+                    int target = neighbours[blank * Direction.COUNT + direction];
+                    if (target < 0) continue;
+
+                    // determine whether a pattern tile sits on the target square
+                    int moved = -1;
+                    for (int i = 0; i < k; i++)
+                    {
+                        if (positions[i] == target)
+                        {
+                            moved = i;
+                            break;
+                        }
+                    }
+
+                    int neighbour;
+                    int newCost;
+                    if (moved < 0)
+                    {
+                        // moving a tile outside the pattern is free, only the blank digit changes
+                        neighbour = state - state % blankRadix + blankDigit(positions, k, target);
+                        newCost = cost;
+                    }
+                    else
+                    {
+                        // moving a pattern tile costs one move
+                        positions[moved] = blank;
+                        positions[k] = target;
+                        neighbour = rank(positions, k + 1, cellCount);
+                        positions[moved] = target;
+                        positions[k] = blank;
+                        newCost = cost + 1;
+                    }
+
+                    // keep the cheapest cost found for the neighbour
+                    if ((distance[neighbour] & 0xFF) <= newCost) continue;
+                    distance[neighbour] = (byte) newCost;
+                    if (newCost == cost) current.add(neighbour);
+                    else next.add(neighbour);
+                }
+            }
+
+            // move on to the next layer
+            IntQueue swap = current;
+            current = next;
+            next = swap;
+        }
+
+        // the value of a placement is the cheapest over every blank position
+        int entryCount = stateCount / blankRadix;
+        ByteBuffer entries = ByteBuffer.allocate(entryCount);
+        for (int entry = 0; entry < entryCount; entry++)
+        {
+            int best = UNVISITED;
+            for (int state = entry * blankRadix; state < (entry + 1) * blankRadix; state++)
+            {
+                best = Math.min(best, distance[state] & 0xFF);
+            }
+            entries.put(entry, (byte) best);
+        }
+        return new PatternDatabase(size, pattern, entries);
+    }
+
+    /* load
+     *
+     * Loads a database from a file written by write. The entries are memory
+     * mapped rather than read onto the heap.
+     *
+     * @param file - the database file
+     * @return the database
+     * @throws IOException - if the file can not be read or is not a database
+     */
+    public static PatternDatabase load(File file) throws IOException
+    {
+        try (RandomAccessFile input = new RandomAccessFile(file, "r");
+             FileChannel channel = input.getChannel())
+        {
+            // map the whole file, the mapping stays valid after the channel is closed
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.BIG_ENDIAN);
+
+            // read and verify the header
+            if (mapped.remaining() < 16 || mapped.getInt() != MAGIC || mapped.getInt() != VERSION)
+            {
+                throw new IOException("Not a pattern database: " + file);
+            }
+            int size = mapped.getInt();
+            int k = mapped.getInt();
+            if (size < Board.MIN_SIZE || size > Board.MAX_SIZE || k <= 0 || k >= size * size
+                    || mapped.remaining() < 4 * k)
+            {
+                throw new IOException("Corrupt pattern database header: " + file);
+            }
+            int[] pattern = new int[k];
+            for (int i = 0; i < k; i++) pattern[i] = mapped.getInt();
+
+            // verify the entries are all there
+            long entryCount = placements(size * size, k);
+            if (mapped.remaining() != entryCount)
+            {
+                throw new IOException("Pattern database has " + mapped.remaining()
+                        + " entries, expected " + entryCount + ": " + file);
+            }
+            return new PatternDatabase(size, pattern, mapped.slice());
+        }
+    }
+
+    /* write
+     *
+     * Writes the database to a file so it can be loaded with load.
+     *
+     * @param file - the file to write
+     * @throws IOException - if the file can not be written
+     */
+    public void write(File file) throws IOException
+    {
+        // build the header
+        ByteBuffer header = ByteBuffer.allocate(16 + 4 * pattern.length);
+        header.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(pattern.length);
+        for (int tile : pattern) header.putInt(tile);
+        header.flip();
+
+        // write the header followed by the entries
+        ByteBuffer body = entries.duplicate();
+        body.clear();
+        try (RandomAccessFile output = new RandomAccessFile(file, "rw");
+             FileChannel channel = output.getChannel())
+        {
+            channel.truncate(0);
+            while (header.hasRemaining()) channel.write(header);
+            while (body.hasRemaining()) channel.write(body);
+        }
+    }
+
+    /* get
+     *
+     * Returns the number of pattern moves needed for a placement.
+     *
+     * @param positions - the index of each pattern tile, in pattern order
+     * @return the number of moves
+     */
+    public int get(int[] positions)
+    {
+        return entries.get(rank(positions, pattern.length, cellCount)) & 0xFF;
+    }
+
+    /* getSize
+     *
+     * @return the number of squares per row
+     */
+    public int getSize()
+    {
+        return size;
+    }
+
+    /* getPattern
+     *
+     * @return a copy of the tiles in the pattern
+     */
+    public int[] getPattern()
+    {
+        return pattern.clone();
+    }
+
+    /* getEntryCount
+     *
+     * @return the number of placements stored
+     */
+    public int getEntryCount()
+    {
+        return entries.capacity();
+    }
+
+    /* rank
+     *
+     * Ranks a placement of distinct squares as a partial permutation. Each
+     * position is counted among the squares not used by earlier positions,
+     * which a bit mask of the used squares answers with one bit count.
+     *
+     * @param positions - the placement
+     * @param count - the number of positions to rank
+     * @param cellCount - the number of squares (at most 64)
+     * @return the rank of the placement
+     */
+    static int rank(int[] positions, int count, int cellCount)
+    {
+        int rank = 0;
+        long used = 0;
+        for (int i = 0; i < count; i++)
+        {
+            int square = positions[i];
+            int digit = square - Long.bitCount(used & ((1L << square) - 1));
+            used |= 1L << square;
+            rank = rank * (cellCount - i) + digit;
+        }
+        return rank;
+    }
+
+    /* unrank
+     *
+     * Turns a rank back into the placement it was built from.
+     *
+     * @param rank - the rank of the placement
+     * @param positions - the array to fill with the placement
+     * @param count - the number of positions
+     * @param cellCount - the number of squares (at most 64)
+     */
+    static void unrank(int rank, int[] positions, int count, int cellCount)
+    {
+        // split the rank into its digits, the last digit first
+        for (int i = count - 1; i >= 0; i--)
+        {
+            int radix = cellCount - i;
+            positions[i] = rank % radix;
+            rank /= radix;
+        }
+
+        // turn each digit into the square it counts to among the unused squares
+        long used = 0;
+        for (int i = 0; i < count; i++)
+        {
+            int digit = positions[i];
+            int square = 0;
+            while (true)
+            {
+                if ((used & (1L << square)) == 0)
+                {
+                    if (digit == 0) break;
+                    digit--;
+                }
+                square++;
+            }
+            used |= 1L << square;
+            positions[i] = square;
+        }
+    }
+
+    /* blankDigit
+     *
+     * Helper method that returns the last digit of the rank when the blank
+     * is on the square passed in.
+     *
+     * @param positions - the positions of the pattern tiles
+     * @param k - the number of pattern tiles
+     * @param blank - the square of the blank
+     * @return the digit of the blank
+     */
+    private static int blankDigit(int[] positions, int k, int blank)
+    {
+        int digit = blank;
+        for (int i = 0; i < k; i++)
+        {
+            if (positions[i] < blank) digit--;
+        }
+        return digit;
+    }
+
+    /* placements
+     *
+     * Helper method that counts the placements of k distinct tiles on n squares.
+     *
+     * @param n - the number of squares
+     * @param k - the number of tiles
+     * @return n! / (n - k)!
+     */
+    private static long placements(int n, int k)
+    {
+        long count = 1;
+        for (int i = 0; i < k; i++) count *= n - i;
+        return count;
+    }
+
+    /* checkPattern
+     *
+     * Helper method that verifies a pattern is a set of distinct numbered
+     * tiles and that its table fits in memory.
+     *
+     * @param cellCount - the number of squares
+     * @param pattern - the tiles in the pattern
+     */
+    private static void checkPattern(int cellCount, int[] pattern)
+    {
+        // the ranking uses a 64 bit mask of the squares
+        if (cellCount > 64)
+        {
+            throw new IllegalArgumentException("Pattern databases support boards up to 8x8");
+        }
+
+        boolean[] seen = new boolean[cellCount];
+        for (int tile : pattern)
+        {
+            if (tile <= 0 || tile >= cellCount || seen[tile])
+            {
+                throw new IllegalArgumentException("Pattern tiles must be distinct numbered tiles: " + tile);
+            }
+            seen[tile] = true;
+        }
+        if (pattern.length == 0 || placements(cellCount, pattern.length + 1) > Integer.MAX_VALUE - 8)
+        {
+            throw new IllegalArgumentException("Pattern of " + pattern.length + " tiles is not supported");
+        }
+    }
+
+    /* IntQueue Class
+     *
+     * A growable first in, first out queue of ints used by the search.
+     */
+    private static final class IntQueue
+    {
+        private int[] values = new int[1024];
+        private int head, tail;
+
+        void add(int value)
+        {
+            // grow (or compact) the array when it is full
+            if (tail == values.length)
+            {
+                int count = tail - head;
+                int[] grown = count * 2 > values.length ? new int[values.length * 2] : values;
+                System.arraycopy(values, head, grown, 0, count);
+                values = grown;
+                head = 0;
+                tail = count;
+            }
+            values[tail++] = value;
+        }
+
+        int poll()
+        {
+            return values[head++];
+        }
+
+        boolean isEmpty()
+        {
+            if (head == tail) head = tail = 0;
+            return head == tail;
+        }
+    }
+}
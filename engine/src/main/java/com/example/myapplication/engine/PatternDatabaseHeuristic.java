@@ -0,0 +1,176 @@
+package com.example.myapplication.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/* PatternDatabaseHeuristic Class
+ *
+ * This class adds up the values of disjoint pattern databases to estimate
+ * the moves left. A move only changes the position of one tile, so only the
+ * database holding that tile is looked up again.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class PatternDatabaseHeuristic implements Heuristic
+{
+    /* Instance/Member Variables */
+    // the number of squares per row the databases were built for
+    private final int size;
+
+    // the databases and the current positions of each database's tiles
+    private final PatternDatabase[] databases;
+    private final int[][] positions;
+
+    // the database and the slot within it of every tile (-1 when not in a pattern)
+    private final int[] databaseOf;
+    private final int[] slotOf;
+
+    // the current value of each database and their sum
+    private final int[] values;
+    private int total;
+
+
+    /* PatternDatabaseHeuristic
+     *
+     * Constructor for PatternDatabaseHeuristic combining the databases passed in.
+     *
+     * @param databases - pattern databases over disjoint sets of tiles
+     */
+    public PatternDatabaseHeuristic(PatternDatabase... databases)
+    {
+        // verify there is at least one database
+        if (databases.length == 0) throw new IllegalArgumentException("No pattern databases");
+
+        // initialize the size of the rows and the tables
+        this.size = databases[0].getSize();
+        this.databases = databases.clone();
+        this.positions = new int[databases.length][];
+        this.values = new int[databases.length];
+        this.databaseOf = new int[size * size];
+        this.slotOf = new int[size * size];
+        Arrays.fill(databaseOf, -1);
+
+        // record which database every tile belongs to
+        for (int db = 0; db < databases.length; db++)
+        {
+            if (databases[db].getSize() != size)
+            {
+                throw new IllegalArgumentException("Pattern databases are for different board sizes");
+            }
+            int[] pattern = databases[db].getPattern();
+            positions[db] = new int[pattern.length];
+            for (int slot = 0; slot < pattern.length; slot++)
+            {
+                if (databaseOf[pattern[slot]] >= 0)
+                {
+                    throw new IllegalArgumentException("Tile " + pattern[slot] + " is in two patterns");
+                }
+                databaseOf[pattern[slot]] = db;
+                slotOf[pattern[slot]] = slot;
+            }
+        }
+    }
+
+    /* build
+     *
+     * Builds a heuristic from a partition of the tiles into patterns.
+     *
+     * @param size - the number of squares per row
+     * @param partition - the tiles of each pattern
+     * @return the heuristic
+     */
+    public static PatternDatabaseHeuristic build(int size, int[][] partition)
+    {
+        PatternDatabase[] databases = new PatternDatabase[partition.length];
+        for (int db = 0; db < partition.length; db++) databases[db] = PatternDatabase.build(size, partition[db]);
+        return new PatternDatabaseHeuristic(databases);
+    }
+
+    /* load
+     *
+     * Loads a heuristic from database files written by PatternDatabase.write.
+     *
+     * @param files - the database files
+     * @return the heuristic
+     * @throws IOException - if a file can not be read
+     */
+    public static PatternDatabaseHeuristic load(File... files) throws IOException
+    {
+        PatternDatabase[] databases = new PatternDatabase[files.length];
+        for (int db = 0; db < files.length; db++) databases[db] = PatternDatabase.load(files[db]);
+        return new PatternDatabaseHeuristic(databases);
+    }
+
+    /* reset
+     *
+     * Starts a new estimate from the layout passed in.
+     *
+     * @param tiles - the tile number at each index (0 for the blank)
+     * @param size - the number of squares per row
+     * @return the estimate for the layout
+     */
+    @Override
+    public int reset(short[] tiles, int size)
+    {
+        // verify the board is the size the databases were built for
+        if (size != this.size)
+        {
+            throw new IllegalArgumentException("Pattern databases are for " + this.size + "x" + this.size
+                    + " boards, not " + size + "x" + size);
+        }
+
+        // record where every pattern tile is
+        for (int index = 0; index < tiles.length; index++)
+        {
+            int tile = tiles[index];
+            if (tile != Board.BLANK && databaseOf[tile] >= 0) positions[databaseOf[tile]][slotOf[tile]] = index;
+        }
+
+        // add up the value of every database
+        total = 0;
+        for (int db = 0; db < databases.length; db++)
+        {
+            values[db] = databases[db].get(positions[db]);
+            total += values[db];
+        }
+        return total;
+    }
+
+    /* update
+     *
+     * Updates the estimate after a tile slid into the blank.
+     *
+     * @param tiles - the tile number at each index after the move
+     * @param tile - the tile that moved
+     * @param from - the index the tile moved from
+     * @param to - the index the tile moved to
+     * @return the estimate for the new layout
+     */
+    @Override
+    public int update(short[] tiles, int tile, int from, int to)
+    {
+        // tiles outside every pattern do not change the estimate
+        int db = databaseOf[tile];
+        if (db < 0) return total;
+
+        // look up the one database that holds the tile
+        positions[db][slotOf[tile]] = to;
+        total -= values[db];
+        values[db] = databases[db].get(positions[db]);
+        total += values[db];
+        return total;
+    }
+
+    /* copy
+     *
+     * @return a new heuristic sharing the same read-only databases
+     */
+    @Override
+    public Heuristic copy()
+    {
+        return new PatternDatabaseHeuristic(databases);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.myapplication.engine;
+
+import java.io.File;
+import java.io.IOException;
+
+/* PatternDatabaseTool Class
+ *
+ * This class is the command line entry point for building the 4x4 pattern
+ * database files and for measuring how much they shrink the search compared
+ * to the Manhattan distance. It is run through the buildPatternDatabases and
+ * comparePatternDatabases Gradle tasks.
+ *
+ *   build <dir>                   writes pdb-4x4-663-<n>.bin into the directory
+ *   compare <dir> <boards> <seed> solves seeded boards with both heuristics
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class PatternDatabaseTool
+{
+    /* PatternDatabaseTool
+     *
+     * Private constructor as this class only holds the entry point.
+     */
+    private PatternDatabaseTool() {}
+
+    /* main
+     *
+     * @param args - the command and its arguments
+     * @throws IOException - if a database file can not be read or written
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length >= 2 && args[0].equals("build"))
+        {
+            build(new File(args[1]));
+        }
+        else if (args.length >= 4 && args[0].equals("compare"))
+        {
+            compare(new File(args[1]), Integer.parseInt(args[2]), Long.parseLong(args[3]));
+        }
+        else
+        {
+            System.err.println("usage: build <dir> | compare <dir> <boards> <seed>");
+            System.exit(2);
+        }
+    }
+
+    /* files
+     *
+     * Returns the database files of the 6-6-3 partition in a directory.
+     *
+     * @param dir - the directory of the files
+     * @return one file per pattern
+     */
+    public static File[] files(File dir)
+    {
+        File[] files = new File[PatternDatabase.PARTITION_4X4_663.length];
+        for (int db = 0; db < files.length; db++) files[db] = new File(dir, "pdb-4x4-663-" + db + ".bin");
+        return files;
+    }
+
+    /* build
+     *
+     * Helper method that builds and writes every database of the partition.
+     *
+     * @param dir - the directory to write the files to
+     * @throws IOException - if a file can not be written
+     */
+    private static void build(File dir) throws IOException
+    {
+        if (!dir.isDirectory() && !dir.mkdirs()) throw new IOException("Can not create " + dir);
+        File[] files = files(dir);
+        for (int db = 0; db < files.length; db++)
+        {
+            long start = System.nanoTime();
+            PatternDatabase database = PatternDatabase.build(4, PatternDatabase.PARTITION_4X4_663[db]);
+            database.write(files[db]);
+            System.out.printf("%s: %d entries in %.1f s%n", files[db].getName(),
+                    database.getEntryCount(), (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    /* compare
+     *
+     * Helper method that solves the same seeded boards with the Manhattan
+     * distance and with the pattern databases and reports the nodes expanded.
+     *
+     * @param dir - the directory of the database files
+     * @param boards - the number of boards to solve
+     * @param seed - the seed of the boards
+     * @throws IOException - if a file can not be read
+     */
+    private static void compare(File dir, int boards, long seed) throws IOException
+    {
+        long start = System.nanoTime();
+        PatternDatabaseHeuristic heuristic = PatternDatabaseHeuristic.load(files(dir));
+        System.out.printf("loaded databases in %.2f ms%n", (System.nanoTime() - start) / 1e6);
+
+        // give both searches the same generous budget
+        IdaStarSolver manhattan = new IdaStarSolver(new ManhattanDistance());
+        IdaStarSolver patterns = new IdaStarSolver(heuristic);
+        manhattan.setTimeLimitMillis(60000);
+        patterns.setTimeLimitMillis(60000);
+
+        BoardGenerator generator = new BoardGenerator(seed);
+        Board board = new Board(4);
+        long manhattanNodes = 0, patternNodes = 0;
+        for (int i = 0; i < boards; i++)
+        {
+            generator.shuffle(board);
+            Solution slow = manhattan.solve(board);
+            Solution fast = patterns.solve(board);
+            manhattanNodes += slow.getNodes();
+            patternNodes += fast.getNodes();
+            System.out.println("manhattan " + slow + " | patterns " + fast);
+        }
+        System.out.printf("nodes: manhattan=%d patterns=%d ratio=%.1fx%n",
+                manhattanNodes, patternNodes, (double) manhattanNodes / Math.max(1, patternNodes));
+    }
+}
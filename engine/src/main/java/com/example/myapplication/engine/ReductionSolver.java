@@ -0,0 +1,595 @@
+package com.example.myapplication.engine;
+
+import java.util.Arrays;
+
+/* ReductionSolver Class
+ *
+ * This class solves boards of any size quickly but not optimally. It places
+ * the top row of the unsolved region, then its left column, and repeats
+ * until only the bottom right 3x3 corner is left, which is finished with
+ * the optimal moves from StateTable3x3.
+ *
+ * Every tile but the last two of a line is walked to its goal one step at a
+ * time, with the blank brought in front of it by a breadth first search that
+ * steps around the placed tiles. The last two tiles of a line are first
+ * brought into a 3x2 window at the end of the line, then a search over the
+ * positions of the two tiles and the blank in the window (at most 120
+ * states) slides them into place together.
+ *
+ * Moves are passed to a MoveSink as soon as they are made, and the working
+ * arrays only grow with the number of squares on the board.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class ReductionSolver
+{
+    /* Constant Variables */
+    // the goal passed to findPath that matches any cell of the window
+    private static final int WINDOW = -2;
+
+    // the number of cells in the window and the number of window states
+    private static final int WINDOW_CELLS = 6;
+    private static final int WINDOW_STATES = WINDOW_CELLS * WINDOW_CELLS * WINDOW_CELLS;
+
+
+    /* Instance/Member Variables */
+    // the number of squares per row of the board being solved
+    private int size;
+
+    // the working layout, the index of every tile and the index of the blank
+    private short[] tiles;
+    private int[] positions;
+    private int blank;
+
+    // the cells that hold placed tiles and the index the blank moves to
+    private boolean[] locked;
+    private int[] neighbours;
+
+    // the breadth first search over cells
+    private int[] visited;
+    private int stamp;
+    private byte[] came;
+    private int[] queue;
+
+    // the moves found by the searches for a tile and for the blank
+    private int[] tilePath;
+    private int[] blankPath;
+
+    // the cells of the window and the search over the window states
+    private final int[] window = new int[WINDOW_CELLS];
+    private final int[] windowParent = new int[WINDOW_STATES];
+    private final byte[] windowCame = new byte[WINDOW_STATES];
+    private final int[] windowQueue = new int[WINDOW_STATES];
+    private final boolean[] windowVisited = new boolean[WINDOW_STATES];
+
+    // the 3x3 corner handed to the state table
+    private final Board corner = new Board(StateTable3x3.SIZE);
+    private final int[] cornerLayout = new int[StateTable3x3.CELLS];
+
+    // where the moves go and whether it asked to stop
+    private MoveSink sink;
+    private boolean stopped;
+
+    // the moves collected by solve(Board)
+    private int[] collected = new int[64];
+    private int collectedLength;
+    private final MoveSink collector = direction -> {
+        if (collectedLength == collected.length) collected = Arrays.copyOf(collected, collected.length * 2);
+        collected[collectedLength++] = direction;
+        return true;
+    };
+
+    // the statistics of the last solve
+    private long moveCount;
+    private long nodes;
+    private long elapsedNanos;
+
+
+    /* solve
+     *
+     * Solves the board and returns every move. The board itself is not
+     * changed.
+     *
+     * @param board - the board to solve
+     * @return the solution
+     */
+    public Solution solve(Board board)
+    {
+        long start = System.nanoTime();
+
+        // verify the board can be solved
+        if (!board.isSolvable())
+        {
+            return new Solution(Solution.Status.UNSOLVABLE, new int[0], Direction.NONE, -1, 0,
+                    0, 0, System.nanoTime() - start);
+        }
+
+        // collect the moves as they are found
+        collectedLength = 0;
+        solve(board, collector);
+        int[] moves = Arrays.copyOf(collected, collectedLength);
+
+        // report the first move and the tile it slides
+        int next = moves.length > 0 ? moves[0] : Direction.NONE;
+        int nextIndex = next == Direction.NONE ? -1
+                : neighbours[board.getBlankIndex() * Direction.COUNT + next];
+        return new Solution(Solution.Status.SOLVED, moves, next, nextIndex,
+                nextIndex < 0 ? 0 : board.getTile(nextIndex), board.getManhattanDistance(), nodes,
+                System.nanoTime() - start);
+    }
+
+    /* solve
+     *
+     * Solves the board, passing every move to the sink as soon as it is
+     * made. The board itself is not changed.
+     *
+     * @param board - the board to solve
+     * @param sink - receives the moves, it can stop the solver early
+     * @return the number of moves passed to the sink
+     */
+    public long solve(Board board, MoveSink sink)
+    {
+        long start = System.nanoTime();
+
+        // verify the board can be solved
+        if (!board.isSolvable()) throw new IllegalArgumentException("The board can not be solved");
+
+        // copy the board into the working arrays
+        load(board);
+        this.sink = sink;
+        stopped = false;
+        moveCount = 0;
+        nodes = 0;
+
+        if (size < StateTable3x3.SIZE)
+        {
+            // a 2x2 board is small enough to search outright
+            int[] moves = new IdaStarSolver().solve(board).getMoves();
+            for (int step = 0; step < moves.length && !stopped; step++) applyMove(moves[step]);
+        }
+        else
+        {
+            // place the top row or left column of the region until a 3x3 corner is left
+            int top = 0, left = 0;
+            while (!stopped && (size - top > StateTable3x3.SIZE || size - left > StateTable3x3.SIZE))
+            {
+                if (size - top >= size - left)
+                {
+                    placeLine(top * size + left, 1, size - left, size);
+                    top++;
+                }
+                else
+                {
+                    placeLine(top * size + left, size, size - top, 1);
+                    left++;
+                }
+            }
+            if (!stopped) solveCorner();
+        }
+
+        this.sink = null;
+        elapsedNanos = System.nanoTime() - start;
+        return moveCount;
+    }
+
+    /* getMoveCount
+     *
+     * @return the number of moves made by the last solve
+     */
+    public long getMoveCount()
+    {
+        return moveCount;
+    }
+
+    /* getNodes
+     *
+     * @return the number of cells the searches of the last solve expanded
+     */
+    public long getNodes()
+    {
+        return nodes;
+    }
+
+    /* getElapsedNanos
+     *
+     * @return how long the last solve took
+     */
+    public long getElapsedNanos()
+    {
+        return elapsedNanos;
+    }
+
+    /* getMovesPerSecond
+     *
+     * @return the number of moves the last solve made per second
+     */
+    public double getMovesPerSecond()
+    {
+        return elapsedNanos == 0 ? 0 : moveCount * 1e9 / elapsedNanos;
+    }
+
+    /* load
+     *
+     * Helper method that copies the board into the working arrays, only
+     * reallocating them when the size of the board changes.
+     *
+     * @param board - the board to solve
+     */
+    private void load(Board board)
+    {
+        int cellCount = board.getCellCount();
+        if (size != board.getSize())
+        {
+            size = board.getSize();
+            tiles = new short[cellCount];
+            positions = new int[cellCount];
+            locked = new boolean[cellCount];
+            neighbours = Board.neighbourTable(size);
+            visited = new int[cellCount];
+            stamp = 0;
+            came = new byte[cellCount];
+            queue = new int[cellCount];
+            tilePath = new int[cellCount];
+            blankPath = new int[Math.max(cellCount, WINDOW_STATES)];
+        }
+        System.arraycopy(board.tiles(), 0, tiles, 0, cellCount);
+        for (int index = 0; index < cellCount; index++) positions[tiles[index]] = index;
+        Arrays.fill(locked, false);
+        blank = board.getBlankIndex();
+    }
+
+    /* placeLine
+     *
+     * Helper method that places the tiles of one row or column of the region
+     * and locks them.
+     *
+     * @param start - the first cell of the line
+     * @param step - the distance between cells of the line (1 for a row)
+     * @param length - the number of cells in the line
+     * @param across - the distance to the next cell into the region (1 for a column)
+     */
+    private void placeLine(int start, int step, int length, int across)
+    {
+        // walk every tile but the last two straight to its goal
+        for (int offset = 0; offset < length - 2 && !stopped; offset++)
+        {
+            int cell = start + offset * step;
+            moveTile(cell + 1, cell, -1);
+            locked[cell] = true;
+        }
+
+        // nothing to do when the last two tiles are already in place
+        int first = start + (length - 2) * step, second = first + step;
+        if (tiles[first] == first + 1 && tiles[second] == second + 1)
+        {
+            locked[first] = true;
+            locked[second] = true;
+            return;
+        }
+
+        // park the first tile in the corner at the end of the line, where it
+        // can not wall the blank off, then bring the second into the window
+        window[0] = first;
+        window[1] = second;
+        window[2] = first + across;
+        window[3] = second + across;
+        window[4] = first + 2 * across;
+        window[5] = second + 2 * across;
+        if (!stopped) moveTile(first + 1, second, -1);
+        if (!stopped) moveTile(second + 1, WINDOW, second);
+
+        // bring the blank into the window and slide both tiles into place
+        if (!stopped) followPath(findPath(blank, WINDOW, positions[first + 1], positions[second + 1], blankPath));
+        if (!stopped) solveWindow(first + 1, second + 1);
+        locked[first] = true;
+        locked[second] = true;
+    }
+
+    /* moveTile
+     *
+     * Helper method that walks a tile to a cell one step at a time.
+     *
+     * @param tile - the tile to move
+     * @param goal - the cell to move it to or WINDOW for any window cell
+     * @param fixed - a cell that must not change or -1
+     */
+    private void moveTile(int tile, int goal, int fixed)
+    {
+        int length = findPath(positions[tile], goal, fixed, -1, tilePath);
+        if (length < 0) throw new IllegalStateException("No path for tile " + tile);
+        for (int step = 0; step < length && !stopped; step++)
+        {
+            // bring the blank in front of the tile without disturbing it, then slide it
+            int from = positions[tile];
+            int next = neighbours[from * Direction.COUNT + tilePath[step]];
+            followPath(findPath(blank, next, from, fixed, blankPath));
+            if (!stopped) applyMove(Direction.opposite(tilePath[step]));
+        }
+    }
+
+    /* findPath
+     *
+     * Helper method that finds the shortest path between two cells that
+     * avoids the placed tiles with a breadth first search.
+     *
+     * @param from - the cell to start from
+     * @param goal - the cell to reach or WINDOW for any window cell
+     * @param avoid - a cell the path must not enter or -1
+     * @param alsoAvoid - another cell the path must not enter or -1
+     * @param path - the array to write the directions of the path to
+     * @return the length of the path or -1 if the goal can not be reached
+     */
+    private int findPath(int from, int goal, int avoid, int alsoAvoid, int[] path)
+    {
+        // most paths cross open space, so try the two L shaped paths first
+        if (goal >= 0)
+        {
+            int length = straightPath(from, goal, true, avoid, alsoAvoid, path, 0);
+            if (length < 0) length = straightPath(from, goal, false, avoid, alsoAvoid, path, 0);
+            if (length >= 0) return length;
+
+            // the blank going around a tile can usually step aside, pass it and step back
+            for (int side = 0; side < Direction.COUNT; side++)
+            {
+                length = detourPath(from, goal, side, avoid, alsoAvoid, path);
+                if (length >= 0) return length;
+            }
+        }
+
+        // a new stamp marks every cell as unvisited
+        if (++stamp == 0)
+        {
+            Arrays.fill(visited, 0);
+            stamp = 1;
+        }
+
+        // search outward from the start until the goal is reached
+        int head = 0, tail = 0, found = -1;
+        queue[tail++] = from;
+        visited[from] = stamp;
+        while (head < tail)
+        {
+            int cell = queue[head++];
+            nodes++;
+            if (cell == goal || (goal == WINDOW && windowSlot(cell) >= 0))
+            {
+                found = cell;
+                break;
+            }
+            for (int direction = 0; direction < Direction.COUNT; direction++)
+            {
+                int next = neighbours[cell * Direction.COUNT + direction];
+                if (next < 0 || visited[next] == stamp || locked[next] || next == avoid || next == alsoAvoid) continue;
+                visited[next] = stamp;
+                came[next] = (byte) direction;
+                queue[tail++] = next;
+            }
+        }
+        if (found < 0) return -1;
+
+        // walk back from the goal to count the moves, then again to record them
+        int length = 0;
+        for (int cell = found; cell != from; cell = neighbours[cell * Direction.COUNT + Direction.opposite(came[cell])])
+        {
+            length++;
+        }
+        for (int cell = found, step = length; cell != from;
+             cell = neighbours[cell * Direction.COUNT + Direction.opposite(came[cell])])
+        {
+            path[--step] = came[cell];
+        }
+        return length;
+    }
+
+    /* straightPath
+     *
+     * Helper method that tries the path that covers the columns first and
+     * then the rows (or the other way around) without any detour.
+     *
+     * @param from - the cell to start from
+     * @param goal - the cell to reach
+     * @param colsFirst - whether to move along the row before the column
+     * @param avoid - a cell the path must not enter or -1
+     * @param alsoAvoid - another cell the path must not enter or -1
+     * @param path - the array to write the directions of the path to
+     * @param offset - the number of moves already in the path
+     * @return the length of the path or -1 if it is blocked
+     */
+    private int straightPath(int from, int goal, boolean colsFirst, int avoid, int alsoAvoid, int[] path,
+                             int offset)
+    {
+        int colSteps = goal % size - from % size, rowSteps = goal / size - from / size;
+        int colDirection = colSteps < 0 ? Direction.LEFT : Direction.RIGHT;
+        int rowDirection = rowSteps < 0 ? Direction.UP : Direction.DOWN;
+        colSteps = Math.abs(colSteps);
+        rowSteps = Math.abs(rowSteps);
+
+        // walk the two legs, giving up at the first blocked cell
+        int length = offset, cell = from;
+        for (int leg = 0; leg < 2; leg++)
+        {
+            boolean cols = (leg == 0) == colsFirst;
+            int direction = cols ? colDirection : rowDirection;
+            for (int count = cols ? colSteps : rowSteps; count > 0; count--)
+            {
+                cell = neighbours[cell * Direction.COUNT + direction];
+                if (locked[cell] || cell == avoid || cell == alsoAvoid) return -1;
+                path[length++] = direction;
+            }
+        }
+        return length;
+    }
+
+    /* detourPath
+     *
+     * Helper method that tries stepping to one side, taking the L shaped
+     * path to the cell beside the goal and stepping back.
+     *
+     * @param from - the cell to start from
+     * @param goal - the cell to reach
+     * @param side - the direction to step aside in
+     * @param avoid - a cell the path must not enter or -1
+     * @param alsoAvoid - another cell the path must not enter or -1
+     * @param path - the array to write the directions of the path to
+     * @return the length of the path or -1 if it is blocked
+     */
+    private int detourPath(int from, int goal, int side, int avoid, int alsoAvoid, int[] path)
+    {
+        // both cells beside the start and the goal have to be free
+        int aside = neighbours[from * Direction.COUNT + side];
+        int beside = neighbours[goal * Direction.COUNT + side];
+        if (aside < 0 || beside < 0 || locked[aside] || aside == avoid || aside == alsoAvoid) return -1;
+
+        path[0] = side;
+        int length = straightPath(aside, beside, true, avoid, alsoAvoid, path, 1);
+        if (length < 0) length = straightPath(aside, beside, false, avoid, alsoAvoid, path, 1);
+        if (length < 0) return -1;
+        path[length] = Direction.opposite(side);
+        return length + 1;
+    }
+
+    /* solveWindow
+     *
+     * Helper method that slides two tiles into the first two window cells
+     * using only moves inside the window. The other three tiles in the
+     * window can be swapped freely, so every placement of the two tiles and
+     * the blank can be reached.
+     *
+     * @param firstTile - the tile that belongs in the first window cell
+     * @param secondTile - the tile that belongs in the second window cell
+     */
+    private void solveWindow(int firstTile, int secondTile)
+    {
+        // a state is the window cells of the first tile, the second tile and the blank
+        int start = state(windowSlot(positions[firstTile]), windowSlot(positions[secondTile]), windowSlot(blank));
+        Arrays.fill(windowVisited, false);
+        int head = 0, tail = 0, found = -1;
+        windowQueue[tail++] = start;
+        windowVisited[start] = true;
+        while (head < tail)
+        {
+            int current = windowQueue[head++];
+            nodes++;
+            int first = current / (WINDOW_CELLS * WINDOW_CELLS);
+            int second = current / WINDOW_CELLS % WINDOW_CELLS;
+            int space = current % WINDOW_CELLS;
+            if (first == 0 && second == 1)
+            {
+                found = current;
+                break;
+            }
+
+            // move the blank to every neighbouring window cell
+            for (int direction = 0; direction < Direction.COUNT; direction++)
+            {
+                int target = neighbours[window[space] * Direction.COUNT + direction];
+                int slot = target < 0 ? -1 : windowSlot(target);
+                if (slot < 0) continue;
+                int next = state(first == slot ? space : first, second == slot ? space : second, slot);
+                if (windowVisited[next]) continue;
+                windowVisited[next] = true;
+                windowParent[next] = current;
+                windowCame[next] = (byte) direction;
+                windowQueue[tail++] = next;
+            }
+        }
+        if (found < 0) throw new IllegalStateException("The window can not be solved");
+
+        // walk back from the solved state to record the moves
+        int length = 0;
+        for (int current = found; current != start; current = windowParent[current]) length++;
+        for (int current = found, step = length; current != start; current = windowParent[current])
+        {
+            blankPath[--step] = windowCame[current];
+        }
+        followPath(length);
+    }
+
+    /* solveCorner
+     *
+     * Helper method that finishes the bottom right 3x3 corner with the
+     * optimal moves from the state table.
+     */
+    private void solveCorner()
+    {
+        // renumber the corner's tiles as if it were a 3x3 board
+        int offset = size - StateTable3x3.SIZE;
+        for (int row = 0; row < StateTable3x3.SIZE; row++)
+        {
+            for (int col = 0; col < StateTable3x3.SIZE; col++)
+            {
+                int tile = tiles[(offset + row) * size + offset + col];
+                int goal = tile - 1;
+                cornerLayout[row * StateTable3x3.SIZE + col] = tile == Board.BLANK ? Board.BLANK
+                        : (goal / size - offset) * StateTable3x3.SIZE + goal % size - offset + 1;
+            }
+        }
+        corner.setTiles(cornerLayout);
+
+        // the blank travels the same way on the corner as on the board
+        Solution solution = StateTable3x3.get().solve(corner);
+        for (int step = 0; step < solution.getLength() && !stopped; step++) applyMove(solution.getMove(step));
+    }
+
+    /* followPath
+     *
+     * Helper method that moves the blank along the path left in blankPath.
+     *
+     * @param length - the length of the path or -1 if there was none
+     */
+    private void followPath(int length)
+    {
+        if (length < 0) throw new IllegalStateException("No path for the blank");
+        for (int step = 0; step < length && !stopped; step++) applyMove(blankPath[step]);
+    }
+
+    /* applyMove
+     *
+     * Helper method that moves the blank and passes the move to the sink.
+     *
+     * @param direction - the direction the blank travels in
+     */
+    private void applyMove(int direction)
+    {
+        int target = neighbours[blank * Direction.COUNT + direction];
+        int tile = tiles[target];
+        tiles[blank] = (short) tile;
+        positions[tile] = blank;
+        tiles[target] = Board.BLANK;
+        blank = target;
+        moveCount++;
+        if (sink != null && !sink.accept(direction)) stopped = true;
+    }
+
+    /* windowSlot
+     *
+     * Helper method that finds which window cell a cell is.
+     *
+     * @param cell - the index of the cell
+     * @return the slot of the cell in the window or -1 if it is outside
+     */
+    private int windowSlot(int cell)
+    {
+        for (int slot = 0; slot < WINDOW_CELLS; slot++)
+        {
+            if (window[slot] == cell) return slot;
+        }
+        return -1;
+    }
+
+    /* state
+     *
+     * Helper method that packs the window cells of the two tiles and the blank.
+     *
+     * @param first - the slot of the first tile
+     * @param second - the slot of the second tile
+     * @param space - the slot of the blank
+     * @return the window state
+     */
+    private static int state(int first, int second, int space)
+    {
+        return (first * WINDOW_CELLS + second) * WINDOW_CELLS + space;
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.myapplication.engine;
+
+import java.util.Arrays;
+
+/* SimulationHarness Class
+ *
+ * This class drives boards through long runs of random legal moves off the
+ * device and checks the board's invariants as it goes, so a mistake in the
+ * move path shows up as a failed check instead of a board that quietly
+ * stops being solvable.
+ *
+ * After every move the blank must be where the board says it is, the board
+ * must still be solvable, and undoing then redoing the move must give back
+ * exactly the counters and hash from before and after it. Every few moves
+ * (the check interval) the misplaced tiles, the Manhattan distance, the hash,
+ * the blank and the parity are also recounted from scratch and compared with
+ * the board's incremental ones, and the moves since the last check are
+ * undone and redone through a MoveLog.
+ *
+ * The entry point runs every size from 2 to 64 and reports the moves per
+ * second both with the checks and through the bare move path. It is run
+ * through the simulate Gradle task.
+ *
+ *   <moves per size> <seed> [check interval] [min size] [max size]
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class SimulationHarness
+{
+    /* Constant Variables */
+    // the moves between full recounts unless another interval is given
+    public static final int DEFAULT_CHECK_INTERVAL = 1024;
+
+    // the sizes the entry point runs unless others are given
+    private static final int FIRST_SIZE = Board.MIN_SIZE;
+    private static final int LAST_SIZE = 64;
+
+
+    /* Instance/Member Variables */
+    // the source of the random moves
+    private final SplitMix64 random;
+
+    // the moves between full recounts
+    private final int checkInterval;
+
+    // the moves since the last full recount, undone and redone at the next one
+    private final MoveLog moveLog = new MoveLog();
+
+    // scratch arrays for the recounts, grown with the board
+    private int[] tree = new int[0];
+    private int[] seen = new int[0];
+    private int stamp;
+
+    // the counts of the last run
+    private long moves;
+    private long checks;
+    private long elapsedNanos;
+
+
+    /* SimulationHarness
+     *
+     * Constructor for SimulationHarness.
+     *
+     * @param seed - the seed of the random moves
+     * @param checkInterval - the moves between full recounts
+     */
+    public SimulationHarness(long seed, int checkInterval)
+    {
+        if (checkInterval < 1) throw new IllegalArgumentException("Check interval must be positive: " + checkInterval);
+        this.random = new SplitMix64(seed);
+        this.checkInterval = checkInterval;
+    }
+
+    /* simulate
+     *
+     * Makes random legal moves on a board, checking the invariants after
+     * every move and recounting everything every check interval.
+     *
+     * @param board - the board to move on, which must be solvable
+     * @param count - the number of moves to make
+     * @throws IllegalStateException - if any invariant does not hold
+     */
+    public void simulate(Board board, long count)
+    {
+        moves = 0;
+        checks = 0;
+        verify(board);
+        moveLog.clear();
+        long intervalStartHash = board.getHash();
+        int intervalStartBlank = board.getBlankIndex();
+
+        long start = System.nanoTime();
+        for (long move = 0; move < count; move++)
+        {
+            // remember the state before the move to check the undo against
+            long hashBefore = board.getHash();
+            int misplacedBefore = board.getMisplacedCount();
+            int manhattanBefore = board.getManhattanDistance();
+            int blankBefore = board.getBlankIndex();
+
+            int direction = randomLegalDirection(board);
+            board.move(direction);
+            moveLog.record(direction);
+            moves++;
+
+            // the cheap checks run after every move
+            if (board.getTile(board.getBlankIndex()) != Board.BLANK) fail(board, "blank index does not hold the blank");
+            if (board.getBlankIndex() == blankBefore) fail(board, "blank did not move");
+            if (!board.isSolvable()) fail(board, "board stopped being solvable");
+
+            // undoing and redoing the move must give back both states exactly
+            long hashAfter = board.getHash();
+            int misplacedAfter = board.getMisplacedCount();
+            int manhattanAfter = board.getManhattanDistance();
+            board.undo(direction);
+            if (board.getHash() != hashBefore || board.getMisplacedCount() != misplacedBefore
+                    || board.getManhattanDistance() != manhattanBefore || board.getBlankIndex() != blankBefore)
+            {
+                fail(board, "undo did not restore the board");
+            }
+            board.move(direction);
+            if (board.getHash() != hashAfter || board.getMisplacedCount() != misplacedAfter
+                    || board.getManhattanDistance() != manhattanAfter)
+            {
+                fail(board, "redo did not repeat the move");
+            }
+
+            // every interval recount everything and replay the interval through the log
+            if (moves % checkInterval == 0 || move == count - 1)
+            {
+                verify(board);
+                checkLog(board, intervalStartHash, intervalStartBlank);
+                moveLog.clear();
+                intervalStartHash = board.getHash();
+                intervalStartBlank = board.getBlankIndex();
+            }
+        }
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    /* measureMoves
+     *
+     * Makes random legal moves on a board without checking anything, to time
+     * the bare move path.
+     *
+     * @param board - the board to move on
+     * @param count - the number of moves to make
+     * @return the moves made per second
+     */
+    public double measureMoves(Board board, long count)
+    {
+        long start = System.nanoTime();
+        for (long move = 0; move < count; move++) board.move(randomLegalDirection(board));
+        long elapsed = System.nanoTime() - start;
+        return elapsed == 0 ? 0 : count * 1e9 / elapsed;
+    }
+
+    /* verify
+     *
+     * Recounts the whole board from its tiles and compares the result with
+     * the counters the board keeps as it moves.
+     *
+     * @param board - the board to verify
+     * @throws IllegalStateException - if any counter does not match
+     */
+    public void verify(Board board)
+    {
+        int cellCount = board.getCellCount();
+        if (tree.length < cellCount)
+        {
+            tree = new int[cellCount];
+            seen = new int[cellCount];
+            stamp = 0;
+        }
+        if (++stamp == 0)
+        {
+            Arrays.fill(seen, 0);
+            stamp = 1;
+        }
+        checks++;
+
+        // every tile must appear exactly once, and the blank where the board says
+        int blank = -1;
+        int misplaced = 0;
+        int manhattan = 0;
+        for (int index = 0; index < cellCount; index++)
+        {
+            int tile = board.getTile(index);
+            if (tile < 0 || tile >= cellCount || seen[tile] == stamp) fail(board, "tile " + tile + " is repeated or out of range");
+            seen[tile] = stamp;
+            if (tile == Board.BLANK)
+            {
+                blank = index;
+                continue;
+            }
+            if (tile != index + 1)
+            {
+                misplaced++;
+                manhattan += board.tileDistance(tile, index);
+            }
+        }
+        if (blank != board.getBlankIndex()) fail(board, "blank is at " + blank + " not " + board.getBlankIndex());
+        if (misplaced != board.getMisplacedCount())
+        {
+            fail(board, "misplaced count is " + board.getMisplacedCount() + " not " + misplaced);
+        }
+        if (manhattan != board.getManhattanDistance())
+        {
+            fail(board, "Manhattan distance is " + board.getManhattanDistance() + " not " + manhattan);
+        }
+        if (Zobrist.forSize(board.getSize()).hash(board.tiles()) != board.getHash()) fail(board, "hash does not match the tiles");
+
+        // the parity worked out from the inversions must make the board solvable
+        int size = board.getSize();
+        long inversions = Inversions.count(board.tiles(), tree);
+        boolean oddPermutation = (inversions + cellCount - 1 - blank) % 2 != 0;
+        int blankDistance = (size - 1 - blank / size) + (size - 1 - blank % size);
+        if (oddPermutation != (blankDistance % 2 != 0)) fail(board, "parity of the layout is not solvable");
+        if (!board.isSolvable()) fail(board, "board parity does not match its layout");
+    }
+
+    /* checkLog
+     *
+     * Helper method that undoes every move since the last check through the
+     * move log, checks the board is back where the interval started, then
+     * redoes them and checks it is back where it is now.
+     *
+     * @param board - the board the moves were made on
+     * @param startHash - the hash of the board when the interval started
+     * @param startBlank - the index of the blank when the interval started
+     */
+    private void checkLog(Board board, long startHash, int startBlank)
+    {
+        long endHash = board.getHash();
+        int endBlank = board.getBlankIndex();
+        while (moveLog.canUndo()) moveLog.undo(board);
+        if (board.getHash() != startHash || board.getBlankIndex() != startBlank)
+        {
+            fail(board, "undoing the move log did not return to the start of the interval");
+        }
+        while (moveLog.canRedo()) moveLog.redo(board);
+        if (board.getHash() != endHash || board.getBlankIndex() != endBlank)
+        {
+            fail(board, "redoing the move log did not return to the end of the interval");
+        }
+    }
+
+    /* randomLegalDirection
+     *
+     * Helper method that picks a random direction the blank can move in.
+     *
+     * @param board - the board to move on
+     * @return the direction
+     */
+    private int randomLegalDirection(Board board)
+    {
+        int direction = random.nextInt(Direction.COUNT);
+        while (!board.canMove(direction)) direction = random.nextInt(Direction.COUNT);
+        return direction;
+    }
+
+    /* fail
+     *
+     * Helper method that reports a broken invariant.
+     *
+     * @param board - the board the invariant broke on
+     * @param reason - what broke
+     * @throws IllegalStateException - always
+     */
+    private void fail(Board board, String reason)
+    {
+        throw new IllegalStateException(board.getSize() + "x" + board.getSize() + " board after "
+                + moves + " moves: " + reason);
+    }
+
+    /* getMoves
+     *
+     * @return the number of moves the last simulation made
+     */
+    public long getMoves()
+    {
+        return moves;
+    }
+
+    /* getChecks
+     *
+     * @return the number of full recounts the last simulation made
+     */
+    public long getChecks()
+    {
+        return checks;
+    }
+
+    /* getMovesPerSecond
+     *
+     * @return the checked moves per second of the last simulation
+     */
+    public double getMovesPerSecond()
+    {
+        return elapsedNanos == 0 ? 0 : moves * 1e9 / elapsedNanos;
+    }
+
+    /* main
+     *
+     * @param args - the moves per size, the seed, and optionally the check interval and sizes
+     */
+    public static void main(String[] args)
+    {
+        if (args.length < 2)
+        {
+            System.err.println("usage: <moves per size> <seed> [check interval] [min size] [max size]");
+            System.exit(2);
+        }
+        long count = Long.parseLong(args[0]);
+        long seed = Long.parseLong(args[1]);
+        int checkInterval = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CHECK_INTERVAL;
+        int firstSize = args.length > 3 ? Integer.parseInt(args[3]) : FIRST_SIZE;
+        int lastSize = args.length > 4 ? Integer.parseInt(args[4]) : LAST_SIZE;
+
+        long totalMoves = 0;
+        long totalNanos = 0;
+        for (int size = firstSize; size <= lastSize; size++)
+        {
+            // a harness per size so each size's moves follow from the seed alone
+            SimulationHarness harness = new SimulationHarness(SplitMix64.valueAt(seed, size), checkInterval);
+            Board board = new Board(size);
+            long start = System.nanoTime();
+            harness.simulate(board, count);
+            totalNanos += System.nanoTime() - start;
+            totalMoves += harness.getMoves();
+
+            double bare = harness.measureMoves(board, count);
+            System.out.printf("%2dx%-2d %,14d moves %,10d checks %,14.0f checked moves/s %,14.0f bare moves/s%n",
+                    size, size, harness.getMoves(), harness.getChecks(), harness.getMovesPerSecond(), bare);
+        }
+        System.out.printf("total %,d moves, every invariant held, %,.0f checked moves/s%n",
+                totalMoves, totalNanos == 0 ? 0 : totalMoves * 1e9 / totalNanos);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.myapplication.engine;
+
+/* Solution Class
+ *
+ * This class holds the result of running a solver on a board: the moves
+ * found (as the directions the blank travels in), the next tile the player
+ * should slide and how much work the search did.
+ *
+ * When a search runs out of its node or time budget it still reports the
+ * most promising first move it found, so a hint can always be shown.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class Solution
+{
+    /* Status
+     *
+     * The possible outcomes of a search.
+     */
+    public enum Status
+    {
+        // the moves solve the board
+        SOLVED,
+        // the board can never be solved
+        UNSOLVABLE,
+        // the search ran out of budget, only the next move is a suggestion
+        GAVE_UP
+    }
+
+
+    /* Instance/Member Variables */
+    // the outcome of the search
+    private final Status status;
+
+    // the directions the blank travels in to solve the board
+    private final int[] moves;
+
+    // the suggested next move and the tile it slides
+    private final int nextDirection;
+    private final int nextTileIndex;
+    private final int nextTile;
+
+    // the lower bound on the number of moves proven by the search
+    private final int lowerBound;
+
+    // the number of boards the search expanded and how long it took
+    private final long nodes;
+    private final long elapsedNanos;
+
+
+    /* Solution
+     *
+     * Constructor for Solution to initialize the instance/member variables.
+     *
+     * @param status - the outcome of the search
+     * @param moves - the directions the blank travels in (empty unless solved)
+     * @param nextDirection - the suggested next move or Direction.NONE
+     * @param nextTileIndex - the index of the tile the next move slides or -1
+     * @param nextTile - the number of the tile the next move slides or 0
+     * @param lowerBound - the lower bound on the number of moves
+     * @param nodes - the number of boards the search expanded
+     * @param elapsedNanos - how long the search took
+     */
+    public Solution(Status status, int[] moves, int nextDirection, int nextTileIndex, int nextTile,
+                    int lowerBound, long nodes, long elapsedNanos)
+    {
+        this.status = status;
+        this.moves = moves;
+        this.nextDirection = nextDirection;
+        this.nextTileIndex = nextTileIndex;
+        this.nextTile = nextTile;
+        this.lowerBound = lowerBound;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /* getStatus
+     *
+     * @return the outcome of the search
+     */
+    public Status getStatus()
+    {
+        return status;
+    }
+
+    /* isSolved
+     *
+     * @return whether the search found the moves that solve the board
+     */
+    public boolean isSolved()
+    {
+        return status == Status.SOLVED;
+    }
+
+    /* getMoves
+     *
+     * @return a copy of the directions the blank travels in to solve the board
+     */
+    public int[] getMoves()
+    {
+        return moves.clone();
+    }
+
+    /* getLength
+     *
+     * @return the number of moves in the solution
+     */
+    public int getLength()
+    {
+        return moves.length;
+    }
+
+    /* getMove
+     *
+     * @param step - the step of the solution
+     * @return the direction of the move at the step
+     */
+    public int getMove(int step)
+    {
+        return moves[step];
+    }
+
+    /* getNextDirection
+     *
+     * @return the direction of the suggested next move or Direction.NONE
+     */
+    public int getNextDirection()
+    {
+        return nextDirection;
+    }
+
+    /* getNextTileIndex
+     *
+     * @return the index of the tile to slide next or -1
+     */
+    public int getNextTileIndex()
+    {
+        return nextTileIndex;
+    }
+
+    /* getNextTile
+     *
+     * @return the number of the tile to slide next or 0
+     */
+    public int getNextTile()
+    {
+        return nextTile;
+    }
+
+    /* getLowerBound
+     *
+     * @return the lower bound on the number of moves proven by the search
+     */
+    public int getLowerBound()
+    {
+        return lowerBound;
+    }
+
+    /* getNodes
+     *
+     * @return the number of boards the search expanded
+     */
+    public long getNodes()
+    {
+        return nodes;
+    }
+
+    /* getElapsedNanos
+     *
+     * @return how long the search took in nanoseconds
+     */
+    public long getElapsedNanos()
+    {
+        return elapsedNanos;
+    }
+
+    /* toString
+     *
+     * @return a short summary of the solution
+     */
+    @Override
+    public String toString()
+    {
+        return status + " length=" + moves.length + " bound=" + lowerBound
+                + " nodes=" + nodes + " ms=" + elapsedNanos / 1000000;
+    }
+}
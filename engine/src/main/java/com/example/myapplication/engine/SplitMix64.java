@@ -0,0 +1,115 @@
+package com.example.myapplication.engine;
+
+/* SplitMix64 Class
+ *
+ * This class is a small, fast and seedable random number generator. It uses
+ * the same SplitMix64 algorithm as java.util.SplittableRandom, which is not
+ * available on the older Android versions the app supports. The same seed
+ * always produces the same sequence, so boards can be reproduced from it.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class SplitMix64
+{
+    /* Constant Variables */
+    // the odd increment added to the state on every step (the golden ratio)
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+
+    /* Instance/Member Variables */
+    // the current state of the generator
+    private long state;
+
+
+    /* SplitMix64
+     *
+     * Constructor for SplitMix64 that starts the sequence at the seed.
+     *
+     * @param seed - the seed of the sequence
+     */
+    public SplitMix64(long seed)
+    {
+        state = seed;
+    }
+
+    /* setSeed
+     *
+     * Restarts the sequence at the seed.
+     *
+     * @param seed - the seed of the sequence
+     */
+    public void setSeed(long seed)
+    {
+        state = seed;
+    }
+
+    /* nextLong
+     *
+     * @return the next 64 random bits
+     */
+    public long nextLong()
+    {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    /* nextInt
+     *
+     * Returns a uniformly distributed int between 0 (inclusive) and the bound
+     * (exclusive). Values from the biased tail of the 32 bit range are
+     * rejected so every result is equally likely.
+     *
+     * @param bound - the upper bound, must be positive
+     * @return the random int
+     */
+    public int nextInt(int bound)
+    {
+        // verify the bound is valid
+        if (bound <= 0) throw new IllegalArgumentException("Bound must be positive: " + bound);
+
+        // multiply 32 random bits by the bound and keep the high half (Lemire's method)
+        long product = (nextLong() >>> 32) * bound;
+        long low = product & 0xFFFFFFFFL;
+        if (low < bound)
+        {
+            // reject the values that would make some results more likely
+            long threshold = (0x100000000L - bound) % bound;
+            while (low < threshold)
+            {
+                product = (nextLong() >>> 32) * bound;
+                low = product & 0xFFFFFFFFL;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /* valueAt
+     *
+     * Returns the value nextLong gives after a number of earlier calls from
+     * the seed, without stepping through them.
+     *
+     * @param seed - the seed of the sequence
+     * @param step - the number of values before the one returned
+     * @return the value at the step
+     */
+    public static long valueAt(long seed, long step)
+    {
+        return mix(seed + (step + 1) * GOLDEN_GAMMA);
+    }
+
+    /* mix
+     *
+     * Scrambles the bits of a value so nearby inputs give unrelated outputs.
+     *
+     * @param value - the value to scramble
+     * @return the scrambled value
+     */
+    public static long mix(long value)
+    {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
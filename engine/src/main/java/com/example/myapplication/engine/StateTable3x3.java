@@ -0,0 +1,426 @@
+package com.example.myapplication.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/* StateTable3x3 Class
+ *
+ * This class stores the exact number of moves left for every one of the
+ * 181,440 solvable 3x3 boards, so the best next move and the moves remaining
+ * are a table lookup instead of a search.
+ *
+ * A board is indexed by the position of the blank and the Lehmer code rank
+ * of its eight tiles read row by row. The sum of the Lehmer digits is the
+ * number of inversions, and on a 3x3 board only layouts with an even number
+ * of inversions are solvable. Swapping the last two tiles in that order
+ * toggles the last digit, so ranks 2m and 2m + 1 always hold exactly one
+ * solvable layout and rank / 2 is a gap-free index.
+ *
+ * Each distance (at most 31) takes five bits and twelve are packed into a
+ * long, so the whole table is about 118 KB. It is built on first use by a
+ * breadth first search whose levels are scanned in parallel on a fork/join
+ * pool.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class StateTable3x3
+{
+    /* Constant Variables */
+    // the number of squares per row and in total
+    public static final int SIZE = 3;
+    public static final int CELLS = 9;
+
+    // the number of tile orders per blank position and the number of boards
+    private static final int ORDERS = 20160;
+    public static final int STATES = CELLS * ORDERS;
+
+    // the mean distance over every board (21.97), rounded
+    public static final int MEAN_DISTANCE = 22;
+
+    // the packing of five bit distances into longs
+    private static final int BITS = 5;
+    private static final int PER_LONG = 12;
+    private static final long MASK = (1L << BITS) - 1;
+
+    // the distance of a board the search has not reached yet
+    private static final byte UNVISITED = -1;
+
+    // the factorials used by the Lehmer code
+    private static final int[] FACTORIAL = {1, 1, 2, 6, 24, 120, 720, 5040};
+
+    // the number of boards each fork/join task scans
+    private static final int CHUNK = 4096;
+
+    // the index the blank moves to for every index and direction
+    private static final int[] NEIGHBOURS = Board.neighbourTable(SIZE);
+
+    // set once the shared table has been built
+    private static final AtomicBoolean loaded = new AtomicBoolean();
+
+
+    /* Instance/Member Variables */
+    // the packed distances of every board
+    private final long[] packed;
+
+
+    /* StateTable3x3
+     *
+     * Private constructor, the table is shared through get.
+     *
+     * @param packed - the packed distances of every board
+     */
+    private StateTable3x3(long[] packed)
+    {
+        this.packed = packed;
+    }
+
+    /* Holder Class
+     *
+     * Builds the shared table the first time it is used, and only then marks
+     * it as loaded, so a table built on its own never does.
+     */
+    private static final class Holder
+    {
+        static final StateTable3x3 TABLE = build(Runtime.getRuntime().availableProcessors());
+
+        static
+        {
+            loaded.set(true);
+        }
+    }
+
+    /* get
+     *
+     * Returns the shared table, building it on the first call.
+     *
+     * @return the table of every 3x3 board
+     */
+    public static StateTable3x3 get()
+    {
+        return Holder.TABLE;
+    }
+
+    /* isLoaded
+     *
+     * @return whether the shared table has been built yet
+     */
+    public static boolean isLoaded()
+    {
+        return loaded.get();
+    }
+
+    /* distance
+     *
+     * Returns the number of moves left to solve a 3x3 board.
+     *
+     * @param board - a solvable 3x3 board
+     * @return the number of moves in an optimal solution
+     */
+    public int distance(Board board)
+    {
+        checkBoard(board);
+        return distanceAt(index(board.tiles(), board.getBlankIndex()));
+    }
+
+    /* bestMove
+     *
+     * Returns a move that starts an optimal solution of a 3x3 board.
+     *
+     * @param board - a solvable 3x3 board
+     * @return the direction the blank should travel in or Direction.NONE if solved
+     */
+    public int bestMove(Board board)
+    {
+        checkBoard(board);
+        short[] tiles = board.tiles().clone();
+        return bestMove(tiles, board.getBlankIndex(), distanceAt(index(tiles, board.getBlankIndex())));
+    }
+
+    /* solve
+     *
+     * Follows the table from a 3x3 board to the solved board.
+     *
+     * @param board - a 3x3 board
+     * @return the optimal solution
+     */
+    public Solution solve(Board board)
+    {
+        long start = System.nanoTime();
+        checkSize(board);
+        if (!board.isSolvable())
+        {
+            return new Solution(Solution.Status.UNSOLVABLE, new int[0], Direction.NONE, -1, 0,
+                    0, 0, System.nanoTime() - start);
+        }
+
+        // step to a neighbour one move closer until the board is solved
+        short[] tiles = board.tiles().clone();
+        int blank = board.getBlankIndex();
+        int distance = distanceAt(index(tiles, blank));
+        int[] moves = new int[distance];
+        for (int step = 0; step < moves.length; step++)
+        {
+            int direction = bestMove(tiles, blank, distance);
+            int target = NEIGHBOURS[blank * Direction.COUNT + direction];
+            tiles[blank] = tiles[target];
+            tiles[target] = Board.BLANK;
+            blank = target;
+            distance--;
+            moves[step] = direction;
+        }
+
+        // report the first move and the tile it slides
+        int nextIndex = moves.length == 0 ? -1 : NEIGHBOURS[board.getBlankIndex() * Direction.COUNT + moves[0]];
+        return new Solution(Solution.Status.SOLVED, moves, moves.length == 0 ? Direction.NONE : moves[0],
+                nextIndex, nextIndex < 0 ? 0 : board.getTile(nextIndex), moves.length, moves.length,
+                System.nanoTime() - start);
+    }
+
+    /* bestMove
+     *
+     * Helper method that finds the neighbour one move closer to solved.
+     *
+     * @param tiles - the layout, restored before returning
+     * @param blank - the index of the blank
+     * @param distance - the distance of the layout
+     * @return the direction of the move or Direction.NONE if solved
+     */
+    private int bestMove(short[] tiles, int blank, int distance)
+    {
+        if (distance == 0) return Direction.NONE;
+        for (int direction = 0; direction < Direction.COUNT; direction++)
+        {
+            int target = NEIGHBOURS[blank * Direction.COUNT + direction];
+            if (target < 0) continue;
+
+            // make the move, look it up and unmake it
+            tiles[blank] = tiles[target];
+            tiles[target] = Board.BLANK;
+            int next = distanceAt(index(tiles, target));
+            tiles[target] = tiles[blank];
+            tiles[blank] = Board.BLANK;
+            if (next == distance - 1) return direction;
+        }
+        throw new IllegalStateException("No move is closer to solved");
+    }
+
+    /* distanceAt
+     *
+     * Helper method that unpacks the distance stored at an index.
+     *
+     * @param index - the index of the board
+     * @return the distance of the board
+     */
+    private int distanceAt(int index)
+    {
+        return (int) (packed[index / PER_LONG] >>> ((index % PER_LONG) * BITS) & MASK);
+    }
+
+    /* index
+     *
+     * Returns the table index of a solvable layout.
+     *
+     * @param tiles - the tile number at each index
+     * @param blank - the index of the blank
+     * @return the table index
+     */
+    static int index(short[] tiles, int blank)
+    {
+        // rank the tiles in row order with the Lehmer code
+        int rank = 0, position = 0, used = 0;
+        for (int cell = 0; cell < CELLS; cell++)
+        {
+            int tile = tiles[cell];
+            if (tile == Board.BLANK) continue;
+            int digit = tile - 1 - Integer.bitCount(used & ((1 << tile) - 1));
+            used |= 1 << tile;
+            rank += digit * FACTORIAL[7 - position];
+            position++;
+        }
+        return blank * ORDERS + (rank >> 1);
+    }
+
+    /* unindex
+     *
+     * Turns a table index back into the solvable layout it stands for.
+     *
+     * @param index - the table index
+     * @param tiles - the array to fill with the layout
+     * @return the index of the blank
+     */
+    static int unindex(int index, short[] tiles)
+    {
+        int blank = index / ORDERS;
+        int rank = (index % ORDERS) << 1;
+
+        // pick the rank of the pair whose digits add up to an even number
+        int digitSum = 0;
+        for (int position = 0, left = rank; position < 8; position++)
+        {
+            digitSum += left / FACTORIAL[7 - position];
+            left %= FACTORIAL[7 - position];
+        }
+        if (digitSum % 2 != 0) rank++;
+
+        // turn each digit into the smallest unused tile it counts to
+        int used = 0, cell = 0;
+        for (int position = 0; position < 8; position++)
+        {
+            int digit = rank / FACTORIAL[7 - position];
+            rank %= FACTORIAL[7 - position];
+            int tile = 1;
+            while (true)
+            {
+                if ((used & (1 << tile)) == 0)
+                {
+                    if (digit == 0) break;
+                    digit--;
+                }
+                tile++;
+            }
+            used |= 1 << tile;
+            if (cell == blank) cell++;
+            tiles[cell++] = (short) tile;
+        }
+        tiles[blank] = Board.BLANK;
+        return blank;
+    }
+
+    /* build
+     *
+     * Builds the table with a breadth first search from the solved board.
+     * Each level is scanned in parallel, every task writing the next level's
+     * distance into boards it reaches for the first time. Two tasks can only
+     * ever write the same value into a board, and joining the tasks at the
+     * end of every level publishes the writes to the next level.
+     *
+     * @param parallelism - the number of threads to scan with
+     * @return the table
+     */
+    static StateTable3x3 build(int parallelism)
+    {
+        final byte[] distance = new byte[STATES];
+        Arrays.fill(distance, UNVISITED);
+        short[] goal = new short[CELLS];
+        for (int cell = 0; cell < CELLS - 1; cell++) goal[cell] = (short) (cell + 1);
+        distance[index(goal, CELLS - 1)] = 0;
+
+        // scan one level at a time until no new boards are reached
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try
+        {
+            for (int level = 0; ; level++)
+            {
+                LevelTask task = new LevelTask(distance, level, 0, STATES);
+                pool.invoke(task);
+                if (!task.reached) break;
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        // pack the distances five bits at a time
+        long[] packed = new long[(STATES + PER_LONG - 1) / PER_LONG];
+        for (int index = 0; index < STATES; index++)
+        {
+            packed[index / PER_LONG] |= (long) distance[index] << ((index % PER_LONG) * BITS);
+        }
+        return new StateTable3x3(packed);
+    }
+
+    /* checkSize
+     *
+     * Helper method that verifies the board is 3x3.
+     *
+     * @param board - the board to check
+     */
+    private static void checkSize(Board board)
+    {
+        if (board.getSize() != SIZE)
+        {
+            throw new IllegalArgumentException("The state table only covers 3x3 boards: " + board.getSize());
+        }
+    }
+
+    /* checkBoard
+     *
+     * Helper method that verifies the board is a solvable 3x3 board.
+     *
+     * @param board - the board to check
+     */
+    private static void checkBoard(Board board)
+    {
+        checkSize(board);
+        if (!board.isSolvable()) throw new IllegalArgumentException("The board can not be solved");
+    }
+
+    /* LevelTask Class
+     *
+     * Scans a range of the table for boards on the current level and marks
+     * their unvisited neighbours as the next level.
+     */
+    private static final class LevelTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] distance;
+        private final int level;
+        private final int from, to;
+
+        // whether this task (or its subtasks) reached any new board
+        boolean reached;
+
+        LevelTask(byte[] distance, int level, int from, int to)
+        {
+            this.distance = distance;
+            this.level = level;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            // split large ranges in half
+            if (to - from > CHUNK)
+            {
+                int mid = (from + to) >>> 1;
+                LevelTask left = new LevelTask(distance, level, from, mid);
+                LevelTask right = new LevelTask(distance, level, mid, to);
+                invokeAll(left, right);
+                reached = left.reached || right.reached;
+                return;
+            }
+
+            // expand every board of the current level in the range
+            short[] tiles = new short[CELLS];
+            byte next = (byte) (level + 1);
+            for (int index = from; index < to; index++)
+            {
+                if (distance[index] != level) continue;
+                int blank = unindex(index, tiles);
+                for (int direction = 0; direction < Direction.COUNT; direction++)
+                {
+                    int target = NEIGHBOURS[blank * Direction.COUNT + direction];
+                    if (target < 0) continue;
+                    tiles[blank] = tiles[target];
+                    tiles[target] = Board.BLANK;
+                    int neighbour = index(tiles, target);
+                    if (distance[neighbour] == UNVISITED)
+                    {
+                        distance[neighbour] = next;
+                        reached = true;
+                    }
+                    tiles[target] = tiles[blank];
+                    tiles[blank] = Board.BLANK;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.myapplication.engine;
+
+import java.util.Arrays;
+
+/* TranspositionTable Class
+ *
+ * This class is a fixed size hash table from board hashes to int values,
+ * for remembering positions that were already seen. Keys, values, depths
+ * and generations live in parallel primitive arrays, so storing a position
+ * never allocates.
+ *
+ * A key is looked for in a short run of slots after its home slot. When
+ * the run is full, the entry from an older generation or else the one with
+ * the smallest depth is replaced, and only if the new entry is at least as
+ * deep. The depth is whatever the caller wants to keep longest (the search
+ * left below a board, or how far into a game it was reached). Starting a
+ * new generation makes every older entry invisible without clearing the
+ * arrays.
+ *
+ * The table is not thread safe.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class TranspositionTable
+{
+    /* Constant Variables */
+    // the value returned by get when the key is not in the table
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    // the number of slots a key may be stored in after its home slot
+    private static final int PROBES = 4;
+
+    // the key stored in empty slots, real keys of 0 are stored as EMPTY_SUBSTITUTE
+    private static final long EMPTY = 0;
+    private static final long EMPTY_SUBSTITUTE = 0x8000000000000000L;
+
+
+    /* Instance/Member Variables */
+    // the entries of the table
+    private final long[] keys;
+    private final int[] values;
+    private final int[] depths;
+    private final byte[] generations;
+    private final int mask;
+
+    // the current generation and the number of entries stored in it
+    private byte generation;
+    private int count;
+
+
+    /* TranspositionTable
+     *
+     * Constructor for TranspositionTable with room for 2^bits entries.
+     *
+     * @param bits - the log2 of the number of slots, from 1 to 28
+     */
+    public TranspositionTable(int bits)
+    {
+        if (bits < 1 || bits > 28) throw new IllegalArgumentException("Table bits out of range: " + bits);
+        keys = new long[1 << bits];
+        values = new int[keys.length];
+        depths = new int[keys.length];
+        generations = new byte[keys.length];
+        mask = keys.length - 1;
+    }
+
+    /* get
+     *
+     * Looks up the value stored for a key in the current generation.
+     *
+     * @param key - the hash of the position
+     * @return the value or MISSING
+     */
+    public int get(long key)
+    {
+        key = storedKey(key);
+        int slot = home(key);
+        for (int probe = 0; probe < PROBES; probe++, slot = (slot + 1) & mask)
+        {
+            if (keys[slot] == key && generations[slot] == generation) return values[slot];
+            if (keys[slot] == EMPTY) return MISSING;
+        }
+        return MISSING;
+    }
+
+    /* put
+     *
+     * Stores a value for a key, replacing its old value. When every slot
+     * the key may use holds another position, the shallowest of them (or one
+     * from an older generation) makes room, unless it is deeper than the new
+     * entry.
+     *
+     * @param key - the hash of the position
+     * @param value - the value to store
+     * @param depth - how valuable the entry is to keep
+     * @return whether the entry was stored
+     */
+    public boolean put(long key, int value, int depth)
+    {
+        key = storedKey(key);
+        int slot = home(key);
+        int victim = -1;
+        for (int probe = 0; probe < PROBES; probe++, slot = (slot + 1) & mask)
+        {
+            // update the key in place when it is already stored
+            if (keys[slot] == key && generations[slot] == generation)
+            {
+                store(slot, key, value, depth);
+                return true;
+            }
+
+            // prefer a free slot, then the shallowest entry
+            if (isFree(slot))
+            {
+                if (victim < 0 || !isFree(victim)) victim = slot;
+                if (keys[slot] == EMPTY) break;
+            }
+            else if (victim < 0 || (!isFree(victim) && depths[slot] < depths[victim]))
+            {
+                victim = slot;
+            }
+        }
+
+        // replace the shallowest entry unless it is deeper than the new one
+        if (isFree(victim)) count++;
+        else if (depths[victim] > depth) return false;
+        store(victim, key, value, depth);
+        return true;
+    }
+
+    /* nextGeneration
+     *
+     * Forgets every entry in O(1) by starting a new generation. After 256
+     * generations the arrays are cleared so old entries can not reappear.
+     */
+    public void nextGeneration()
+    {
+        generation++;
+        count = 0;
+        if (generation == 0) clear();
+    }
+
+    /* clear
+     *
+     * Removes every entry.
+     */
+    public void clear()
+    {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(generations, (byte) 0);
+        generation = 0;
+        count = 0;
+    }
+
+    /* size
+     *
+     * @return the number of entries stored in the current generation
+     */
+    public int size()
+    {
+        return count;
+    }
+
+    /* capacity
+     *
+     * @return the number of slots in the table
+     */
+    public int capacity()
+    {
+        return keys.length;
+    }
+
+    /* store
+     *
+     * Helper method that writes an entry into a slot.
+     *
+     * @param slot - the slot to write
+     * @param key - the stored key
+     * @param value - the value of the entry
+     * @param depth - the depth of the entry
+     */
+    private void store(int slot, long key, int value, int depth)
+    {
+        keys[slot] = key;
+        values[slot] = value;
+        depths[slot] = depth;
+        generations[slot] = generation;
+    }
+
+    /* isFree
+     *
+     * Helper method that checks whether a slot is empty or from an older generation.
+     *
+     * @param slot - the slot to check
+     * @return whether the slot can be taken without losing a current entry
+     */
+    private boolean isFree(int slot)
+    {
+        return keys[slot] == EMPTY || generations[slot] != generation;
+    }
+
+    /* home
+     *
+     * Helper method that picks the first slot of a key. Zobrist hashes are
+     * random in every bit, so the low bits are used directly.
+     *
+     * @param key - the stored key
+     * @return the home slot
+     */
+    private int home(long key)
+    {
+        return (int) key & mask;
+    }
+
+    /* storedKey
+     *
+     * Helper method that keeps real keys from looking like empty slots.
+     *
+     * @param key - the hash of the position
+     * @return the key to store
+     */
+    private static long storedKey(long key)
+    {
+        return key == EMPTY ? EMPTY_SUBSTITUTE : key;
+    }
+}
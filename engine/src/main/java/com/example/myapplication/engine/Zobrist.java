@@ -0,0 +1,100 @@
+package com.example.myapplication.engine;
+
+/* Zobrist Class
+ *
+ * This class holds the random keys used to hash boards. The hash of a board
+ * is the XOR of one key per numbered tile, chosen by the tile and the index
+ * it is at. The blank is left out because its position follows from the
+ * others, so a move changes the hash by exactly two XORs: the key of the
+ * tile at its old index and the key of the tile at its new index.
+ *
+ * Boards up to 9x9 keep their keys in a table. Larger boards would need
+ * megabytes of keys, so they compute each key from its position in a
+ * SplitMix64 sequence instead, which gives the same values the table would.
+ *
+ * @author Brynn Harrington
+ * @version October 18, 2026
+ *
+ */
+public final class Zobrist
+{
+    /* Constant Variables */
+    // the largest number of squares per row whose keys are kept in a table
+    private static final int MAX_TABLE_SIZE = 9;
+
+    // the seed of the key sequence, fixed so hashes are the same on every run
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+
+    // the keys of every board size that has been used so far
+    private static final Zobrist[] cache = new Zobrist[Board.MAX_SIZE + 1];
+
+
+    /* Instance/Member Variables */
+    // the number of squares on the board
+    private final int cellCount;
+
+    // the key of every tile at every index, or null when computed on demand
+    private final long[] keys;
+
+
+    /* Zobrist
+     *
+     * Private constructor, the keys of each size are shared through forSize.
+     *
+     * @param size - the number of squares per row
+     */
+    private Zobrist(int size)
+    {
+        this.cellCount = size * size;
+        if (size > MAX_TABLE_SIZE)
+        {
+            this.keys = null;
+            return;
+        }
+        this.keys = new long[cellCount * cellCount];
+        for (int slot = 0; slot < keys.length; slot++) keys[slot] = SplitMix64.valueAt(SEED, slot);
+    }
+
+    /* forSize
+     *
+     * Returns the keys for boards of a size, creating them the first time.
+     *
+     * @param size - the number of squares per row
+     * @return the shared keys
+     */
+    public static synchronized Zobrist forSize(int size)
+    {
+        if (cache[size] == null) cache[size] = new Zobrist(size);
+        return cache[size];
+    }
+
+    /* key
+     *
+     * @param tile - the numbered tile
+     * @param index - the index the tile is at
+     * @return the key of the tile at the index
+     */
+    public long key(int tile, int index)
+    {
+        int slot = tile * cellCount + index;
+        return keys != null ? keys[slot] : SplitMix64.valueAt(SEED, slot);
+    }
+
+    /* hash
+     *
+     * Hashes a whole layout. Boards keep their hash up to date as they move,
+     * so this is only needed when a layout is loaded.
+     *
+     * @param tiles - the tile number at each index
+     * @return the hash of the layout
+     */
+    public long hash(short[] tiles)
+    {
+        long hash = 0;
+        for (int index = 0; index < tiles.length; index++)
+        {
+            if (tiles[index] != Board.BLANK) hash ^= key(tiles[index], index);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for shuffling boards into solvable layouts.
+ */
+public class BoardGeneratorTest {
+    @Test
+    public void shuffle_alwaysSolvable() {
+        BoardGenerator generator = new BoardGenerator(42);
+        for (int size = Board.MIN_SIZE; size <= 12; size++) {
+            Board board = new Board(size);
+            for (int i = 0; i < 200; i++) {
+                generator.shuffle(board);
+                assertTrue(board.isSolvable());
+                assertEquals(Board.BLANK, board.getTile(board.getBlankIndex()));
+            }
+        }
+    }
+
+    @Test
+    public void shuffle_sameSeedSameBoard() {
+        Board first = new Board(8);
+        Board second = new Board(8);
+        new BoardGenerator(1234).shuffle(first);
+        new BoardGenerator(1234).shuffle(second);
+        for (int index = 0; index < first.getCellCount(); index++) {
+            assertEquals(first.getTile(index), second.getTile(index));
+        }
+    }
+
+    @Test
+    public void shuffle_uniformOverSolvableLayouts() {
+        // a 2x2 board has 12 solvable layouts, each should come up about equally often
+        BoardGenerator generator = new BoardGenerator(7);
+        Board board = new Board(2);
+        Map<String, Integer> counts = new HashMap<>();
+        int samples = 120000;
+        for (int i = 0; i < samples; i++) {
+            generator.shuffle(board);
+            String key = "" + board.getTile(0) + board.getTile(1) + board.getTile(2) + board.getTile(3);
+            counts.put(key, counts.getOrDefault(key, 0) + 1);
+        }
+        assertEquals(12, counts.size());
+        for (int count : counts.values()) {
+            assertEquals(samples / 12.0, count, samples / 12.0 * 0.05);
+        }
+    }
+
+    @Test
+    public void nextInt_staysInBounds() {
+        SplitMix64 random = new SplitMix64(99);
+        for (int bound = 1; bound < 1000; bound++) {
+            int value = random.nextInt(bound);
+            assertTrue(value >= 0 && value < bound);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the pool of pre-shuffled boards.
+ */
+public class BoardPoolTest {
+    @Test
+    public void take_hitsOnceThePoolIsFull() throws InterruptedException {
+        BoardPool pool = new BoardPool(3, 11);
+        try {
+            pool.focus(4, false);
+            waitForBoards(pool, 4, 3);
+            for (int i = 0; i < 3; i++) {
+                Board board = pool.take(4);
+                assertNotNull(board);
+                assertEquals(4, board.getSize());
+                assertTrue(board.isSolvable());
+            }
+            assertEquals(3, pool.getHits());
+            assertEquals(0, pool.getMisses());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void take_missesForSizesNotKept() throws InterruptedException {
+        BoardPool pool = new BoardPool(2, 12);
+        try {
+            pool.focus(5, true);
+            waitForBoards(pool, 4, 2);
+            waitForBoards(pool, 6, 2);
+            assertNull(pool.take(7));
+            assertNull(pool.take(Board.MAX_SIZE + 1));
+            assertEquals(2, pool.getMisses());
+
+            // moving the focus drops the sizes no longer wanted
+            pool.focus(9, false);
+            assertEquals(0, pool.available(4));
+            assertEquals(0, pool.available(6));
+            waitForBoards(pool, 9, 2);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void recycle_reshufflesFinishedBoards() throws InterruptedException {
+        BoardPool pool = new BoardPool(2, 13);
+        try {
+            // hand back two boards before any size is wanted
+            Set<Board> finished = Collections.newSetFromMap(new IdentityHashMap<>());
+            finished.add(new Board(3));
+            finished.add(new Board(3));
+            for (Board board : finished) pool.recycle(board);
+
+            // the refill thread shuffles them instead of making new ones
+            pool.focus(3, false);
+            waitForBoards(pool, 3, 2);
+            assertTrue(finished.contains(pool.take(3)));
+            assertTrue(finished.contains(pool.take(3)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void setDifficulty_fillsWithBoardsOfTheTier() throws InterruptedException {
+        BoardPool pool = new BoardPool(2, 14);
+        try {
+            pool.setDifficulty(DifficultyGenerator.Tier.EASY);
+            pool.focus(4, false);
+            waitForBoards(pool, 4, 2);
+            for (int i = 0; i < 2; i++) {
+                int estimate = DifficultyGenerator.estimate(pool.take(4));
+                assertTrue(estimate >= DifficultyGenerator.Tier.EASY.minLength(4));
+                assertTrue(estimate <= DifficultyGenerator.Tier.EASY.maxLength(4));
+            }
+            assertEquals(DifficultyGenerator.Tier.EASY, pool.getDifficulty());
+            assertTrue(pool.getGenerator().getAccepted() >= 2);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void waitForBoards(BoardPool pool, int size, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pool.available(size) < count) {
+            assertTrue("Pool did not fill size " + size, System.currentTimeMillis() < deadline);
+            Thread.sleep(1);
+        }
+    }
+}
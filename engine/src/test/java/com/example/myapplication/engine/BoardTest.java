@@ -0,0 +1,167 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the game state of the board.
+ */
+public class BoardTest {
+    @Test
+    public void newBoard_isSolved() {
+        for (int size = Board.MIN_SIZE; size <= 8; size++) {
+            Board board = new Board(size);
+            assertTrue(board.isSolved());
+            assertTrue(board.isSolvable());
+            assertEquals(size * size - 1, board.getBlankIndex());
+        }
+    }
+
+    @Test
+    public void move_slidesNeighbourIntoBlank() {
+        Board board = new Board(4);
+        assertFalse(board.canMove(Direction.DOWN));
+        assertFalse(board.canMove(Direction.RIGHT));
+        assertTrue(board.move(Direction.LEFT));
+        assertEquals(14, board.getBlankIndex());
+        assertEquals(15, board.getTile(15));
+        assertFalse(board.isSolved());
+        assertFalse(board.isTileCorrect(15));
+    }
+
+    @Test
+    public void undo_restoresPreviousLayout() {
+        Board board = new Board(5);
+        int[] moves = {Direction.UP, Direction.LEFT, Direction.UP, Direction.RIGHT, Direction.DOWN};
+        for (int move : moves) assertTrue(board.move(move));
+        for (int i = moves.length - 1; i >= 0; i--) board.undo(moves[i]);
+        assertTrue(board.isSolved());
+    }
+
+    @Test
+    public void moveTile_onlyAcceptsNeighboursOfBlank() {
+        Board board = new Board(3);
+        assertFalse(board.moveTile(0));
+        assertFalse(board.moveTile(8));
+        assertTrue(board.moveTile(5));
+        assertEquals(5, board.getBlankIndex());
+        assertEquals(6, board.getTile(8));
+    }
+
+    @Test
+    public void slideTo_movesTheWholeRunMatchingSingleMoves() {
+        Board board = new Board(5);
+        Board single = new Board(5);
+
+        // slide the top of the last column down into the blank in one go
+        assertEquals(Direction.UP, board.slideDirection(4));
+        assertEquals(4, board.slideTo(4));
+        for (int i = 0; i < 4; i++) single.move(Direction.UP);
+        assertEquals(4, board.getBlankIndex());
+        assertEquals(single.getHash(), board.getHash());
+        assertEquals(single.getMisplacedCount(), board.getMisplacedCount());
+        assertEquals(single.getManhattanDistance(), board.getManhattanDistance());
+        for (int index = 0; index < board.getCellCount(); index++) {
+            assertEquals(single.getTile(index), board.getTile(index));
+        }
+
+        // then the start of the top row across, and back again
+        assertEquals(4, board.slideTo(0));
+        assertEquals(4, board.slideTo(4));
+        assertEquals(single.getHash(), board.getHash());
+        assertTrue(board.isSolvable());
+    }
+
+    @Test
+    public void slideTo_ignoresTilesOutOfLine() {
+        Board board = new Board(4);
+        assertEquals(Direction.NONE, board.slideDirection(0));
+        assertEquals(0, board.slideTo(0));
+        assertEquals(0, board.slideTo(15));
+        assertEquals(0, board.slideTo(-1));
+        assertEquals(0, board.slideTo(16));
+        assertTrue(board.isSolved());
+    }
+
+    @Test
+    public void isSolvable_detectsSwappedTiles() {
+        Board board = new Board(4);
+        int[] layout = {2, 1, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 0};
+        board.setTiles(layout);
+        assertFalse(board.isSolvable());
+
+        board = new Board(3);
+        board.setTiles(new int[] {1, 2, 3, 4, 5, 6, 8, 7, 0});
+        assertFalse(board.isSolvable());
+        board.setTiles(new int[] {1, 2, 3, 4, 5, 6, 7, 0, 8});
+        assertTrue(board.isSolvable());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setTiles_rejectsDuplicates() {
+        new Board(2).setTiles(new int[] {1, 1, 2, 0});
+    }
+
+    @Test
+    public void counters_matchFullRecount() {
+        SplitMix64 random = new SplitMix64(5);
+        for (int size = Board.MIN_SIZE; size <= 9; size++) {
+            Board board = new Board(size);
+            new BoardGenerator(size).shuffle(board);
+            int[] layout = new int[board.getCellCount()];
+            for (int i = 0; i < 2000; i++) {
+                board.move(random.nextInt(Direction.COUNT));
+                board.copyTiles(layout);
+                Board recount = new Board(size);
+                recount.setTiles(layout);
+                assertEquals(recount.getMisplacedCount(), board.getMisplacedCount());
+                assertEquals(recount.getManhattanDistance(), board.getManhattanDistance());
+                assertEquals(board.getMisplacedCount() == 0, board.isSolved());
+            }
+        }
+    }
+
+    @Test
+    public void counters_trackSingleMove() {
+        Board board = new Board(3);
+        board.move(Direction.UP);
+        assertEquals(1, board.getMisplacedCount());
+        assertEquals(1, board.getManhattanDistance());
+        board.move(Direction.LEFT);
+        assertEquals(2, board.getMisplacedCount());
+        assertEquals(2, board.getManhattanDistance());
+        board.undo(Direction.LEFT);
+        board.undo(Direction.UP);
+        assertEquals(0, board.getManhattanDistance());
+        assertTrue(board.isSolved());
+    }
+
+    @Test
+    public void hash_matchesFullRehash() {
+        SplitMix64 random = new SplitMix64(6);
+        for (int size : new int[] {3, 4, 9, 10, 12}) {
+            Board board = new Board(size);
+            new BoardGenerator(size).shuffle(board);
+            int[] layout = new int[board.getCellCount()];
+            for (int i = 0; i < 500; i++) {
+                board.move(random.nextInt(Direction.COUNT));
+                board.copyTiles(layout);
+                Board rehash = new Board(size);
+                rehash.setTiles(layout);
+                assertEquals(rehash.getHash(), board.getHash());
+            }
+        }
+    }
+
+    @Test
+    public void hash_returnsAfterUndo() {
+        Board board = new Board(4);
+        long solved = board.getHash();
+        board.move(Direction.UP);
+        assertNotEquals(solved, board.getHash());
+        assertEquals(board.getHash(), new Board(board).getHash());
+        board.undo(Direction.UP);
+        assertEquals(solved, board.getHash());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for generating boards inside a difficulty band.
+ */
+public class DifficultyGeneratorTest {
+    @Test
+    public void generate_staysInsideEveryTier() {
+        DifficultyGenerator generator = new DifficultyGenerator(2, 21);
+        try {
+            for (int size = 3; size <= 6; size++) {
+                Board board = new Board(size);
+                for (DifficultyGenerator.Tier tier : DifficultyGenerator.Tier.values()) {
+                    assertTrue(generator.generate(board, tier, 2000));
+                    int estimate = DifficultyGenerator.estimate(board);
+                    assertEquals(estimate, generator.getLastEstimate());
+                    assertTrue(estimate >= tier.minLength(size));
+                    assertTrue(estimate <= tier.maxLength(size));
+                    assertTrue(board.isSolvable());
+                }
+            }
+            assertEquals(12, generator.getAccepted());
+            assertTrue(generator.getCandidates() >= 12);
+            assertTrue(generator.getCandidatesPerSecond() > 0);
+        } finally {
+            generator.shutdown();
+        }
+    }
+
+    @Test
+    public void generate_scores3x3BoardsByTheirExactDistance() {
+        DifficultyGenerator generator = new DifficultyGenerator(2, 23);
+        try {
+            Board board = new Board(3);
+            for (int i = 0; i < 20; i++) {
+                assertTrue(generator.generate(board, DifficultyGenerator.Tier.MEDIUM, 2000));
+                int exact = StateTable3x3.get().distance(board);
+                assertEquals(exact, generator.getLastEstimate());
+                assertTrue(exact >= DifficultyGenerator.Tier.MEDIUM.minLength(3));
+                assertTrue(exact <= DifficultyGenerator.Tier.MEDIUM.maxLength(3));
+            }
+        } finally {
+            generator.shutdown();
+        }
+    }
+
+    @Test
+    public void tiers_split3x3ShufflesByTheirExactDistance() {
+        // a uniform shuffle is usually hard, but not so nearly always that the band means nothing
+        BoardGenerator shuffler = new BoardGenerator(31);
+        Board board = new Board(3);
+        int hard = 0;
+        for (int i = 0; i < 1000; i++) {
+            shuffler.shuffle(board);
+            if (StateTable3x3.get().distance(board) >= DifficultyGenerator.Tier.HARD.minLength(3)) hard++;
+        }
+        assertTrue("hard=" + hard, hard > 500 && hard < 900);
+    }
+
+    @Test
+    public void generate_returnsTheClosestBoardWhenTheBudgetRunsOut() {
+        // no 3x3 board needs more than 31 moves, so this band can never be reached
+        DifficultyGenerator generator = new DifficultyGenerator(2, 22);
+        try {
+            Board board = new Board(3);
+            long start = System.nanoTime();
+            assertFalse(generator.generate(board, 100, 200, 50));
+            assertTrue(System.nanoTime() - start < 2000000000L);
+            assertTrue(board.isSolvable());
+            assertTrue(generator.getLastEstimate() < 100);
+            assertEquals(0, generator.getAccepted());
+        } finally {
+            generator.shutdown();
+        }
+    }
+
+    @Test
+    public void tiers_doNotOverlap() {
+        for (int size = Board.MIN_SIZE; size <= 64; size++) {
+            DifficultyGenerator.Tier[] tiers = DifficultyGenerator.Tier.values();
+            for (int i = 1; i < tiers.length; i++) {
+                assertTrue(tiers[i - 1].maxLength(size) < tiers[i].minLength(size));
+            }
+        }
+    }
+}
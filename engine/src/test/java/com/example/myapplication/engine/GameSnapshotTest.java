@@ -0,0 +1,120 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for saving and bringing back games.
+ */
+public class GameSnapshotTest {
+    @Test
+    public void decode_bringsBackEverySize() throws IOException {
+        SplitMix64 random = new SplitMix64(8);
+        for (int size : new int[] {2, 3, 4, 5, 8, 11, 16, 32, 64, Board.MAX_SIZE}) {
+            Board board = new Board(size);
+            MoveLog log = new MoveLog();
+            log.start(board, size * 31L);
+            for (int i = 0; i < 300; i++) {
+                int direction = random.nextInt(Direction.COUNT);
+                if (board.move(direction)) log.record(direction);
+            }
+            log.undo(board);
+
+            MoveLog restoredLog = new MoveLog();
+            Board restored = GameSnapshot.decode(GameSnapshot.encode(board, log), restoredLog);
+            assertSameBoard(board, restored);
+            assertEquals(log.size(), restoredLog.size());
+            assertEquals(log.position(), restoredLog.position());
+            assertFalse(restoredLog.isSeeded());
+            for (int i = 0; i < log.size(); i++) assertEquals(log.get(i), restoredLog.get(i));
+
+            // the restored game carries on exactly as the saved one would
+            assertEquals(log.redo(board), restoredLog.redo(restored));
+            assertEquals(board.getHash(), restored.getHash());
+            assertTrue(restored.isSolvable());
+        }
+    }
+
+    @Test
+    public void write_andReadBackThroughAFile() throws IOException {
+        Board board = new Board(6);
+        MoveLog log = new MoveLog();
+        log.start(board, 77);
+        File file = File.createTempFile("game", ".bin");
+        try {
+            GameSnapshot.write(file, board, log);
+            assertEquals(GameSnapshot.byteSize(board, log), file.length());
+            assertSameBoard(board, GameSnapshot.read(file, new MoveLog()));
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    public void decode_rejectsDamagedSnapshots() {
+        Board board = new Board(4);
+        new BoardGenerator(5).shuffle(board);
+        byte[] bytes = GameSnapshot.encode(board, new MoveLog()).array();
+
+        // a flipped bit in the tiles no longer matches the saved hash
+        byte[] flipped = bytes.clone();
+        flipped[flipped.length - 1] ^= 0x11;
+        assertRejected(flipped);
+
+        // as is a snapshot cut short or a different file entirely
+        assertRejected(Arrays.copyOf(bytes, bytes.length - 4));
+        assertRejected(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22,
+                23, 24, 25, 26, 27, 28, 29, 30, 31, 32});
+    }
+
+    @Test
+    public void decode_resumesA32x32GameInUnderAMillisecond() throws IOException {
+        Board board = new Board(32);
+        MoveLog log = new MoveLog();
+        log.start(board, 32);
+        SplitMix64 random = new SplitMix64(9);
+        for (int i = 0; i < 10000; i++) {
+            int direction = random.nextInt(Direction.COUNT);
+            if (board.move(direction)) log.record(direction);
+        }
+        byte[] bytes = GameSnapshot.encode(board, log).array();
+        assertTrue(bytes.length < 4096);
+
+        // warm up, then keep the best of many timed runs so a busy machine does not fail the test
+        MoveLog restoredLog = new MoveLog();
+        for (int i = 0; i < 2000; i++) GameSnapshot.decode(ByteBuffer.wrap(bytes), restoredLog);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 200; i++) {
+            long start = System.nanoTime();
+            GameSnapshot.decode(ByteBuffer.wrap(bytes), restoredLog);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        assertTrue("resume took " + best + " ns", best < 1000000);
+    }
+
+    private static void assertSameBoard(Board expected, Board actual) {
+        assertEquals(expected.getSize(), actual.getSize());
+        assertEquals(expected.getBlankIndex(), actual.getBlankIndex());
+        assertEquals(expected.getHash(), actual.getHash());
+        assertEquals(expected.getMisplacedCount(), actual.getMisplacedCount());
+        assertEquals(expected.getManhattanDistance(), actual.getManhattanDistance());
+        for (int index = 0; index < expected.getCellCount(); index++) {
+            assertEquals(expected.getTile(index), actual.getTile(index));
+        }
+    }
+
+    private static void assertRejected(byte[] bytes) {
+        try {
+            GameSnapshot.decode(ByteBuffer.wrap(bytes), new MoveLog());
+            fail("Damaged snapshot was accepted");
+        } catch (IOException expected) {
+            // the damage was caught
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the optimal IDA* solver.
+ */
+public class IdaStarSolverTest {
+    @Test
+    public void solve_findsOptimal3x3Solutions() {
+        Map<String, Integer> distances = bfsDistances3x3();
+        BoardGenerator generator = new BoardGenerator(21);
+        IdaStarSolver solver = new IdaStarSolver();
+        Board board = new Board(3);
+        for (int i = 0; i < 50; i++) {
+            generator.shuffle(board);
+            Solution solution = solver.solve(board);
+            assertTrue(solution.isSolved());
+            assertEquals((int) distances.get(key(board)), solution.getLength());
+            assertSolves(board, solution);
+        }
+    }
+
+    @Test
+    public void solve_withTranspositionTableStaysOptimal() {
+        Map<String, Integer> distances = bfsDistances3x3();
+        BoardGenerator generator = new BoardGenerator(23);
+        IdaStarSolver solver = new IdaStarSolver(new ManhattanDistance());
+        solver.setTranspositionTable(new TranspositionTable(10));
+        Board board = new Board(3);
+        for (int i = 0; i < 50; i++) {
+            generator.shuffle(board);
+            Solution solution = solver.solve(board);
+            assertEquals((int) distances.get(key(board)), solution.getLength());
+            assertSolves(board, solution);
+        }
+    }
+
+    @Test
+    public void solve_scrambled4x4() {
+        SplitMix64 random = new SplitMix64(8);
+        IdaStarSolver solver = new IdaStarSolver();
+        for (int i = 0; i < 20; i++) {
+            Board board = new Board(4);
+            for (int move = 0; move < 60; move++) board.move(random.nextInt(Direction.COUNT));
+            Solution solution = solver.solve(board);
+            assertTrue(solution.isSolved());
+            assertTrue(solution.getLength() <= 60);
+            assertSolves(board, solution);
+        }
+    }
+
+    @Test
+    public void solve_reportsNextTile() {
+        Board board = new Board(4);
+        board.move(Direction.LEFT);
+        Solution solution = new IdaStarSolver().solve(board);
+        assertEquals(1, solution.getLength());
+        assertEquals(Direction.RIGHT, solution.getNextDirection());
+        assertEquals(15, solution.getNextTileIndex());
+        assertEquals(15, solution.getNextTile());
+    }
+
+    @Test
+    public void solve_givesUpWithinBudget() {
+        Board board = new Board(5);
+        new BoardGenerator(4).shuffle(board);
+        IdaStarSolver solver = new IdaStarSolver();
+        solver.setNodeLimit(10000);
+        Solution solution = solver.solve(board);
+        assertEquals(Solution.Status.GAVE_UP, solution.getStatus());
+        assertTrue(solution.getNodes() <= 10000);
+        assertTrue(board.canMove(solution.getNextDirection()));
+        assertEquals(board.getTile(solution.getNextTileIndex()), solution.getNextTile());
+    }
+
+    @Test
+    public void solve_rejectsUnsolvableBoard() {
+        Board board = new Board(3);
+        board.setTiles(new int[] {2, 1, 3, 4, 5, 6, 7, 8, 0});
+        assertEquals(Solution.Status.UNSOLVABLE, new IdaStarSolver().solve(board).getStatus());
+    }
+
+    @Test
+    public void heuristic_updateMatchesReset() {
+        SplitMix64 random = new SplitMix64(2);
+        ManhattanLinearConflict incremental = new ManhattanLinearConflict();
+        ManhattanLinearConflict fresh = new ManhattanLinearConflict();
+        Board board = new Board(5);
+        new BoardGenerator(9).shuffle(board);
+        int estimate = incremental.reset(board.tiles(), 5);
+        for (int i = 0; i < 5000; i++) {
+            int from = board.getBlankIndex();
+            if (!board.move(random.nextInt(Direction.COUNT))) continue;
+            int to = from;
+            from = board.getBlankIndex();
+            estimate = incremental.update(board.tiles(), board.getTile(to), from, to);
+            assertEquals(fresh.reset(board.tiles(), 5), estimate);
+            assertTrue(estimate >= board.getManhattanDistance());
+        }
+    }
+
+    static void assertSolves(Board board, Solution solution) {
+        Board copy = new Board(board);
+        for (int step = 0; step < solution.getLength(); step++) assertTrue(copy.move(solution.getMove(step)));
+        assertTrue(copy.isSolved());
+    }
+
+    static String key(Board board) {
+        StringBuilder key = new StringBuilder();
+        for (int index = 0; index < board.getCellCount(); index++) key.append(board.getTile(index));
+        return key.toString();
+    }
+
+    static Map<String, Integer> bfsDistances3x3() {
+        Map<String, Integer> distances = new HashMap<>();
+        ArrayDeque<Board> queue = new ArrayDeque<>();
+        Board goal = new Board(3);
+        distances.put(key(goal), 0);
+        queue.add(goal);
+        while (!queue.isEmpty()) {
+            Board board = queue.poll();
+            int distance = distances.get(key(board));
+            for (int direction = 0; direction < Direction.COUNT; direction++) {
+                Board next = new Board(board);
+                if (next.move(direction) && distances.putIfAbsent(key(next), distance + 1) == null) queue.add(next);
+            }
+        }
+        return distances;
+    }
+}
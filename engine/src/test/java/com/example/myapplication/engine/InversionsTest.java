@@ -0,0 +1,67 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for counting inversions and tracking parity.
+ */
+public class InversionsTest {
+    @Test
+    public void count_matchesQuadraticCount() {
+        SplitMix64 random = new SplitMix64(3);
+        for (int size = Board.MIN_SIZE; size <= 20; size++) {
+            Board board = new Board(size);
+            for (int i = 0; i < 20; i++) {
+                // shuffle without fixing the parity so both kinds of layout are counted
+                int[] layout = new int[board.getCellCount()];
+                for (int index = 0; index < layout.length; index++) layout[index] = index;
+                for (int index = layout.length - 1; index > 0; index--) {
+                    int other = random.nextInt(index + 1);
+                    int tile = layout[index];
+                    layout[index] = layout[other];
+                    layout[other] = tile;
+                }
+                board.setTiles(layout);
+                assertEquals(Inversions.countQuadratic(board.tiles()), Inversions.count(board));
+            }
+        }
+    }
+
+    @Test
+    public void count_ofSolvedBoardIsZero() {
+        assertEquals(0, Inversions.count(new Board(64)));
+    }
+
+    @Test
+    public void isSolvable_trackedAcrossMoves() {
+        SplitMix64 random = new SplitMix64(11);
+        int[] layout = new int[36];
+        for (int trial = 0; trial < 2; trial++) {
+            Board board = new Board(6);
+            new BoardGenerator(trial).shuffle(board);
+            if (trial == 1) {
+                // make the board unsolvable by swapping two numbered tiles
+                board.copyTiles(layout);
+                int first = layout[0] == Board.BLANK ? 2 : 0;
+                int second = layout[1] == Board.BLANK ? 2 : 1;
+                int tile = layout[first];
+                layout[first] = layout[second];
+                layout[second] = tile;
+                board.setTiles(layout);
+            }
+            boolean solvable = trial == 0;
+            for (int i = 0; i < 5000; i++) {
+                board.move(random.nextInt(Direction.COUNT));
+                assertEquals(solvable, board.isSolvable());
+            }
+
+            // a fresh recount of the same layout agrees with the tracked parity
+            board.copyTiles(layout);
+            Board recount = new Board(6);
+            recount.setTiles(layout);
+            assertEquals(solvable, recount.isSolvable());
+        }
+    }
+}
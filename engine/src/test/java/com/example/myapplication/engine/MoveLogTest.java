@@ -0,0 +1,92 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the packed log of moves.
+ */
+public class MoveLogTest {
+    @Test
+    public void record_packsEveryDirection() {
+        MoveLog log = new MoveLog();
+        for (int i = 0; i < 1000; i++) log.record(i * 7 % Direction.COUNT);
+        assertEquals(1000, log.size());
+        for (int i = 0; i < 1000; i++) assertEquals(i * 7 % Direction.COUNT, log.get(i));
+    }
+
+    @Test
+    public void undoAndRedo_walkTheGameBackAndForth() {
+        Board board = new Board(5);
+        MoveLog log = new MoveLog();
+        log.start(board, 99);
+        Board start = new Board(board);
+
+        // make some random moves, remembering the layout after each
+        SplitMix64 random = new SplitMix64(3);
+        long[] hashes = new long[200];
+        for (int i = 0; i < hashes.length; i++) {
+            int direction;
+            do direction = random.nextInt(Direction.COUNT); while (!board.canMove(direction));
+            board.move(direction);
+            log.record(direction);
+            hashes[i] = board.getHash();
+        }
+
+        // undo all the way back to the start, then redo half of it
+        for (int i = hashes.length - 1; i > 0; i--) {
+            assertNotEquals(Direction.NONE, log.undo(board));
+            assertEquals(hashes[i - 1], board.getHash());
+        }
+        log.undo(board);
+        assertEquals(start.getHash(), board.getHash());
+        assertEquals(Direction.NONE, log.undo(board));
+        for (int i = 0; i < 100; i++) log.redo(board);
+        assertEquals(hashes[99], board.getHash());
+        assertTrue(log.canRedo());
+
+        // a new move forgets the undone ones
+        int direction = board.canMove(Direction.UP) ? Direction.UP : Direction.DOWN;
+        board.move(direction);
+        log.record(direction);
+        assertFalse(log.canRedo());
+        assertEquals(101, log.size());
+    }
+
+    @Test
+    public void replayFromSeed_rebuildsTheGame() {
+        Board board = new Board(8);
+        MoveLog log = new MoveLog();
+        log.start(board, 1234);
+        SplitMix64 random = new SplitMix64(4);
+        for (int i = 0; i < 500; i++) {
+            int direction = random.nextInt(Direction.COUNT);
+            if (board.move(direction)) log.record(direction);
+        }
+
+        Board replayed = new Board(8);
+        log.replayFromSeed(replayed);
+        assertEquals(board.getHash(), replayed.getHash());
+        for (int index = 0; index < board.getCellCount(); index++) {
+            assertEquals(board.getTile(index), replayed.getTile(index));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void replayFromSeed_refusesAClearedLog() {
+        MoveLog log = new MoveLog();
+        log.start(new Board(4), 1234);
+        log.clear();
+        assertEquals(0, log.getSeed());
+        log.replayFromSeed(new Board(4));
+    }
+
+    @Test
+    public void record_tenThousandMovesFitInAFewKilobytes() {
+        MoveLog log = new MoveLog();
+        log.record(Direction.LEFT, 10000);
+        assertEquals(10000, log.position());
+        assertTrue(log.getCapacityBytes() <= 4096);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the packed 4x4 board.
+ */
+public class PackedBoard4Test {
+    @Test
+    public void pack_matchesGoal() {
+        assertEquals(PackedBoard4.GOAL, PackedBoard4.pack(new Board(4)));
+        assertTrue(PackedBoard4.isSolved(PackedBoard4.GOAL));
+        assertTrue(PackedBoard4.isSolvable(PackedBoard4.GOAL));
+        assertEquals(15, PackedBoard4.blankIndex(PackedBoard4.GOAL));
+    }
+
+    @Test
+    public void move_matchesBoard() {
+        Board board = new Board(4);
+        long state = PackedBoard4.GOAL;
+        int blank = 15;
+        int[] moves = {Direction.UP, Direction.UP, Direction.LEFT, Direction.DOWN, Direction.LEFT, Direction.UP};
+        for (int move : moves) {
+            assertTrue(PackedBoard4.canMove(blank, move));
+            int target = PackedBoard4.target(blank, move);
+            state = PackedBoard4.move(state, blank, target);
+            blank = target;
+            board.move(move);
+            assertEquals(PackedBoard4.pack(board), state);
+            assertEquals(board.isSolvable(), PackedBoard4.isSolvable(state));
+        }
+
+        // moving back undoes the moves
+        for (int i = moves.length - 1; i >= 0; i--) {
+            int target = PackedBoard4.target(blank, Direction.opposite(moves[i]));
+            state = PackedBoard4.move(state, blank, target);
+            blank = target;
+        }
+        assertTrue(PackedBoard4.isSolved(state));
+    }
+
+    @Test
+    public void delta_tracksMovesOnTheTiles() {
+        Board board = new Board(4);
+        new BoardGenerator(9).shuffle(board);
+        long state = PackedBoard4.pack(board);
+        int[] moves = {Direction.UP, Direction.LEFT, Direction.DOWN, Direction.RIGHT, Direction.UP};
+        for (int move : moves) {
+            if (!board.canMove(move)) continue;
+            int from = PackedBoard4.target(board.getBlankIndex(), move);
+            int to = board.getBlankIndex();
+            state ^= PackedBoard4.delta(board.getTile(from), from, to);
+            board.move(move);
+            assertEquals(PackedBoard4.pack(board), state);
+        }
+    }
+
+    @Test
+    public void unpack_restoresBoard() {
+        Board board = new Board(4);
+        board.move(Direction.LEFT);
+        board.move(Direction.UP);
+        Board copy = new Board(4);
+        PackedBoard4.unpack(PackedBoard4.pack(board), copy);
+        assertEquals(board.getBlankIndex(), copy.getBlankIndex());
+        assertEquals(PackedBoard4.pack(board), PackedBoard4.pack(copy));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the parallel fork/join IDA* solver.
+ */
+public class ParallelIdaStarSolverTest {
+    @Test
+    public void solve_findsOptimal3x3Solutions() {
+        Map<String, Integer> distances = IdaStarSolverTest.bfsDistances3x3();
+        BoardGenerator generator = new BoardGenerator(31);
+        ParallelIdaStarSolver solver = new ParallelIdaStarSolver(new ManhattanLinearConflict(), 3, 12);
+        solver.setSplitDepth(4);
+        Board board = new Board(3);
+        for (int i = 0; i < 50; i++) {
+            generator.shuffle(board);
+            Solution solution = solver.solve(board);
+            assertTrue(solution.isSolved());
+            assertEquals((int) distances.get(IdaStarSolverTest.key(board)), solution.getLength());
+            IdaStarSolverTest.assertSolves(board, solution);
+        }
+        solver.shutdown();
+    }
+
+    @Test
+    public void solve_matchesSequentialOn4x4() {
+        SplitMix64 random = new SplitMix64(17);
+        IdaStarSolver sequential = new IdaStarSolver();
+        for (int threads = 1; threads <= 4; threads *= 2) {
+            ParallelIdaStarSolver solver = new ParallelIdaStarSolver(new ManhattanLinearConflict(), threads);
+            for (int i = 0; i < 10; i++) {
+                Board board = new Board(4);
+                for (int move = 0; move < 80; move++) board.move(random.nextInt(Direction.COUNT));
+                Solution solution = solver.solve(board);
+                assertTrue(solution.isSolved());
+                assertEquals(sequential.solve(board).getLength(), solution.getLength());
+                IdaStarSolverTest.assertSolves(board, solution);
+            }
+            solver.shutdown();
+        }
+    }
+
+    @Test
+    public void solve_shorterThanSplitDepth() {
+        ParallelIdaStarSolver solver = new ParallelIdaStarSolver(new ManhattanDistance(), 2);
+        Board board = new Board(4);
+        assertEquals(0, solver.solve(board).getLength());
+        board.move(Direction.UP);
+        board.move(Direction.LEFT);
+        Solution solution = solver.solve(board);
+        assertEquals(2, solution.getLength());
+        assertEquals(Direction.RIGHT, solution.getNextDirection());
+        solver.shutdown();
+    }
+
+    @Test
+    public void solve_givesUpWithinBudget() {
+        Board board = new Board(5);
+        new BoardGenerator(4).shuffle(board);
+        ParallelIdaStarSolver solver = new ParallelIdaStarSolver(new ManhattanLinearConflict(), 2);
+        solver.setNodeLimit(100000);
+        Solution solution = solver.solve(board);
+        assertEquals(Solution.Status.GAVE_UP, solution.getStatus());
+        assertTrue(board.canMove(solution.getNextDirection()));
+        solver.shutdown();
+    }
+
+    @Test
+    public void solve_rejectsUnsolvableBoard() {
+        Board board = new Board(3);
+        board.setTiles(new int[] {2, 1, 3, 4, 5, 6, 7, 8, 0});
+        ParallelIdaStarSolver solver = new ParallelIdaStarSolver(new ManhattanDistance(), 1);
+        assertEquals(Solution.Status.UNSOLVABLE, solver.solve(board).getStatus());
+        solver.shutdown();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.myapplication.engine;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the additive pattern databases.
+ */
+public class PatternDatabaseTest {
+    private static final int[][] PARTITION_3X3 = {{1, 2, 3, 4}, {5, 6, 7, 8}};
+    private static final int[][] PARTITION_4X4_ROWS = {{1, 2, 3, 4}, {5, 6, 7, 8}, {9, 10, 11, 12}, {13, 14, 15}};
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void rank_roundTrips() {
+        int[] positions = new int[5];
+        int[] decoded = new int[5];
+        for (int rank = 0; rank < 16 * 15 * 14 * 13 * 12; rank += 997) {
+            PatternDatabase.unrank(rank, positions, 5, 16);
+            System.arraycopy(positions, 0, decoded, 0, 5);
+            assertEquals(rank, PatternDatabase.rank(decoded, 5, 16));
+        }
+    }
+
+    @Test
+    public void heuristic_isAdmissibleAndFindsOptimal3x3() {
+        IdaStarSolver reference = new IdaStarSolver();
+        IdaStarSolver patterns = new IdaStarSolver(PatternDatabaseHeuristic.build(3, PARTITION_3X3));
+        PatternDatabaseHeuristic estimate = PatternDatabaseHeuristic.build(3, PARTITION_3X3);
+        BoardGenerator generator = new BoardGenerator(17);
+        Board board = new Board(3);
+        for (int i = 0; i < 100; i++) {
+            generator.shuffle(board);
+            Solution expected = reference.solve(board);
+            Solution actual = patterns.solve(board);
+            assertEquals(expected.getLength(), actual.getLength());
+            assertTrue(estimate.reset(board.tiles(), 3) <= actual.getLength());
+            assertTrue(estimate.reset(board.tiles(), 3) >= board.getManhattanDistance());
+            IdaStarSolverTest.assertSolves(board, actual);
+        }
+    }
+
+    @Test
+    public void writeAndLoad_roundTrips() throws IOException {
+        PatternDatabase built = PatternDatabase.build(3, PARTITION_3X3[0]);
+        File file = folder.newFile("pdb.bin");
+        built.write(file);
+        PatternDatabase loaded = PatternDatabase.load(file);
+        assertArrayEquals(built.getPattern(), loaded.getPattern());
+        assertEquals(built.getEntryCount(), loaded.getEntryCount());
+        int[] positions = new int[4];
+        for (int rank = 0; rank < built.getEntryCount(); rank++) {
+            PatternDatabase.unrank(rank, positions, 4, 9);
+            assertEquals(built.get(positions), loaded.get(positions));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void load_rejectsOtherFiles() throws IOException {
+        File file = folder.newFile("not-a-pdb.bin");
+        java.nio.file.Files.write(file.toPath(), new byte[64]);
+        PatternDatabase.load(file);
+    }
+
+    @Test
+    public void patterns_expandFewerNodesThanManhattan() {
+        IdaStarSolver manhattan = new IdaStarSolver(new ManhattanDistance());
+        IdaStarSolver patterns = new IdaStarSolver(PatternDatabaseHeuristic.build(4, PARTITION_4X4_ROWS));
+        manhattan.setTimeLimitMillis(30000);
+        patterns.setTimeLimitMillis(30000);
+        SplitMix64 random = new SplitMix64(12);
+        long manhattanNodes = 0, patternNodes = 0;
+        for (int i = 0; i < 10; i++) {
+            Board board = new Board(4);
+            for (int move = 0; move < 80; move++) board.move(random.nextInt(Direction.COUNT));
+            Solution slow = manhattan.solve(board);
+            Solution fast = patterns.solve(board);
+            assertEquals(slow.getLength(), fast.getLength());
+            manhattanNodes += slow.getNodes();
+            patternNodes += fast.getNodes();
+        }
+        // these boards take about 3.5 times the nodes with the Manhattan distance
+        assertTrue("manhattan nodes=" + manhattanNodes + " pattern nodes=" + patternNodes,
+                manhattanNodes >= 2 * patternNodes);
+    }
+}
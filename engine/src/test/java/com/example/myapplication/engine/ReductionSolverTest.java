@@ -0,0 +1,54 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the streaming reduction solver.
+ */
+public class ReductionSolverTest {
+    @Test
+    public void solve_randomBoardsOfEverySize() {
+        BoardGenerator generator = new BoardGenerator(12);
+        ReductionSolver solver = new ReductionSolver();
+        for (int size = 2; size <= 12; size++) {
+            Board board = new Board(size);
+            for (int i = 0; i < 40; i++) {
+                generator.shuffle(board);
+                Solution solution = solver.solve(board);
+                assertTrue(solution.isSolved());
+                assertEquals(solver.getMoveCount(), solution.getLength());
+                IdaStarSolverTest.assertSolves(board, solution);
+            }
+        }
+    }
+
+    @Test
+    public void solve_streamsMovesAsTheyAreFound() {
+        Board board = new Board(50);
+        new BoardGenerator(3).shuffle(board);
+        final Board copy = new Board(board);
+        long moves = new ReductionSolver().solve(board, direction -> copy.move(direction));
+        assertTrue(moves > 0);
+        assertTrue(copy.isSolved());
+    }
+
+    @Test
+    public void solve_stopsWhenTheSinkAsks() {
+        Board board = new Board(20);
+        new BoardGenerator(5).shuffle(board);
+        ReductionSolver solver = new ReductionSolver();
+        assertEquals(1, solver.solve(board, direction -> false));
+        assertEquals(1, solver.getMoveCount());
+    }
+
+    @Test
+    public void solve_solvedAndUnsolvableBoards() {
+        ReductionSolver solver = new ReductionSolver();
+        assertEquals(0, solver.solve(new Board(7)).getLength());
+        Board board = new Board(3);
+        board.setTiles(new int[] {2, 1, 3, 4, 5, 6, 7, 8, 0});
+        assertEquals(Solution.Status.UNSOLVABLE, solver.solve(board).getStatus());
+    }
+}
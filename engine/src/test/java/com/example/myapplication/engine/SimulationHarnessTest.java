@@ -0,0 +1,56 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests that drive every board size through random moves and check its invariants.
+ */
+public class SimulationHarnessTest {
+    @Test
+    public void simulate_keepsEveryInvariantOnEverySize() {
+        // a scaled down run of the simulate task, recounting far more often
+        for (int size = Board.MIN_SIZE; size <= 64; size++) {
+            SimulationHarness harness = new SimulationHarness(SplitMix64.valueAt(23, size), 64);
+            Board board = new Board(size);
+            harness.simulate(board, 20000);
+            assertEquals(20000, harness.getMoves());
+            assertTrue(harness.getChecks() > 20000 / 64);
+            assertTrue(harness.getMovesPerSecond() > 0);
+            assertTrue(board.isSolvable());
+        }
+    }
+
+    @Test
+    public void simulate_continuesFromAShuffledBoard() {
+        Board board = new Board(7);
+        new BoardGenerator(24).shuffle(board);
+        SimulationHarness harness = new SimulationHarness(24, 1);
+        harness.simulate(board, 5000);
+        assertEquals(5001, harness.getChecks());
+        assertTrue(harness.measureMoves(board, 5000) > 0);
+        harness.verify(board);
+    }
+
+    @Test
+    public void verify_catchesCountersThatDisagreeWithTheTiles() {
+        Board board = new Board(5);
+        SimulationHarness harness = new SimulationHarness(25, 8);
+        harness.simulate(board, 100);
+
+        // swap two tiles behind the board's back so its counters go stale
+        short[] tiles = board.tiles();
+        int first = board.getBlankIndex() == 0 ? 1 : 0;
+        int second = board.getBlankIndex() == 24 ? 23 : 24;
+        short tile = tiles[first];
+        tiles[first] = tiles[second];
+        tiles[second] = tile;
+        try {
+            harness.verify(board);
+            fail("stale counters were not caught");
+        } catch (IllegalStateException expected) {
+            assertTrue(expected.getMessage().startsWith("5x5 board"));
+        }
+    }
+}
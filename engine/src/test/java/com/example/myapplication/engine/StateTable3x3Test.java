@@ -0,0 +1,80 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the complete 3x3 state table.
+ */
+public class StateTable3x3Test {
+    @Test
+    public void index_roundTripsEverySolvableLayout() {
+        short[] tiles = new short[StateTable3x3.CELLS];
+        Board board = new Board(3);
+        for (int index = 0; index < StateTable3x3.STATES; index++) {
+            int blank = StateTable3x3.unindex(index, tiles);
+            assertEquals(Board.BLANK, tiles[blank]);
+            assertEquals(index, StateTable3x3.index(tiles, blank));
+            if (index % 997 == 0) {
+                int[] layout = new int[tiles.length];
+                for (int cell = 0; cell < tiles.length; cell++) layout[cell] = tiles[cell];
+                board.setTiles(layout);
+                assertTrue(board.isSolvable());
+            }
+        }
+    }
+
+    @Test
+    public void distance_matchesBreadthFirstSearch() {
+        Map<String, Integer> distances = IdaStarSolverTest.bfsDistances3x3();
+        assertEquals(StateTable3x3.STATES, distances.size());
+        boolean shared = StateTable3x3.isLoaded();
+        StateTable3x3 table = StateTable3x3.build(2);
+        assertEquals(shared, StateTable3x3.isLoaded());
+        short[] tiles = new short[StateTable3x3.CELLS];
+        int[] layout = new int[StateTable3x3.CELLS];
+        Board board = new Board(3);
+        long total = 0;
+        for (int index = 0; index < StateTable3x3.STATES; index++) {
+            StateTable3x3.unindex(index, tiles);
+            for (int cell = 0; cell < tiles.length; cell++) layout[cell] = tiles[cell];
+            board.setTiles(layout);
+            assertEquals((int) distances.get(IdaStarSolverTest.key(board)), table.distance(board));
+            total += table.distance(board);
+        }
+        assertEquals(StateTable3x3.MEAN_DISTANCE, Math.round((double) total / StateTable3x3.STATES));
+    }
+
+    @Test
+    public void solve_followsOptimalMoves() {
+        StateTable3x3 table = StateTable3x3.get();
+        assertTrue(StateTable3x3.isLoaded());
+        BoardGenerator generator = new BoardGenerator(7);
+        IdaStarSolver solver = new IdaStarSolver();
+        Board board = new Board(3);
+        for (int i = 0; i < 50; i++) {
+            generator.shuffle(board);
+            Solution solution = table.solve(board);
+            assertTrue(solution.isSolved());
+            assertEquals(table.distance(board), solution.getLength());
+            assertEquals(solver.solve(board).getLength(), solution.getLength());
+            assertEquals(solution.getMove(0), table.bestMove(board));
+            assertEquals(board.getTile(solution.getNextTileIndex()), solution.getNextTile());
+            IdaStarSolverTest.assertSolves(board, solution);
+        }
+    }
+
+    @Test
+    public void solve_solvedAndUnsolvableBoards() {
+        StateTable3x3 table = StateTable3x3.get();
+        Board board = new Board(3);
+        assertEquals(0, table.distance(board));
+        assertEquals(Direction.NONE, table.bestMove(board));
+        assertEquals(0, table.solve(board).getLength());
+        board.setTiles(new int[] {2, 1, 3, 4, 5, 6, 7, 8, 0});
+        assertEquals(Solution.Status.UNSOLVABLE, table.solve(board).getStatus());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.myapplication.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the fixed size transposition table.
+ */
+public class TranspositionTableTest {
+    @Test
+    public void put_thenGet() {
+        TranspositionTable table = new TranspositionTable(8);
+        assertEquals(TranspositionTable.MISSING, table.get(42));
+        assertTrue(table.put(42, 7, 1));
+        assertTrue(table.put(0, 3, 1));
+        assertEquals(7, table.get(42));
+        assertEquals(3, table.get(0));
+        assertTrue(table.put(42, 9, 1));
+        assertEquals(9, table.get(42));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    public void nextGeneration_hidesOldEntries() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.put(5, 1, 10);
+        table.nextGeneration();
+        assertEquals(TranspositionTable.MISSING, table.get(5));
+        assertEquals(0, table.size());
+        // entries from older generations give way even to shallow ones
+        for (long key = 0; key < 16; key++) assertTrue(table.put(key << 4 | 5, 2, 0));
+        for (int i = 0; i < 300; i++) table.nextGeneration();
+        assertEquals(TranspositionTable.MISSING, table.get(5 << 4 | 5));
+    }
+
+    @Test
+    public void put_evictsShallowestEntry() {
+        TranspositionTable table = new TranspositionTable(4);
+        // these keys all share home slot 3
+        for (int i = 0; i < 4; i++) assertTrue(table.put((long) i << 8 | 3, i, 10 + i));
+        assertFalse(table.put(4L << 8 | 3, 4, 5));
+        assertEquals(TranspositionTable.MISSING, table.get(4L << 8 | 3));
+        assertTrue(table.put(5L << 8 | 3, 5, 12));
+        assertEquals(TranspositionTable.MISSING, table.get(3));
+        assertEquals(5, table.get(5L << 8 | 3));
+        assertEquals(3, table.get(3L << 8 | 3));
+    }
+}